@@ -0,0 +1,276 @@
+/*
+ * HandlerColdStartBenchmark
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.CreateTableRequest;
+import com.amazonaws.services.dynamodbv2.model.CreateTableResult;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableRequest;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableResult;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutItemResult;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ResourceInUseException;
+import com.amazonaws.services.dynamodbv2.model.TableDescription;
+import com.amazonaws.services.dynamodbv2.model.TableStatus;
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.capstone.benchmarks.SyntheticStringData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time to the first write of an ingestion invocation, against an in-memory DynamoDB stand-in that charges a fixed
+ * latency per call, so round trips the handler makes before writing show up in the score.
+ *
+ *   coldInvocation  a new Handler and its first invocation, in a fresh JVM per fork, as in a new Lambda container
+ *   warmInvocation  further invocations of the same Handler, as in a warm container
+ *   clientCreation  building a DynamoDB client, which a handler that creates its client per invocation pays each time
+ *
+ * The network is small enough to be written in one round of batches, so an invocation takes little longer than its
+ * first write; the tear down also prints the time to the first write and the calls made before it. The input is parsed
+ * with an explicit parserMode so runs do not depend on the network file cache in /tmp.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class HandlerColdStartBenchmark {
+    @Param({"100"})
+    int proteins;
+
+    @Param({"5"})
+    int latencyMillis;
+
+    private Path linksFile;
+    private LocalDynamoDb ddb;
+    private Handler handler;
+    private Map<String, String> event;
+    private long invocationStartNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        linksFile = Files.createTempFile("cold-start", ".txt");
+        Files.write(linksFile, SyntheticStringData.linksText(proteins, 20, 42).getBytes(StandardCharsets.UTF_8));
+        ddb = new LocalDynamoDb(latencyMillis);
+        handler = new Handler(ddb, followUp -> { });
+        event = new HashMap<>();
+        event.put("interactionDataUrl", linksFile.toUri().toString());
+        event.put("datasetId", "cold-start");
+        event.put("parserMode", "PIPELINED");
+    }
+
+    @Setup(Level.Invocation)
+    public void resetCalls() {
+        ddb.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printFirstWrite() {
+        if (ddb.firstWriteNanos.get() == 0) {
+            return;
+        }
+        System.out.println("\nTime to first write: "
+                + TimeUnit.NANOSECONDS.toMicros(ddb.firstWriteNanos.get() - invocationStartNanos) / 1000.0
+                + " ms, " + ddb.callsBeforeFirstWrite.get() + " DynamoDB calls before it");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(linksFile);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public String coldInvocation() {
+        invocationStartNanos = System.nanoTime();
+        return new Handler(ddb, followUp -> { }).handleRequest(event, new BenchmarkContext());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Fork(1)
+    public String warmInvocation() {
+        invocationStartNanos = System.nanoTime();
+        return handler.handleRequest(event, new BenchmarkContext());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public Object clientCreation() {
+        // Building the client makes no request, so no DynamoDB Local needs to be listening.
+        return DynamodbHelper.createClient("http://localhost:8000");
+    }
+
+    /**
+     * Table that already exists, as for every invocation but the very first against an account, and holds no items:
+     * the Query a full write starts with, to find items of an earlier write to delete, comes back empty.
+     */
+    static class LocalDynamoDb extends AbstractAmazonDynamoDB {
+        private final long latencyMillis;
+        final AtomicLong firstWriteNanos = new AtomicLong();
+        final AtomicInteger callsBeforeFirstWrite = new AtomicInteger();
+
+        LocalDynamoDb(long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        void reset() {
+            firstWriteNanos.set(0);
+            callsBeforeFirstWrite.set(0);
+        }
+
+        private void call(boolean write) {
+            if (firstWriteNanos.get() == 0) {
+                if (write) {
+                    firstWriteNanos.compareAndSet(0, System.nanoTime());
+                } else {
+                    callsBeforeFirstWrite.incrementAndGet();
+                }
+            }
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public CreateTableResult createTable(CreateTableRequest request) {
+            call(false);
+            throw new ResourceInUseException("Table already exists: " + request.getTableName());
+        }
+
+        @Override
+        public DescribeTableResult describeTable(DescribeTableRequest request) {
+            call(false);
+            return new DescribeTableResult().withTable(new TableDescription()
+                    .withTableName(request.getTableName())
+                    .withTableStatus(TableStatus.ACTIVE));
+        }
+
+        @Override
+        public QueryResult query(QueryRequest request) {
+            call(false);
+            return new QueryResult().withItems(Collections.emptyList()).withCount(0);
+        }
+
+        @Override
+        public PutItemResult putItem(PutItemRequest request) {
+            call(true);
+            return new PutItemResult();
+        }
+
+        @Override
+        public BatchWriteItemResult batchWriteItem(BatchWriteItemRequest request) {
+            call(true);
+            return new BatchWriteItemResult().withUnprocessedItems(Collections.emptyMap());
+        }
+    }
+
+    private static class BenchmarkContext implements Context {
+        private static final LambdaLogger DISCARDING_LOGGER = new LambdaLogger() {
+            @Override
+            public void log(String message) {
+            }
+
+            @Override
+            public void log(byte[] message) {
+            }
+        };
+
+        @Override
+        public String getAwsRequestId() {
+            return "benchmark";
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return "benchmark";
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return "benchmark";
+        }
+
+        @Override
+        public String getFunctionName() {
+            return "benchmark";
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return "$LATEST";
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return "benchmark";
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            return (int) (Runtime.getRuntime().maxMemory() >> 20);
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            return DISCARDING_LOGGER;
+        }
+    }
+}
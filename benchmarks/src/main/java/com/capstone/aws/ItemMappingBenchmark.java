@@ -0,0 +1,81 @@
+/*
+ * ItemMappingBenchmark
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.capstone.benchmarks.SyntheticStringData;
+import com.capstone.ppinetwork.CompactPpiNetwork;
+import com.capstone.ppinetwork.LinksFileTokenizer;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.ProteinIdDictionary;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/** DynamodbHelper's item mapping: PpiNetworkNode to DynamoDB items and back, for every node of a network. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemMappingBenchmark {
+    private static final String DATASET_ID = "benchmark";
+
+    @Param({"10000"})
+    int proteins;
+
+    private List<PpiNetworkNode> nodes;
+    private PpiNodeItemCodec codec;
+    private List<List<Map<String, AttributeValue>>> items;
+
+    @Setup
+    public void setUp() throws IOException {
+        CompactPpiNetwork.Builder builder = new CompactPpiNetwork.Builder(new ProteinIdDictionary());
+        byte[] links = SyntheticStringData.linksText(proteins, 20, 42).getBytes(StandardCharsets.UTF_8);
+        new LinksFileTokenizer(builder.getDictionary()).tokenize(new ByteArrayInputStream(links), builder);
+        nodes = new ArrayList<>(builder.build().toNodes());
+        codec = PpiNodeItemCodec.forNodes(nodes);
+        items = new ArrayList<>(nodes.size());
+        for (PpiNetworkNode node : nodes) {
+            items.add(codec.toItems(node, DATASET_ID));
+        }
+    }
+
+    @Benchmark
+    public void toItems(Blackhole blackhole) {
+        for (PpiNetworkNode node : nodes) {
+            blackhole.consume(codec.toItems(node, DATASET_ID));
+        }
+    }
+
+    @Benchmark
+    public void fromItems(Blackhole blackhole) {
+        for (List<Map<String, AttributeValue>> nodeItems : items) {
+            blackhole.consume(codec.fromItems(nodeItems.get(0), nodeItems.subList(1, nodeItems.size())));
+        }
+    }
+}
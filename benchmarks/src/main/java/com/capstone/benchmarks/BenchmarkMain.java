@@ -0,0 +1,37 @@
+/*
+ * BenchmarkMain
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point of benchmarks.jar. Runs the selected benchmarks with the gc profiler always attached, so every run
+ * reports the allocation rate (gc.alloc.rate.norm, bytes per operation) next to throughput. Accepts the regular JMH
+ * command line, e.g. "ParserBenchmark -p proteins=10000".
+ */
+public class BenchmarkMain {
+    public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SyntheticStringData
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Small, deterministic STRING DB-format inputs held in memory, so benchmarks measure parsing rather than downloads or
+ * disk. Interactions are symmetric and grouped by protein1, like the real protein.links files.
+ */
+public class SyntheticStringData {
+    private static final String ORGANISM = "1280";
+
+    private SyntheticStringData() {
+    }
+
+    public static String proteinId(int protein) {
+        return ORGANISM + ".SYN" + String.format("%07d", protein);
+    }
+
+    public static String linksText(int proteins, int averageDegree, long seed) {
+        Random random = new Random(seed);
+        List<List<int[]>> neighbors = new ArrayList<>(proteins);
+        for (int protein = 0; protein < proteins; protein++) {
+            neighbors.add(new ArrayList<>());
+        }
+        Set<Long> pairs = new HashSet<>();
+        long edges = (long) proteins * averageDegree / 2;
+        while (pairs.size() < edges) {
+            int a = random.nextInt(proteins);
+            int b = random.nextInt(proteins);
+            if (a == b || !pairs.add((long) Math.min(a, b) * proteins + Math.max(a, b))) {
+                continue;
+            }
+            int score = 150 + (int) (849 * Math.pow(random.nextDouble(), 2)); // Skewed toward low confidence.
+            neighbors.get(a).add(new int[] {b, score});
+            neighbors.get(b).add(new int[] {a, score});
+        }
+
+        StringBuilder text = new StringBuilder("protein1 protein2 combined_score\n");
+        for (int protein = 0; protein < proteins; protein++) {
+            for (int[] neighbor : neighbors.get(protein)) {
+                text.append(proteinId(protein)).append(' ')
+                        .append(proteinId(neighbor[0])).append(' ')
+                        .append(neighbor[1]).append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    public static String infoText(int proteins, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder("#string_protein_id\tpreferred_name\tprotein_size\tannotation\n");
+        for (int protein = 0; protein < proteins; protein++) {
+            text.append(proteinId(protein)).append('\t')
+                    .append("SYN").append(protein).append('\t')
+                    .append(50 + random.nextInt(1500)).append('\t')
+                    .append("Synthetic protein ").append(protein).append("; annotation not available\n");
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * EncodedExportBenchmark
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.local;
+
+import com.capstone.benchmarks.SyntheticStringData;
+import com.capstone.ppinetwork.CompactPpiNetwork;
+import com.capstone.ppinetwork.LinksFileTokenizer;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.ProteinIdDictionary;
+import com.capstone.ppinetwork.encoding.EncodedNodeFile;
+import com.capstone.ppinetwork.encoding.NeighborListEncoding;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compact JSON export against the EncodedNodeFile format, both ways: writing a whole network to a discarding stream,
+ * and reading an export back. Setup prints the size of each export, the other half of the comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodedExportBenchmark {
+    @Param({"10000"})
+    int proteins;
+
+    private CompactPpiNetwork network;
+    private byte[] jsonExport;
+    private byte[] encodedExport;
+
+    @Setup
+    public void setUp() throws IOException {
+        CompactPpiNetwork.Builder builder = new CompactPpiNetwork.Builder(new ProteinIdDictionary());
+        byte[] links = SyntheticStringData.linksText(proteins, 20, 42).getBytes(StandardCharsets.UTF_8);
+        new LinksFileTokenizer(builder.getDictionary()).tokenize(new ByteArrayInputStream(links), builder);
+        network = builder.build();
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(json, StandardCharsets.UTF_8)) {
+            new NetworkJsonExporter.Builder().build().export(network.toNodes(), writer);
+        }
+        jsonExport = json.toByteArray();
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        EncodedNodeFile.write(network, encoded, NeighborListEncoding.DEFAULT_SCORE_PRECISION);
+        encodedExport = encoded.toByteArray();
+        System.out.println("\nExport sizes: JSON " + jsonExport.length + " bytes, encoded " + encodedExport.length
+                + " bytes");
+    }
+
+    @Benchmark
+    public long writeJson() throws IOException {
+        return new NetworkJsonExporter.Builder().build().export(network.toNodes(), Writer.nullWriter());
+    }
+
+    @Benchmark
+    public long writeEncoded() throws IOException {
+        return EncodedNodeFile.write(
+                network, OutputStream.nullOutputStream(), NeighborListEncoding.DEFAULT_SCORE_PRECISION);
+    }
+
+    @Benchmark
+    public long writeEncodedNodes() throws IOException {
+        return EncodedNodeFile.write(
+                network.toNodes(), OutputStream.nullOutputStream(), NeighborListEncoding.DEFAULT_SCORE_PRECISION);
+    }
+
+    @Benchmark
+    public JsonElement readJson() {
+        // Only parses the JSON tree; building nodes from it would cost more on top.
+        return JsonParser.parseReader(
+                new InputStreamReader(new ByteArrayInputStream(jsonExport), StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public List<PpiNetworkNode> readEncoded() {
+        return EncodedNodeFile.decode(encodedExport);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * GsonExportBenchmark
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.local;
+
+import com.capstone.benchmarks.SyntheticStringData;
+import com.capstone.ppinetwork.CompactPpiNetwork;
+import com.capstone.ppinetwork.LinksFileTokenizer;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.ProteinIdDictionary;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON export of a whole network to a discarding Writer: the original pretty-printed Gson.toJson of a materialized
+ * list against the streaming NetworkJsonExporter over the lazy CompactPpiNetwork node list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GsonExportBenchmark {
+    @Param({"10000"})
+    int proteins;
+
+    private final Gson prettyGson = new GsonBuilder().setPrettyPrinting().serializeNulls().create();
+    private CompactPpiNetwork network;
+    private List<PpiNetworkNode> materializedNodes;
+
+    @Setup
+    public void setUp() throws IOException {
+        CompactPpiNetwork.Builder builder = new CompactPpiNetwork.Builder(new ProteinIdDictionary());
+        byte[] links = SyntheticStringData.linksText(proteins, 20, 42).getBytes(StandardCharsets.UTF_8);
+        new LinksFileTokenizer(builder.getDictionary()).tokenize(new ByteArrayInputStream(links), builder);
+        network = builder.build();
+        materializedNodes = new ArrayList<>(network.toNodes());
+    }
+
+    @Benchmark
+    public void gsonPrettyList() {
+        prettyGson.toJson(materializedNodes, Writer.nullWriter());
+    }
+
+    @Benchmark
+    public long streamingCompact() throws IOException {
+        return new NetworkJsonExporter.Builder().build().export(network.toNodes(), Writer.nullWriter());
+    }
+
+    @Benchmark
+    public long streamingNdjson() throws IOException {
+        return new NetworkJsonExporter.Builder()
+                .setFormat(NetworkJsonExporter.Format.NDJSON)
+                .build()
+                .export(network.toNodes(), Writer.nullWriter());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * NodeBuilderBenchmark
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import com.capstone.benchmarks.SyntheticStringData;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** PpiNetworkNode.toBuilder().build() round trips over every node of a network. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NodeBuilderBenchmark {
+    @Param({"10000"})
+    int proteins;
+
+    private List<PpiNetworkNode> nodes;
+
+    @Setup
+    public void setUp() throws IOException {
+        PpiNetworkParser parser = new PpiNetworkParser();
+        nodes = PpiNetworkParser.consolidate(
+                parser.parseNetworkData(
+                        new StringReader(SyntheticStringData.linksText(proteins, 20, 42)), ParseOptions.NONE),
+                parser.parseAccessoryData(new StringReader(SyntheticStringData.infoText(proteins, 42))));
+    }
+
+    @Benchmark
+    public void toBuilderBuild(Blackhole blackhole) {
+        for (PpiNetworkNode node : nodes) {
+            blackhole.consume(node.toBuilder().build());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * ParserBenchmark
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import com.capstone.benchmarks.SyntheticStringData;
+import com.capstone.ppinetwork.PpiNetworkNode.Neighbor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing and consolidation of in-memory STRING DB files: the opencsv interaction and accessory parsers, the byte
+ * tokenizer feeding a CompactPpiNetwork, and the parallelStream consolidation at the end of parseProteinData.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+    @Param({"1000", "10000"})
+    int proteins;
+
+    @Param({"20"})
+    int averageDegree;
+
+    private final PpiNetworkParser parser = new PpiNetworkParser();
+    private String linksText;
+    private byte[] linksBytes;
+    private String infoText;
+    private Map<String, List<Neighbor>> networkData;
+    private Map<String, PpiNetworkNode.Builder> accessoryData;
+
+    @Setup
+    public void setUp() throws IOException {
+        linksText = SyntheticStringData.linksText(proteins, averageDegree, 42);
+        linksBytes = linksText.getBytes(StandardCharsets.UTF_8);
+        infoText = SyntheticStringData.infoText(proteins, 42);
+        networkData = parser.parseNetworkData(new StringReader(linksText), ParseOptions.NONE);
+        accessoryData = parser.parseAccessoryData(new StringReader(infoText));
+    }
+
+    @Benchmark
+    public Map<String, List<Neighbor>> parseNetworkData() throws IOException {
+        return parser.parseNetworkData(new StringReader(linksText), ParseOptions.NONE);
+    }
+
+    @Benchmark
+    public Map<String, PpiNetworkNode.Builder> parseAccessoryData() throws IOException {
+        return parser.parseAccessoryData(new StringReader(infoText));
+    }
+
+    @Benchmark
+    public CompactPpiNetwork tokenizeCompactNetwork() throws IOException {
+        CompactPpiNetwork.Builder builder = new CompactPpiNetwork.Builder(new ProteinIdDictionary());
+        new LinksFileTokenizer(builder.getDictionary()).tokenize(new ByteArrayInputStream(linksBytes), builder);
+        return builder.build();
+    }
+
+    @Benchmark
+    public List<PpiNetworkNode> consolidate() {
+        return PpiNetworkParser.consolidate(networkData, accessoryData);
+    }
+}
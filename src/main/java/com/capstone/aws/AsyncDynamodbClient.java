@@ -0,0 +1,281 @@
+/*
+ * AsyncDynamodbClient
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableRequest;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutItemResult;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.capstone.aws.DynamodbBatchWriter.WriteSummary;
+import com.capstone.metrics.MetricUnit;
+import com.capstone.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * CompletableFuture-returning DynamoDB operations, so that one instance can keep many requests in flight without a
+ * caller thread blocked on each of them.
+ *
+ * The version 1 SDK has no non-blocking transport: its AmazonDynamoDBAsync client runs each blocking call on an
+ * executor. This class does the same over any AmazonDynamoDB client, with two differences. On a Java 21 runtime the
+ * executor is virtual-thread-per-task, so a blocked call costs a few kilobytes instead of a platform thread; on older
+ * runtimes it falls back to a cached pool of platform threads. And a semaphore bounds the calls in flight, which also
+ * bounds the threads that pool grows to:
+ * once the limit is reached, the next call blocks the caller until one completes, which is the back-pressure that
+ * keeps a fast producer from queueing unbounded work. Pair it with a client whose connection pool is at least as
+ * large as the limit (see DynamodbHelper.createClient), or calls queue on connections instead.
+ */
+public class AsyncDynamodbClient implements AutoCloseable {
+    public static final int DEFAULT_MAX_IN_FLIGHT = 256;
+    private static final String TIMER_PREFIX = "dynamodb.async.";
+
+    private final AmazonDynamoDB ddbClient;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final Metrics metrics;
+
+    public AsyncDynamodbClient(AmazonDynamoDB ddbClient, int maxInFlight, Metrics metrics) {
+        /** Runs calls on virtual threads when the runtime has them, otherwise on platform threads. */
+        this(ddbClient, defaultExecutor(), true, maxInFlight, metrics);
+    }
+
+    public AsyncDynamodbClient(AmazonDynamoDB ddbClient, ExecutorService executor, int maxInFlight, Metrics metrics) {
+        /**
+         * Runs calls on the given executor, which stays open when this client is closed. Retries wait there for a
+         * free slot under the in-flight limit, so it must not be a small fixed pool (see defaultExecutor).
+         */
+        this(ddbClient, executor, false, maxInFlight, metrics);
+    }
+
+    private AsyncDynamodbClient(AmazonDynamoDB ddbClient, ExecutorService executor, boolean ownsExecutor,
+                                int maxInFlight, Metrics metrics) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("In-flight limit must be at least 1");
+        }
+        this.ddbClient = ddbClient;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.maxInFlight = maxInFlight;
+        this.metrics = metrics;
+    }
+
+    public static ExecutorService defaultExecutor() {
+        /**
+         * Executors.newVirtualThreadPerTaskExecutor() on Java 21 and later, found reflectively so that the build keeps
+         * targeting Java 11; a cached pool of daemon platform threads otherwise. The pool is deliberately unbounded: a
+         * continuation that issues the next call blocks its thread until a permit frees up, and with a fixed pool
+         * those blocked threads could starve the queued calls that hold the permits.
+         */
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "dynamodb-async");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public static boolean virtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    public CompletableFuture<GetItemResult> getItem(GetItemRequest request) {
+        return submit("getItem", () -> {
+            GetItemResult result = ddbClient.getItem(request.withReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+            recordCapacity("dynamodb.readCapacityUnits", result.getConsumedCapacity());
+            return result;
+        });
+    }
+
+    public CompletableFuture<BatchGetItemResult> batchGetItem(BatchGetItemRequest request) {
+        /** One BatchGetItem call; keys left in getUnprocessedKeys() are for the caller to retry. */
+        return submit("batchGetItem", () -> {
+            BatchGetItemResult result = ddbClient.batchGetItem(
+                    request.withReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+            DynamodbBatchWriter.recordConsumedCapacity(
+                    metrics, "dynamodb.readCapacityUnits", result.getConsumedCapacity());
+            return result;
+        });
+    }
+
+    public CompletableFuture<PutItemResult> putItem(PutItemRequest request) {
+        return submit("putItem", () -> {
+            PutItemResult result = ddbClient.putItem(request.withReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+            recordCapacity("dynamodb.writeCapacityUnits", result.getConsumedCapacity());
+            return result;
+        });
+    }
+
+    public CompletableFuture<BatchWriteItemResult> batchWriteItem(BatchWriteItemRequest request) {
+        /** One BatchWriteItem call; items left in getUnprocessedItems() are for the caller to retry. */
+        return submit("batchWriteItem", () -> {
+            BatchWriteItemResult result = ddbClient.batchWriteItem(
+                    request.withReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+            DynamodbBatchWriter.recordConsumedCapacity(
+                    metrics, "dynamodb.writeCapacityUnits", result.getConsumedCapacity());
+            return result;
+        });
+    }
+
+    public CompletableFuture<QueryResult> query(QueryRequest request) {
+        return submit("query", () -> {
+            QueryResult result = ddbClient.query(request.withReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+            recordCapacity("dynamodb.readCapacityUnits", result.getConsumedCapacity());
+            return result;
+        });
+    }
+
+    public CompletableFuture<DescribeTableResult> describeTable(String tableName) {
+        return submit("describeTable", () -> ddbClient.describeTable(new DescribeTableRequest(tableName)));
+    }
+
+    public CompletableFuture<WriteSummary> writeAll(String tableName, List<WriteRequest> requests, int maxRetries) {
+        /**
+         * Writes every request in batches of 25, all sent at once up to the in-flight limit. Unprocessed items and
+         * throttled batches are retried after a jittered exponential delay that holds no thread, and items still
+         * unwritten after maxRetries are counted as failed, as in DynamodbBatchWriter.
+         */
+        long start = System.nanoTime();
+        AtomicLong retries = new AtomicLong();
+        List<CompletableFuture<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < requests.size(); from += DynamodbBatchWriter.MAX_BATCH_SIZE) {
+            List<WriteRequest> batch = requests.subList(
+                    from, Math.min(requests.size(), from + DynamodbBatchWriter.MAX_BATCH_SIZE));
+            batches.add(writeBatch(tableName, batch, 0, maxRetries, retries));
+        }
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            long failed = 0;
+            for (CompletableFuture<Integer> batch : batches) {
+                failed += batch.join();
+            }
+            return WriteSummary.create(requests.size(), requests.size() - failed, failed, retries.get(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        });
+    }
+
+    private CompletableFuture<Integer> writeBatch(String tableName, List<WriteRequest> pending, int attempt,
+                                                  int maxRetries, AtomicLong retries) {
+        /** Completes with how many items of the batch could not be written. */
+        return batchWriteItem(new BatchWriteItemRequest()
+                .withRequestItems(Collections.singletonMap(tableName, pending)))
+                .handle((result, error) -> {
+                    List<WriteRequest> unwritten = pending;
+                    boolean retryable = true;
+                    if (error == null) {
+                        unwritten = result.getUnprocessedItems().get(tableName);
+                        if (unwritten == null || unwritten.isEmpty()) {
+                            return CompletableFuture.completedFuture(0);
+                        }
+                        metrics.add("dynamodb.unprocessedItems", unwritten.size(), MetricUnit.COUNT);
+                    } else if (error.getCause() instanceof AmazonServiceException) {
+                        // Throttling is worth another attempt, a validation error is not.
+                        retryable = DynamodbBatchWriter.isRetryable((AmazonServiceException) error.getCause());
+                        if (retryable) {
+                            metrics.increment("dynamodb.throttles");
+                        }
+                    }
+                    if (!retryable || attempt >= maxRetries) {
+                        metrics.add("dynamodb.failedItems", unwritten.size(), MetricUnit.COUNT);
+                        return CompletableFuture.completedFuture(unwritten.size());
+                    }
+                    retries.incrementAndGet();
+                    metrics.increment("dynamodb.retries");
+                    List<WriteRequest> retry = unwritten;
+                    long delay = ThreadLocalRandom.current().nextLong(
+                            DynamodbBatchWriter.backoffCapMillis(attempt) + 1);
+                    return CompletableFuture.supplyAsync(() -> retry, delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                            .thenCompose(next -> writeBatch(tableName, next, attempt + 1, maxRetries, retries));
+                })
+                .thenCompose(next -> next);
+    }
+
+    Executor delayedExecutor(long delay, TimeUnit unit) {
+        /**
+         * Runs tasks on this client's executor once the delay has passed, without holding a thread meanwhile. Retries
+         * go through it rather than the common pool, whose few threads must never block waiting for a permit.
+         */
+        return CompletableFuture.delayedExecutor(delay, unit, executor);
+    }
+
+    private <T> CompletableFuture<T> submit(String operation, Supplier<T> call) {
+        /** Blocks the caller while maxInFlight calls are running, then runs the call on the executor. */
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            CompletableFuture<T> interrupted = new CompletableFuture<>();
+            interrupted.completeExceptionally(e);
+            return interrupted;
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try (Metrics.Timer timer = metrics.startTimer(TIMER_PREFIX + operation)) {
+                    return call.get();
+                } finally {
+                    inFlight.release();
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            inFlight.release(); // Rejected by a shut down executor.
+            throw e;
+        }
+    }
+
+    private void recordCapacity(String name, ConsumedCapacity capacity) {
+        DynamodbBatchWriter.recordConsumedCapacity(metrics, name, Collections.singletonList(capacity));
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+}
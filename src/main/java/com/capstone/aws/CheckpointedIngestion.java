@@ -0,0 +1,179 @@
+/*
+ * CheckpointedIngestion
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.capstone.aws.DynamodbBatchWriter.WriteSummary;
+import com.capstone.metrics.MetricUnit;
+import com.capstone.metrics.Metrics;
+import com.capstone.ppinetwork.PpiNetworkNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Writes a dataset in chunks of nodes, recording an IngestionCheckpoint after every chunk that was written in full,
+ * and stops starting chunks once the invocation is about to run out of time. A later invocation over the same key
+ * range picks up at the checkpoint instead of the first node, so loads longer than Lambda's 15 minute limit finish
+ * over several invocations, and a dataset split into several key ranges can be written by parallel invocations.
+ *
+ * <pre>
+ *   prepare(nodes, datasetId, ranges)  replaces any stored items of the dataset with the new id dictionary, and
+ *                                      writes a checkpoint at the start of every range
+ *   run(nodes, datasetId, range)       writes the range from its checkpoint on, until it is done or time runs out
+ * </pre>
+ *
+ * Every put is idempotent, so the nodes of a chunk that was cut short are simply written again when it is retried.
+ */
+public class CheckpointedIngestion {
+    public static final int DEFAULT_CHUNK_NODES = 1000;
+    public static final long DEFAULT_SAFETY_MARGIN_MILLIS = 30_000;
+
+    private final DynamodbHelper ddbHelper;
+    private final LambdaLogger logger;
+    private final LongSupplier remainingMillis;
+    private final int chunkNodes;
+    private final int concurrency;
+    private final long safetyMarginMillis;
+
+    protected CheckpointedIngestion(Builder builder) {
+        this.ddbHelper = builder.ddbHelper;
+        this.logger = builder.logger;
+        this.remainingMillis = builder.remainingMillis;
+        this.chunkNodes = builder.chunkNodes;
+        this.concurrency = builder.concurrency;
+        this.safetyMarginMillis = builder.safetyMarginMillis;
+    }
+
+    public List<IngestionCheckpoint> prepare(List<PpiNetworkNode> nodes, String datasetId, List<KeyRange> ranges) {
+        /**
+         * Makes sure the dictionary is stored and every range has a checkpoint over this network. Ranges that already
+         * have one are left as they are, so preparing again after a failure resumes instead of starting over; if the
+         * network changed since (a new release behind the same URL), the stored dataset is deleted and every range
+         * starts over.
+         * Returns the checkpoint of every range.
+         */
+        String fingerprint = IngestionCheckpoint.networkFingerprint(nodes);
+        List<IngestionCheckpoint> checkpoints = new ArrayList<>();
+        boolean resumable = true;
+        for (KeyRange range : ranges) {
+            Optional<IngestionCheckpoint> checkpoint = ddbHelper.getCheckpoint(datasetId, range);
+            if (!checkpoint.isPresent() || !checkpoint.get().matches(nodes, fingerprint)) {
+                resumable = false;
+                break;
+            }
+            checkpoints.add(checkpoint.get());
+        }
+        if (resumable) {
+            return checkpoints;
+        }
+
+        ddbHelper.putDictionary(PpiNodeItemCodec.forNodes(nodes), datasetId); // Throws unless written in full.
+        checkpoints.clear();
+        for (KeyRange range : ranges) {
+            IngestionCheckpoint checkpoint = IngestionCheckpoint.create(
+                    datasetId, range, range.getStart(), nodes.size(), fingerprint, 0);
+            ddbHelper.putCheckpoint(checkpoint);
+            checkpoints.add(checkpoint);
+        }
+        logger.log("Prepared checkpointed ingestion of " + datasetId + " over " + ranges.size() + " ranges");
+        return checkpoints;
+    }
+
+    public IngestionCheckpoint run(List<PpiNetworkNode> nodes, String datasetId, KeyRange range) {
+        /**
+         * Writes the range from its checkpoint on. Returns the checkpoint it stopped at, which is complete unless
+         * time ran out or a chunk had items that could not be written (that chunk is retried by the next run).
+         */
+        IngestionCheckpoint checkpoint = ddbHelper.getCheckpoint(datasetId, range)
+                .orElseThrow(() -> new IllegalStateException(
+                        "No checkpoint for " + datasetId + " " + range + "; prepare the ingestion first"));
+        if (!checkpoint.matches(nodes, IngestionCheckpoint.networkFingerprint(nodes))) {
+            throw new IllegalStateException("Checkpoint of " + datasetId + " " + range
+                    + " was taken over a different network; prepare the ingestion again");
+        }
+
+        Metrics metrics = ddbHelper.getMetrics();
+        PpiNodeItemCodec codec = ddbHelper.getCodec(datasetId);
+        long longestChunkMillis = 0;
+        while (!checkpoint.isComplete()) {
+            // Leave room for one more chunk at the slowest pace seen so far, on top of the fixed margin.
+            if (remainingMillis.getAsLong() < safetyMarginMillis + 2 * longestChunkMillis) {
+                logger.log("Stopping " + datasetId + " " + range + " at node " + checkpoint.getNextNode()
+                        + " to checkpoint before the invocation times out");
+                metrics.increment("ingestion.timeoutStops");
+                break;
+            }
+            int end = Math.min(range.getEnd(), checkpoint.getNextNode() + chunkNodes);
+            long start = System.nanoTime();
+            WriteSummary summary = ddbHelper.putNodes(
+                    codec, nodes.subList(checkpoint.getNextNode(), end), datasetId, concurrency);
+            long chunkMillis = (System.nanoTime() - start) / 1_000_000;
+            longestChunkMillis = Math.max(longestChunkMillis, chunkMillis);
+            metrics.recordNanos("ingestion.chunk", System.nanoTime() - start);
+            if (summary.getItemsFailed() > 0) {
+                logger.log("Stopping " + datasetId + " " + range + " at node " + checkpoint.getNextNode() + " : "
+                        + summary.getItemsFailed() + " items could not be written");
+                break;
+            }
+            metrics.add("ingestion.nodesWritten", end - checkpoint.getNextNode(), MetricUnit.COUNT);
+            checkpoint = checkpoint.advance(end, summary.getItemsWritten());
+            if (!ddbHelper.putCheckpoint(checkpoint)) {
+                break; // Another invocation is further along on this range.
+            }
+        }
+        logger.log("Checkpoint of " + datasetId + " " + range + " : node " + checkpoint.getNextNode() + ", "
+                + checkpoint.getRemainingNodes() + " remaining");
+        return checkpoint;
+    }
+
+    public static class Builder {
+        private final DynamodbHelper ddbHelper;
+        private final LambdaLogger logger;
+        private LongSupplier remainingMillis = () -> Long.MAX_VALUE;
+        private int chunkNodes = DEFAULT_CHUNK_NODES;
+        private int concurrency = 8;
+        private long safetyMarginMillis = DEFAULT_SAFETY_MARGIN_MILLIS;
+
+        public Builder(DynamodbHelper ddbHelper, LambdaLogger logger) {
+            this.ddbHelper = ddbHelper;
+            this.logger = logger;
+        }
+
+        public Builder setRemainingMillis(LongSupplier remainingMillis) {
+            /** Time left in the invocation, e.g. context::getRemainingTimeInMillis; unlimited by default. */
+            this.remainingMillis = remainingMillis;
+            return this;
+        }
+
+        public Builder setChunkNodes(int chunkNodes) {
+            /** Nodes written between checkpoints: smaller chunks lose less work on a timeout but checkpoint more. */
+            if (chunkNodes < 1) {
+                throw new IllegalArgumentException("Chunk size must be at least 1: " + chunkNodes);
+            }
+            this.chunkNodes = chunkNodes;
+            return this;
+        }
+
+        public Builder setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public Builder setSafetyMarginMillis(long safetyMarginMillis) {
+            this.safetyMarginMillis = safetyMarginMillis;
+            return this;
+        }
+
+        public CheckpointedIngestion build() {
+            return new CheckpointedIngestion(this);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * DatasetDiff
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.google.auto.value.AutoValue;
+
+/** Outcome of an incremental dataset update: how the new release differed from the stored nodes. */
+@AutoValue
+public abstract class DatasetDiff {
+    static DatasetDiff create(long addedNodes, long changedNodes, long deletedNodes, long unchangedNodes,
+                              long dictionaryIdsAdded, DynamodbBatchWriter.WriteSummary writeSummary) {
+        return new AutoValue_DatasetDiff(
+                addedNodes, changedNodes, deletedNodes, unchangedNodes, dictionaryIdsAdded, writeSummary);
+    }
+
+    public abstract long getAddedNodes();
+    public abstract long getChangedNodes();
+    public abstract long getDeletedNodes();
+    public abstract long getUnchangedNodes(); // Skipped entirely: no item was read back or written for these.
+    public abstract long getDictionaryIdsAdded();
+    public abstract DynamodbBatchWriter.WriteSummary getWriteSummary();
+}
@@ -0,0 +1,236 @@
+/*
+ * DynamodbBatchWriter
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.ReturnConsumedCapacity;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.capstone.metrics.MetricUnit;
+import com.capstone.metrics.Metrics;
+import com.google.auto.value.AutoValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write pipeline on top of BatchWriteItem. Write requests are grouped into batches of 25 (DynamoDB's per-call limit)
+ * and sent from a bounded pool of worker threads; the producer blocks once enough batches are queued, so memory stays
+ * bounded however many items are written. Unprocessed items and throttled calls are retried with capped, jittered
+ * exponential backoff, and anything still unwritten after the last attempt is counted as failed instead of dropped
+ * silently.
+ * Reference: https://docs.aws.amazon.com/amazondynamodb/latest/APIReference/API_BatchWriteItem.html
+ */
+public class DynamodbBatchWriter {
+    public static final int MAX_BATCH_SIZE = 25;
+    static final int DEFAULT_MAX_RETRIES = 8;
+    private static final long BASE_BACKOFF_MILLIS = 50;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+    private final AmazonDynamoDB ddbClient;
+    private final String tableName;
+    private final int concurrency;
+    private final int maxRetries;
+    private final LambdaLogger logger;
+    private final Metrics metrics;
+
+    public DynamodbBatchWriter(AmazonDynamoDB ddbClient, String tableName, int concurrency, LambdaLogger logger) {
+        this(ddbClient, tableName, concurrency, DEFAULT_MAX_RETRIES, logger);
+    }
+
+    public DynamodbBatchWriter(AmazonDynamoDB ddbClient, String tableName, int concurrency, int maxRetries,
+                               LambdaLogger logger) {
+        this(ddbClient, tableName, concurrency, maxRetries, logger, new Metrics());
+    }
+
+    public DynamodbBatchWriter(AmazonDynamoDB ddbClient, String tableName, int concurrency, int maxRetries,
+                               LambdaLogger logger, Metrics metrics) {
+        /**
+         * @param metrics
+         *            Receives the latency of every BatchWriteItem call ("dynamodb.batchWriteItem"), consumed write
+         *            capacity, retries, unprocessed and failed items.
+         */
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.ddbClient = ddbClient;
+        this.tableName = tableName;
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
+        this.logger = logger;
+        this.metrics = metrics;
+    }
+
+    public WriteSummary write(Iterator<WriteRequest> requests) {
+        /** Sends every write request and blocks until all batches have been written or have failed. */
+        long start = System.nanoTime();
+        AtomicLong written = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicLong retries = new AtomicLong();
+        long requested = 0;
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        Semaphore inFlight = new Semaphore(concurrency * 2); // Back-pressure on the producer.
+        try {
+            while (requests.hasNext()) {
+                List<WriteRequest> batch = new ArrayList<>(MAX_BATCH_SIZE);
+                while (batch.size() < MAX_BATCH_SIZE && requests.hasNext()) {
+                    batch.add(requests.next());
+                }
+                requested += batch.size();
+                inFlight.acquireUninterruptibly();
+                workers.execute(() -> {
+                    try {
+                        int unwritten;
+                        try {
+                            unwritten = writeBatch(batch, retries);
+                        } catch (RuntimeException e) {
+                            // Anything unexpected fails the whole batch, so written + failed still adds up.
+                            logger.log("Error writing batch : " + e);
+                            metrics.add("dynamodb.failedItems", batch.size(), MetricUnit.COUNT);
+                            unwritten = batch.size();
+                        }
+                        written.addAndGet(batch.size() - unwritten);
+                        failed.addAndGet(unwritten);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+            awaitTermination(workers);
+        }
+
+        WriteSummary summary = WriteSummary.create(
+                requested, written.get(), failed.get(), retries.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.log("Batch write summary : " + summary);
+        return summary;
+    }
+
+    private int writeBatch(List<WriteRequest> batch, AtomicLong retries) {
+        /** Writes one batch, retrying what DynamoDB leaves unprocessed. Returns how many items could not be written. */
+        List<WriteRequest> pending = batch;
+        for (int attempt = 0; ; attempt++) {
+            try (Metrics.Timer timer = metrics.startTimer("dynamodb.batchWriteItem")) {
+                BatchWriteItemResult result = ddbClient.batchWriteItem(
+                        new BatchWriteItemRequest()
+                                .withRequestItems(Collections.singletonMap(tableName, pending))
+                                .withReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+                recordConsumedCapacity(metrics, "dynamodb.writeCapacityUnits", result.getConsumedCapacity());
+                List<WriteRequest> unprocessed = result.getUnprocessedItems().get(tableName);
+                if (unprocessed == null || unprocessed.isEmpty()) {
+                    return 0;
+                }
+                metrics.add("dynamodb.unprocessedItems", unprocessed.size(), MetricUnit.COUNT);
+                pending = unprocessed;
+            } catch (AmazonServiceException e) {
+                if (!isRetryable(e)) {
+                    logger.log("Error writing batch : " + e.getErrorMessage());
+                    metrics.add("dynamodb.failedItems", pending.size(), MetricUnit.COUNT);
+                    return pending.size();
+                }
+                metrics.increment("dynamodb.throttles");
+            } catch (AmazonClientException e) {
+                // Client-side failures (timeouts, dropped connections) are worth another attempt.
+                logger.log("Error sending batch : " + e.getMessage());
+            }
+            if (attempt == maxRetries) {
+                logger.log("Giving up on " + pending.size() + " items after " + maxRetries + " retries");
+                metrics.add("dynamodb.failedItems", pending.size(), MetricUnit.COUNT);
+                return pending.size();
+            }
+            retries.incrementAndGet();
+            metrics.increment("dynamodb.retries");
+            backoff(attempt);
+        }
+    }
+
+    static void recordConsumedCapacity(Metrics metrics, String name, List<ConsumedCapacity> consumedCapacity) {
+        if (consumedCapacity == null) {
+            return; // Some endpoints, e.g. older DynamoDB Local versions, do not report capacity.
+        }
+        for (ConsumedCapacity capacity : consumedCapacity) {
+            if (capacity != null && capacity.getCapacityUnits() != null) {
+                metrics.add(name, capacity.getCapacityUnits(), MetricUnit.COUNT);
+            }
+        }
+    }
+
+    static boolean isRetryable(AmazonServiceException e) {
+        return e.getStatusCode() >= 500
+                || "ProvisionedThroughputExceededException".equals(e.getErrorCode())
+                || "ThrottlingException".equals(e.getErrorCode())
+                || "RequestLimitExceeded".equals(e.getErrorCode());
+    }
+
+    static long backoffCapMillis(int attempt) {
+        return Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(attempt, 16));
+    }
+
+    private static void backoff(int attempt) {
+        // Full jitter: sleep a random duration up to the exponential cap.
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffCapMillis(attempt) + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitTermination(ExecutorService workers) {
+        try {
+            while (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                // Keep waiting; every batch gives up on its own after its last retry.
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Outcome of a write pipeline run. */
+    @AutoValue
+    public abstract static class WriteSummary {
+        static WriteSummary create(long itemsRequested, long itemsWritten, long itemsFailed, long retries,
+                                   long elapsedMillis) {
+            return new AutoValue_DynamodbBatchWriter_WriteSummary(
+                    itemsRequested, itemsWritten, itemsFailed, retries, elapsedMillis);
+        }
+
+        public abstract long getItemsRequested();
+        public abstract long getItemsWritten();
+        public abstract long getItemsFailed();
+        public abstract long getRetries();
+        public abstract long getElapsedMillis();
+
+        public WriteSummary plus(WriteSummary other) {
+            /** Summary of two runs made one after the other. */
+            return create(getItemsRequested() + other.getItemsRequested(),
+                    getItemsWritten() + other.getItemsWritten(), getItemsFailed() + other.getItemsFailed(),
+                    getRetries() + other.getRetries(), getElapsedMillis() + other.getElapsedMillis());
+        }
+
+                public double getItemsPerSecond() {
+            return getElapsedMillis() == 0 ? getItemsWritten() : getItemsWritten() * 1000.0 / getElapsedMillis();
+        }
+    }
+}
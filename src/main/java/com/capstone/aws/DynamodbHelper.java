@@ -8,15 +8,31 @@
 package com.capstone.aws;
 
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.regions.Regions;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
 import com.amazonaws.services.dynamodbv2.datamodeling.*;
 import com.amazonaws.services.dynamodbv2.model.*;
+import com.amazonaws.services.dynamodbv2.util.TableUtils;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.capstone.aws.DynamodbBatchWriter.WriteSummary;
+import com.capstone.metrics.Metrics;
 import com.capstone.ppinetwork.PpiNetworkNode;
+import com.google.common.collect.Iterators;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 
 /**
@@ -26,16 +42,283 @@ public class DynamodbHelper {
     private static final String TABLE_NAME = "PPI_NETWORK_TABLE";
     private static final String SORT_KEY_ATTRIBUTE = "datasetId";
     private static final String PARTITION_KEY_ATTRIBUTE = "id";
+    // Set to e.g. http://localhost:8000 to run against DynamoDB Local instead of the AWS endpoint.
+    private static final String ENDPOINT_ENVIRONMENT_VARIABLE = "DYNAMODB_ENDPOINT";
+    private static final int DEFAULT_WRITE_CONCURRENCY = 8;
+    private static final int DEFAULT_PAGE_SIZE = 1000;
+    private static final String READ_CAPACITY_METRIC = "dynamodb.readCapacityUnits";
+    // Decodes nodes read without their neighbors, which reference no dictionary index.
     private final LambdaLogger logger;
     private final AmazonDynamoDB ddbClient;
+    private final Metrics metrics;
+    private final Map<String, PpiNodeItemCodec> codecs = new ConcurrentHashMap<>();
+    private volatile AsyncDynamodbClient asyncClient;
+    private volatile NodeBatchReader batchReader;
 
     public DynamodbHelper(Context context) {
-        this.logger = context.getLogger();
-        this.ddbClient = AmazonDynamoDBClientBuilder.standard().build();
+        this(context.getLogger(), defaultClient());
     }
 
-    public Map<String, PpiNetworkNode> getPPiNetworkItems(Optional<String> paginationToken) {
-        return new HashMap<>();
+    public DynamodbHelper(Context context, Metrics metrics) {
+        this(context.getLogger(), defaultClient(), metrics);
+    }
+
+    public static DynamodbHelper create(LambdaLogger logger) {
+        /** Helper that outlives a single invocation, logging through the given logger. */
+        return new DynamodbHelper(logger, defaultClient());
+    }
+
+    public DynamodbHelper(LambdaLogger logger, AmazonDynamoDB ddbClient) {
+        this(logger, ddbClient, new Metrics());
+    }
+
+    public DynamodbHelper(LambdaLogger logger, AmazonDynamoDB ddbClient, Metrics metrics) {
+        /** Every DynamoDB call made through this helper records its latency and consumed capacity in metrics. */
+        this.logger = logger;
+        this.ddbClient = ddbClient;
+        this.metrics = metrics;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public AsyncDynamodbClient asyncClient() {
+        /**
+         * Asynchronous view of this helper's client, created on first use with the default in-flight limit. Its
+         * calls run on virtual threads where the runtime has them, and record their metrics in this helper's.
+         */
+        AsyncDynamodbClient client = asyncClient;
+        if (client == null) {
+            synchronized (this) {
+                if (asyncClient == null) {
+                    asyncClient = new AsyncDynamodbClient(
+                            ddbClient, AsyncDynamodbClient.DEFAULT_MAX_IN_FLIGHT, metrics);
+                }
+                client = asyncClient;
+            }
+        }
+        return client;
+    }
+
+    public static AmazonDynamoDB defaultClient() {
+        /**
+         * Client for the endpoint of the environment, built on first use and shared by every helper in the JVM.
+         * Building a client loads and configures most of the SDK, so in Lambda this belongs in the init phase, once
+         * per container, rather than in every invocation.
+         */
+        return DefaultClientHolder.CLIENT;
+    }
+
+    private static class DefaultClientHolder {
+        // Sized for the requests an AsyncDynamodbClient on this client keeps in flight (see createClient).
+        private static final AmazonDynamoDB CLIENT = createClient(
+                System.getenv(ENDPOINT_ENVIRONMENT_VARIABLE), AsyncDynamodbClient.DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    public static AmazonDynamoDB createClient(String endpoint) {
+        /** DynamoDB client for the default AWS endpoint, or for the given endpoint (e.g. DynamoDB Local) if set. */
+        return createClient(endpoint, ClientConfiguration.DEFAULT_MAX_CONNECTIONS);
+    }
+
+    public static AmazonDynamoDB createClient(String endpoint, int maxConnections) {
+        /**
+         * As above, with an HTTP connection pool of the given size. The default of 50 connections caps the requests
+         * in flight well below what an AsyncDynamodbClient can issue; size the pool to its in-flight limit.
+         */
+        AmazonDynamoDBClientBuilder builder = AmazonDynamoDBClientBuilder.standard()
+                .withClientConfiguration(new ClientConfiguration().withMaxConnections(maxConnections));
+        if (endpoint != null && !endpoint.isEmpty()) {
+            String region = System.getenv("AWS_REGION") != null
+                    ? System.getenv("AWS_REGION")
+                    : Regions.US_EAST_1.getName();
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region));
+        }
+        return builder.build();
+    }
+
+    public PpiNetworkPage getPPiNetworkItems(String datasetId, Optional<String> paginationToken) {
+        return getPPiNetworkItems(datasetId, paginationToken, DEFAULT_PAGE_SIZE);
+    }
+
+    public PpiNetworkPage getPPiNetworkItems(String datasetId, Optional<String> paginationToken, int pageSize) {
+        /**
+         * Reads one page of a dataset's nodes with a Query on the dataset key. Pass the returned token back in to read
+         * the next page; the token is empty after the last page. A node whose shard items run past the end of the
+         * page is completed before returning, so every page only contains whole nodes.
+         */
+        QueryResult result = query(
+                datasetQuery(datasetId, Optional.empty())
+                        .withLimit(pageSize)
+                        .withExclusiveStartKey(paginationToken.map(token -> itemKey(datasetId, decodeToken(token)))
+                                .orElse(null)));
+
+        Map<String, PpiNetworkNode> nodes = new HashMap<>();
+        Map<String, List<Map<String, AttributeValue>>> shardItems = new HashMap<>();
+        List<Map<String, AttributeValue>> baseItems = new ArrayList<>();
+        for (Map<String, AttributeValue> item : result.getItems()) {
+            if (PpiNodeItemCodec.isDictionaryItem(item)) {
+                continue;
+            }
+            if (PpiNodeItemCodec.isShardItem(item)) {
+                shardItems.computeIfAbsent(PpiNodeItemCodec.baseId(item.get(PARTITION_KEY_ATTRIBUTE).getS()),
+                        id -> new ArrayList<>()).add(item);
+            } else {
+                baseItems.add(item);
+            }
+        }
+
+        Map<String, AttributeValue> lastEvaluatedKey = result.getLastEvaluatedKey();
+        for (Map<String, AttributeValue> baseItem : baseItems) {
+            String id = baseItem.get(PARTITION_KEY_ATTRIBUTE).getS();
+            List<Map<String, AttributeValue>> shards = shardItems.getOrDefault(id, Collections.emptyList());
+            if (shards.size() < PpiNodeItemCodec.shardCount(baseItem) - 1) {
+                // The node's shards continue on the next page: fetch them all and resume after the last one.
+                shards = queryItems(datasetId, PpiNodeItemCodec.shardPrefix(id));
+                if (!shards.isEmpty()) {
+                    lastEvaluatedKey = itemKey(
+                            datasetId, shards.get(shards.size() - 1).get(PARTITION_KEY_ATTRIBUTE).getS());
+                }
+            }
+            nodes.put(id, decodeNode(datasetId, baseItem, shards));
+        }
+
+        Optional<String> nextToken = lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()
+                ? Optional.empty()
+                : Optional.of(encodeToken(lastEvaluatedKey.get(PARTITION_KEY_ATTRIBUTE).getS()));
+        return PpiNetworkPage.create(nodes, nextToken);
+    }
+
+    public Map<String, PpiNetworkNode> queryPpiNetwork(String datasetId) {
+        /** Loads a complete dataset by following the Query pages of getPPiNetworkItems one after the other. */
+        Map<String, PpiNetworkNode> network = new HashMap<>();
+        Optional<String> paginationToken = Optional.empty();
+        do {
+            PpiNetworkPage page = getPPiNetworkItems(datasetId, paginationToken);
+            network.putAll(page.getNodes());
+            paginationToken = page.getPaginationToken();
+        } while (paginationToken.isPresent());
+        return network;
+    }
+
+    public Map<String, PpiNetworkNode> queryPpiNetwork(String datasetId, int segments) {
+        /**
+         * Loads a complete dataset with concurrent Queries over disjoint ranges of its ids, so cold-load time drops
+         * with the number of segments instead of following one serial chain of pages. The sorted ids of the stored
+         * dictionary are cut into the given number of ranges of equal size, each read on its own thread. A parallel
+         * Scan cannot do this: every item of a dataset shares one partition key, so the whole dataset lands in a
+         * single scan segment. Shard items ("id#1", ...) sort right after their base item, so they fall in its range.
+         */
+        if (segments < 1) {
+            throw new IllegalArgumentException("Segments must be at least 1");
+        }
+        List<String> ids = new ArrayList<>(getCodec(datasetId).getIds());
+        Collections.sort(ids);
+        // First id of every range after the first one.
+        List<String> bounds = new ArrayList<>();
+        for (int segment = 1; segment < segments && !ids.isEmpty(); segment++) {
+            String bound = ids.get((int) ((long) ids.size() * segment / segments));
+            if (bounds.isEmpty() || !bounds.get(bounds.size() - 1).equals(bound)) {
+                bounds.add(bound);
+            }
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(bounds.size() + 1);
+        List<Future<List<Map<String, AttributeValue>>>> futures = new ArrayList<>();
+        try {
+            for (int range = 0; range <= bounds.size(); range++) {
+                Optional<String> from = range == 0 ? Optional.empty() : Optional.of(bounds.get(range - 1));
+                Optional<String> to = range == bounds.size() ? Optional.empty() : Optional.of(bounds.get(range));
+                futures.add(workers.submit(() -> queryRange(datasetId, from, to)));
+            }
+            Map<String, Map<String, AttributeValue>> baseItems = new HashMap<>();
+            Map<String, List<Map<String, AttributeValue>>> shardItems = new HashMap<>();
+            for (Future<List<Map<String, AttributeValue>>> future : futures) {
+                for (Map<String, AttributeValue> item : future.get()) {
+                    String id = item.get(PARTITION_KEY_ATTRIBUTE).getS();
+                    if (PpiNodeItemCodec.isDictionaryItem(item)) {
+                        continue;
+                    }
+                    if (PpiNodeItemCodec.isShardItem(item)) {
+                        shardItems.computeIfAbsent(PpiNodeItemCodec.baseId(id), key -> new ArrayList<>()).add(item);
+                    } else {
+                        baseItems.put(id, item);
+                    }
+                }
+            }
+
+            return baseItems.values()
+                    .parallelStream()
+                    .map(item -> decodeNode(datasetId, item, shardItems.getOrDefault(
+                            item.get(PARTITION_KEY_ATTRIBUTE).getS(), Collections.emptyList())))
+                    .collect(Collectors.toMap(PpiNetworkNode::getId, node -> node));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading dataset : " + datasetId, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Error reading dataset : " + datasetId, e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private List<Map<String, AttributeValue>> queryRange(String datasetId, Optional<String> from,
+                                                         Optional<String> to) {
+        /** Every item of a dataset with from <= id < to, across all result pages; a missing bound is open. */
+        QueryRequest request = datasetQuery(datasetId, Optional.empty());
+        String keyCondition = request.getKeyConditionExpression();
+        if (from.isPresent() || to.isPresent()) {
+            request.getExpressionAttributeNames().put("#id", PARTITION_KEY_ATTRIBUTE);
+            from.ifPresent(id -> request.getExpressionAttributeValues().put(":from", new AttributeValue(id)));
+            to.ifPresent(id -> request.getExpressionAttributeValues().put(":to", new AttributeValue(id)));
+            // BETWEEN includes its upper bound; that item starts the next range and is dropped below.
+            keyCondition += from.isPresent() && to.isPresent() ? " AND #id BETWEEN :from AND :to"
+                    : from.isPresent() ? " AND #id >= :from"
+                    : " AND #id < :to";
+        }
+        request.setKeyConditionExpression(keyCondition);
+
+        List<Map<String, AttributeValue>> items = new ArrayList<>();
+        Map<String, AttributeValue> lastEvaluatedKey = null;
+        do {
+            QueryResult result = query(request.withExclusiveStartKey(lastEvaluatedKey));
+            for (Map<String, AttributeValue> item : result.getItems()) {
+                if (!to.isPresent() || !to.get().equals(item.get(PARTITION_KEY_ATTRIBUTE).getS())) {
+                    items.add(item);
+                }
+            }
+            lastEvaluatedKey = result.getLastEvaluatedKey();
+        } while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
+        return items;
+    }
+
+    private static String encodeToken(String lastEvaluatedId) {
+        /** Pagination tokens are the url-safe base64 of the last item id read; the dataset is part of the request. */
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastEvaluatedId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeToken(String paginationToken) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(paginationToken), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid pagination token : " + paginationToken, e);
+        }
+    }
+
+    public void createTableIfNotExists() {
+        /**
+         * Creates the table unless DescribeTable finds it active. An existing table costs one read, where
+         * createNewTable() always sends a CreateTable that fails and then waits for the table.
+         */
+        try {
+            String status = ddbClient.describeTable(TABLE_NAME).getTable().getTableStatus();
+            if (TableStatus.ACTIVE.toString().equals(status)) {
+                return;
+            }
+        } catch (ResourceNotFoundException e) {
+            logger.log("Table : " + TABLE_NAME + " not found, creating it");
+        }
+        createNewTable();
     }
 
     public void createNewTable() {
@@ -59,18 +342,530 @@ public class DynamodbHelper {
             logger.log("Error creating new table : " + e.getErrorMessage());
         }
 
+        // Writes against a table that is still being created fail, so wait for it to become active.
+        try {
+            TableUtils.waitUntilActive(ddbClient, TABLE_NAME);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+    }
+
+    public WriteSummary putItems(List<PpiNetworkNode> data, String datasetId) {
+        return putItems(data, datasetId, DEFAULT_WRITE_CONCURRENCY);
+    }
+
+    public WriteSummary putItems(List<PpiNetworkNode> data, String datasetId, int concurrency) {
+        /**
+         * Writes the dataset's id dictionary and every node through the BatchWriteItem pipeline, using the sharded
+         * layout of PpiNodeItemCodec. Items are converted lazily as batches are filled, so the full set of DynamoDB
+         * items is never held in memory at once. Whatever was stored under the datasetId before is deleted first:
+         * its items were encoded against a different dictionary, and leftover shard items would break the reads of
+         * the new ones. The dictionary is written to completion before any node, so a reader that finds a node item
+         * always finds the dictionary it was encoded against. Readers see the dataset partly written until this
+         * returns; updateItems keeps it readable.
+         *
+         * @return Written and failed item counts along with the throughput of the run.
+         */
+        PpiNodeItemCodec codec = PpiNodeItemCodec.forNodes(data);
+        WriteSummary dictionarySummary = putDictionary(codec, datasetId, concurrency);
+        Iterator<Map<String, AttributeValue>> items = Iterators.concat(Iterators.transform(
+                data.iterator(), node -> codec.toItems(node, datasetId).iterator()));
+        return dictionarySummary.plus(batchWriter(concurrency)
+                .write(Iterators.transform(items, item -> new WriteRequest(new PutRequest(item)))));
+    }
+
+    WriteSummary putDictionary(PpiNodeItemCodec codec, String datasetId) {
+        return putDictionary(codec, datasetId, DEFAULT_WRITE_CONCURRENCY);
+    }
+
+    private WriteSummary putDictionary(PpiNodeItemCodec codec, String datasetId, int concurrency) {
+        /**
+         * Deletes any earlier write of the dataset, then writes only the id dictionary, ahead of nodes that are written
+         * separately (see putItems and CheckpointedIngestion). Throws if the dictionary could not be written in full,
+         * since no node written after it could be read.
+         */
+        deleteDataset(datasetId, concurrency);
+        WriteSummary summary = writeDictionary(codec, datasetId, concurrency);
+        codecs.put(datasetId, codec);
+        return summary;
+    }
+
+    private WriteSummary writeDictionary(PpiNodeItemCodec codec, String datasetId, int concurrency) {
+        WriteSummary summary = batchWriter(concurrency).write(Iterators.transform(
+                codec.toDictionaryItems(datasetId).iterator(), item -> new WriteRequest(new PutRequest(item))));
+        if (summary.getItemsFailed() > 0) {
+            throw new IllegalStateException("Could not write the id dictionary of dataset : " + datasetId);
+        }
+        return summary;
+    }
+
+    WriteSummary putNodes(PpiNodeItemCodec codec, List<PpiNetworkNode> nodes, String datasetId, int concurrency) {
+        /** Writes the items of some of a dataset's nodes, encoded against a dictionary that is already stored. */
+        Iterator<Map<String, AttributeValue>> items = Iterators.concat(Iterators.transform(
+                nodes.iterator(), node -> codec.toItems(node, datasetId).iterator()));
+        return batchWriter(concurrency)
+                .write(Iterators.transform(items, item -> new WriteRequest(new PutRequest(item))));
+    }
+
+    void deleteDataset(String datasetId, int concurrency) {
+        /**
+         * Deletes every item stored under a dataset (nodes, shard items and the id dictionary), found with a keys-only
+         * Query. Checkpoints are stored under a key of their own and are kept.
+         */
+        QueryRequest request = datasetQuery(datasetId, Optional.empty());
+        request.getExpressionAttributeNames().put("#id", PARTITION_KEY_ATTRIBUTE);
+        request.setProjectionExpression("#id");
+        List<String> ids = new ArrayList<>();
+        Map<String, AttributeValue> lastEvaluatedKey = null;
+        do {
+            QueryResult result = query(request.withExclusiveStartKey(lastEvaluatedKey));
+            for (Map<String, AttributeValue> item : result.getItems()) {
+                ids.add(item.get(PARTITION_KEY_ATTRIBUTE).getS());
+            }
+            lastEvaluatedKey = result.getLastEvaluatedKey();
+        } while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        WriteSummary summary = batchWriter(concurrency)
+                .write(Iterators.transform(ids.iterator(), id -> deleteRequest(datasetId, id)));
+        if (summary.getItemsFailed() > 0) {
+            throw new IllegalStateException("Could not delete " + summary.getItemsFailed()
+                    + " stored items of dataset : " + datasetId);
+        }
+        codecs.remove(datasetId);
+        logger.log("Deleted " + ids.size() + " stored items of " + datasetId + " ahead of a full write");
+    }
+
+    Optional<IngestionCheckpoint> getCheckpoint(String datasetId, KeyRange range) {
+        Map<String, AttributeValue> item = getItem(
+                new GetItemRequest()
+                        .withTableName(TABLE_NAME)
+                        .withKey(itemKey(IngestionCheckpoint.partitionKey(datasetId),
+                                IngestionCheckpoint.itemId(range)))
+                        .withConsistentRead(true))
+                .getItem();
+        return item == null ? Optional.empty() : Optional.of(IngestionCheckpoint.fromItem(datasetId, item));
+    }
+
+    public List<IngestionCheckpoint> getCheckpoints(String datasetId) {
+        /** Checkpoint of every key range of a dataset's checkpointed ingestion, in no particular order. */
+        List<IngestionCheckpoint> checkpoints = new ArrayList<>();
+        for (Map<String, AttributeValue> item : queryItems(IngestionCheckpoint.partitionKey(datasetId), "range#")) {
+            checkpoints.add(IngestionCheckpoint.fromItem(datasetId, item));
+        }
+        return checkpoints;
+    }
+
+    boolean putCheckpoint(IngestionCheckpoint checkpoint) {
+        /**
+         * Stores a checkpoint unless a checkpoint of the same network is already further along, so an invocation that
+         * lost a race (e.g. a retried worker overlapping the one it replaced) never moves progress backwards.
+         * Returns whether the checkpoint was stored.
+         */
+        Map<String, String> names = new HashMap<>();
+        names.put("#nextNode", IngestionCheckpoint.NEXT_NODE_ATTRIBUTE);
+        names.put("#fingerprint", IngestionCheckpoint.NETWORK_FINGERPRINT_ATTRIBUTE);
+        Map<String, AttributeValue> values = new HashMap<>();
+        values.put(":nextNode", new AttributeValue().withN(Integer.toString(checkpoint.getNextNode())));
+        values.put(":fingerprint", new AttributeValue(checkpoint.getNetworkFingerprint()));
+        try (Metrics.Timer timer = metrics.startTimer("dynamodb.putItem")) {
+            PutItemResult result = ddbClient.putItem(
+                    new PutItemRequest()
+                            .withTableName(TABLE_NAME)
+                            .withItem(checkpoint.toItem())
+                            .withConditionExpression("attribute_not_exists(#nextNode) OR #nextNode <= :nextNode"
+                                    + " OR #fingerprint <> :fingerprint")
+                            .withExpressionAttributeNames(names)
+                            .withExpressionAttributeValues(values)
+                            .withReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+            DynamodbBatchWriter.recordConsumedCapacity(metrics, "dynamodb.writeCapacityUnits",
+                    Collections.singletonList(result.getConsumedCapacity()));
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            logger.log("Checkpoint of " + checkpoint.getDatasetId() + " " + checkpoint.getRange()
+                    + " is already past node " + checkpoint.getNextNode());
+            return false;
+        }
+    }
+
+    public DatasetDiff updateItems(List<PpiNetworkNode> data, String datasetId) {
+        return updateItems(data, datasetId, DEFAULT_WRITE_CONCURRENCY);
+    }
+
+    public DatasetDiff updateItems(List<PpiNetworkNode> data, String datasetId, int concurrency) {
+        /**
+         * Brings a stored dataset up to date with a new release of its nodes, writing only what changed: the content
+         * hash of every node is compared with the hash on its stored base item, and only added and changed nodes are
+         * put, while stored nodes missing from the release are deleted along with their shard items. Unchanged nodes
+         * cost nothing beyond one projected Query over the base items. New ids are appended to the dictionary, so
+         * indices in unchanged items stay valid; the dictionary is written in full before any node that needs its new
+         * ids. A dataset that is not stored yet is written in full.
+         * Readers may see a mix of old and new nodes while the update runs.
+         */
+        if (!ppiNetworkDataExists(datasetId)) {
+            WriteSummary summary = putItems(data, datasetId, concurrency);
+            PpiNodeItemCodec codec = getCodec(datasetId);
+            return DatasetDiff.create(data.size(), 0, 0, 0, codec.size(), summary);
+        }
+
+        Map<String, Map<String, AttributeValue>> storedItems = queryBaseItemHashes(datasetId);
+        PpiNodeItemCodec codec = loadCodec(datasetId);
+        int idsAdded = codec.appendIds(data);
+
+        List<PpiNetworkNode> changedNodes = new ArrayList<>();
+        Set<String> releaseIds = new HashSet<>(data.size() * 2);
+        long added = 0;
+        for (PpiNetworkNode node : data) {
+            releaseIds.add(node.getId());
+            Map<String, AttributeValue> storedItem = storedItems.get(node.getId());
+            if (storedItem == null) {
+                added++;
+                changedNodes.add(node);
+            } else if (!PpiNodeItemCodec.storedContentHash(storedItem).equals(PpiNodeItemCodec.contentHash(node))) {
+                changedNodes.add(node);
+            }
+        }
+        List<Map<String, AttributeValue>> deletedItems = new ArrayList<>();
+        for (Map.Entry<String, Map<String, AttributeValue>> storedItem : storedItems.entrySet()) {
+            if (!releaseIds.contains(storedItem.getKey())) {
+                deletedItems.add(storedItem.getValue());
+            }
+        }
+
+        WriteSummary dictionarySummary = idsAdded > 0
+                ? writeDictionary(codec, datasetId, concurrency)
+                : WriteSummary.create(0, 0, 0, 0, 0);
+        codecs.put(datasetId, codec);
+
+        List<Iterator<WriteRequest>> requests = new ArrayList<>();
+        requests.add(Iterators.concat(Iterators.transform(changedNodes.iterator(), node -> {
+            List<Map<String, AttributeValue>> items = codec.toItems(node, datasetId);
+            List<WriteRequest> writes = new ArrayList<>(items.size());
+            for (Map<String, AttributeValue> item : items) {
+                writes.add(new WriteRequest(new PutRequest(item)));
+            }
+            // A node whose neighbor list shrank leaves shard items past its new shard count behind.
+            Map<String, AttributeValue> storedItem = storedItems.get(node.getId());
+            int storedShards = storedItem == null ? 0 : PpiNodeItemCodec.shardCount(storedItem);
+            for (int shard = items.size(); shard < storedShards; shard++) {
+                writes.add(deleteRequest(datasetId, PpiNodeItemCodec.shardId(node.getId(), shard)));
+            }
+            return writes.iterator();
+        })));
+        requests.add(Iterators.concat(Iterators.transform(deletedItems.iterator(), item -> {
+            String id = item.get(PARTITION_KEY_ATTRIBUTE).getS();
+            List<WriteRequest> deletes = new ArrayList<>();
+            deletes.add(deleteRequest(datasetId, id));
+            for (int shard = 1; shard < PpiNodeItemCodec.shardCount(item); shard++) {
+                deletes.add(deleteRequest(datasetId, PpiNodeItemCodec.shardId(id, shard)));
+            }
+            return deletes.iterator();
+        })));
+
+        WriteSummary summary = dictionarySummary.plus(batchWriter(concurrency)
+                .write(Iterators.concat(requests.iterator())));
+        DatasetDiff diff = DatasetDiff.create(added, changedNodes.size() - added, deletedItems.size(),
+                data.size() - changedNodes.size(), idsAdded, summary);
+        logger.log("Incremental update of " + datasetId + " : " + diff);
+        return diff;
+    }
+
+    private Map<String, Map<String, AttributeValue>> queryBaseItemHashes(String datasetId) {
+        /** Id, shard count and content hash of every stored node, without the neighbor payloads. */
+        QueryRequest request = datasetQuery(datasetId, Optional.empty());
+        request.getExpressionAttributeNames().put("#id", PARTITION_KEY_ATTRIBUTE);
+        request.getExpressionAttributeNames().put("#shardCount", PpiNodeItemCodec.SHARD_COUNT_ATTRIBUTE);
+        request.getExpressionAttributeNames().put("#contentHash", PpiNodeItemCodec.CONTENT_HASH_ATTRIBUTE);
+        request.setProjectionExpression("#id, #shardCount, #contentHash");
+
+        Map<String, Map<String, AttributeValue>> items = new HashMap<>();
+        Map<String, AttributeValue> lastEvaluatedKey = null;
+        do {
+            QueryResult result = query(request.withExclusiveStartKey(lastEvaluatedKey));
+            for (Map<String, AttributeValue> item : result.getItems()) {
+                if (!PpiNodeItemCodec.isDictionaryItem(item) && !PpiNodeItemCodec.isShardItem(item)) {
+                    items.put(item.get(PARTITION_KEY_ATTRIBUTE).getS(), item);
+                }
+            }
+            lastEvaluatedKey = result.getLastEvaluatedKey();
+        } while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
+        return items;
+    }
+
+    private static WriteRequest deleteRequest(String datasetId, String id) {
+        return new WriteRequest(new DeleteRequest(itemKey(datasetId, id)));
+    }
+
+    public Optional<PpiNetworkNode> getPpiNetworkNode(String datasetId, String proteinId) {
+        /** Reads a single node, reassembling its neighbor list from any shard items. */
+        Map<String, AttributeValue> baseItem = getItem(
+                new GetItemRequest()
+                        .withTableName(TABLE_NAME)
+                        .withKey(itemKey(datasetId, proteinId)))
+                .getItem();
+        if (baseItem == null) {
+            return Optional.empty();
+        }
+        List<Map<String, AttributeValue>> shardItems = PpiNodeItemCodec.shardCount(baseItem) > 1
+                ? queryItems(datasetId, PpiNodeItemCodec.shardPrefix(proteinId))
+                : Collections.emptyList();
+        return Optional.of(decodeNode(datasetId, baseItem, shardItems));
+    }
+
+    public CompletableFuture<Optional<PpiNetworkNode>> getPpiNetworkNodeAsync(String datasetId, String proteinId) {
+        /**
+         * getPpiNetworkNode without blocking the caller, so that many nodes can be read at once; the shard items of a
+         * large node are queried once its base item is in.
+         */
+        getCodec(datasetId); // Loaded up front, so that only a stale dictionary is reloaded on a callback thread.
+        return asyncClient().getItem(new GetItemRequest()
+                        .withTableName(TABLE_NAME)
+                        .withKey(itemKey(datasetId, proteinId)))
+                .thenCompose(result -> {
+                    Map<String, AttributeValue> baseItem = result.getItem();
+                    if (baseItem == null) {
+                        return CompletableFuture.completedFuture(Optional.<PpiNetworkNode>empty());
+                    }
+                    if (PpiNodeItemCodec.shardCount(baseItem) <= 1) {
+                        return CompletableFuture.completedFuture(
+                                Optional.of(decodeNode(datasetId, baseItem, Collections.emptyList())));
+                    }
+                    return queryItemsAsync(datasetId, PpiNodeItemCodec.shardPrefix(proteinId), null, new ArrayList<>())
+                            .thenApply(shardItems -> Optional.of(decodeNode(datasetId, baseItem, shardItems)));
+                });
+    }
+
+    private CompletableFuture<List<Map<String, AttributeValue>>> queryItemsAsync(
+            String datasetId, String idPrefix, Map<String, AttributeValue> startKey,
+            List<Map<String, AttributeValue>> items) {
+        /** queryItems over the async client: each page is requested once the previous one is in. */
+        return asyncClient().query(datasetQuery(datasetId, Optional.of(idPrefix)).withExclusiveStartKey(startKey))
+                .thenCompose(result -> {
+                    items.addAll(result.getItems());
+                    Map<String, AttributeValue> lastEvaluatedKey = result.getLastEvaluatedKey();
+                    return lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()
+                            ? CompletableFuture.completedFuture(items)
+                            : queryItemsAsync(datasetId, idPrefix, lastEvaluatedKey, items);
+                });
     }
 
-    public void putItems(List<PpiNetworkNode> data, String datasetId) throws AmazonServiceException {
-        DynamoDBMapper mapper = new DynamoDBMapper(ddbClient);
+    public Map<String, PpiNetworkNode> getPpiNetworkNodes(String datasetId, Collection<String> proteinIds,
+                                                          Set<NodeAttribute> attributes) {
+        /** Reads many nodes at once, by id in request order; ids that are not stored are left out. */
         try {
-            for (PpiNetworkNode node : data) {
-                PpiNodeDynamodbWrapper ddbNode = new PpiNodeDynamodbWrapper(datasetId, node.toBuilder());
-                mapper.save(ddbNode);
+            return getPpiNetworkNodesAsync(datasetId, proteinIds, attributes).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Error reading nodes of dataset : " + datasetId, e.getCause());
+        }
+    }
+
+    public CompletableFuture<Map<String, PpiNetworkNode>> getPpiNetworkNodesAsync(
+            String datasetId, Collection<String> proteinIds, Set<NodeAttribute> attributes) {
+        /**
+         * Multi-get over BatchGetItem (see NodeBatchReader), reading only the given attributes. Base items come back
+         * in calls of 100 keys; the shard items of the few nodes too large for one item are queried after.
+         */
+        boolean withNeighbors = attributes.contains(NodeAttribute.NEIGHBORS);
+        if (withNeighbors) {
+            // Without neighbors no index is decoded, so the dataset's dictionary is not needed either.
+            getCodec(datasetId);
+        }
+        return batchReader().getItems(datasetId, proteinIds, attributes).thenCompose(items -> {
+            Map<String, CompletableFuture<PpiNetworkNode>> nodes = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<String, AttributeValue>> item : items.entrySet()) {
+                Map<String, AttributeValue> baseItem = item.getValue();
+                nodes.put(item.getKey(), withNeighbors && PpiNodeItemCodec.shardCount(baseItem) > 1
+                        ? queryItemsAsync(datasetId, PpiNodeItemCodec.shardPrefix(item.getKey()), null,
+                                new ArrayList<>()).thenApply(shardItems -> decodeNode(datasetId, baseItem, shardItems))
+                        : CompletableFuture.completedFuture(
+                                decodeNode(datasetId, baseItem, Collections.emptyList())));
+            }
+            return CompletableFuture.allOf(nodes.values().toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+                Map<String, PpiNetworkNode> result = new LinkedHashMap<>();
+                nodes.forEach((id, node) -> result.put(id, node.join()));
+                return result;
+            });
+        });
+    }
+
+    public Map<String, PpiNetworkNode> expandNeighborhood(String datasetId, Collection<String> seedIds, int hops,
+                                                          int minScore) {
+        /**
+         * Breadth-first expansion from a seed set, one multi-get per hop: hop 1 reads the seeds, hop 2 the neighbors
+         * they reach with at least minScore, and so on. Returns every node read, with its neighbor list only, so the
+         * edges out of the result reach proteins up to the given number of hops away.
+         */
+        Set<NodeAttribute> neighborsOnly = EnumSet.of(NodeAttribute.NEIGHBORS);
+        Map<String, PpiNetworkNode> reached = new LinkedHashMap<>();
+        Set<String> frontier = new LinkedHashSet<>(seedIds);
+        for (int hop = 0; hop < hops && !frontier.isEmpty(); hop++) {
+            Map<String, PpiNetworkNode> nodes = getPpiNetworkNodes(datasetId, frontier, neighborsOnly);
+            reached.putAll(nodes);
+            frontier = new LinkedHashSet<>();
+            for (PpiNetworkNode node : nodes.values()) {
+                for (PpiNetworkNode.Neighbor neighbor : node.getNeighbors()) {
+                    if (neighbor.getScore() >= minScore && !reached.containsKey(neighbor.getId())) {
+                        frontier.add(neighbor.getId());
+                    }
+                }
+            }
+        }
+        return reached;
+    }
+
+    private NodeBatchReader batchReader() {
+        NodeBatchReader reader = batchReader;
+        if (reader == null) {
+            synchronized (this) {
+                if (batchReader == null) {
+                    batchReader = new NodeBatchReader(
+                            asyncClient(), TABLE_NAME, DynamodbBatchWriter.DEFAULT_MAX_RETRIES, metrics);
+                }
+                reader = batchReader;
+            }
+        }
+        return reader;
+    }
+
+    PpiNodeItemCodec getCodec(String datasetId) {
+        /**
+         * Id dictionary of a dataset, loaded once per helper and reused by every read until an item shows it is out
+         * of date (see decodeNode).
+         */
+        return codecs.computeIfAbsent(datasetId, this::loadCodec);
+    }
+
+    void invalidateCodec(String datasetId) {
+        /** Drops the cached id dictionary of a dataset, e.g. after the dataset has been written. */
+        codecs.remove(datasetId);
+    }
+
+    private PpiNetworkNode decodeNode(String datasetId, Map<String, AttributeValue> baseItem,
+                                      List<Map<String, AttributeValue>> shardItems) {
+        /**
+         * Decodes a node with the cached id dictionary of its dataset. A node encoded against a newer dictionary, one
+         * with ids appended by updateItems or written in full since it was cached (possibly by another container),
+         * makes the dictionary be reloaded first. Nodes read without their neighbors need no dictionary at all.
+         */
+        if (!baseItem.containsKey(PpiNodeItemCodec.NEIGHBORS_ATTRIBUTE)) {
+            return PpiNodeItemCodec.withoutNeighbors(baseItem);
+        }
+        PpiNodeItemCodec codec = getCodec(datasetId);
+        if (codec.canDecode(baseItem)) {
+            return codec.fromItems(baseItem, shardItems);
+        }
+        PpiNodeItemCodec reloaded = codecs.compute(
+                datasetId, (id, cached) -> cached == null || cached == codec ? loadCodec(id) : cached);
+        if (!reloaded.canDecode(baseItem)) {
+            throw new IllegalStateException("Node " + baseItem.get(PARTITION_KEY_ATTRIBUTE).getS()
+                    + " does not match the stored id dictionary of dataset : " + datasetId);
+        }
+        return reloaded.fromItems(baseItem, shardItems);
+    }
+
+    private PpiNodeItemCodec loadCodec(String datasetId) {
+        Map<String, AttributeValue> baseItem = null;
+        List<Map<String, AttributeValue>> shardItems = new ArrayList<>();
+        for (Map<String, AttributeValue> item : queryItems(datasetId, PpiNodeItemCodec.DICTIONARY_ID)) {
+            if (PpiNodeItemCodec.isShardItem(item)) {
+                shardItems.add(item);
+            } else {
+                baseItem = item;
             }
-        } catch (AmazonDynamoDBException e) {
-            e.getErrorMessage();
         }
+        if (baseItem == null) {
+            throw new IllegalStateException("No id dictionary stored for dataset : " + datasetId);
+        }
+        return PpiNodeItemCodec.fromDictionaryItems(baseItem, shardItems);
+    }
+
+    private List<Map<String, AttributeValue>> queryItems(String datasetId, String idPrefix) {
+        /** Every item of a dataset whose id starts with the given prefix, across all result pages. */
+        List<Map<String, AttributeValue>> items = new ArrayList<>();
+        Map<String, AttributeValue> lastEvaluatedKey = null;
+        do {
+            QueryResult result = query(
+                    datasetQuery(datasetId, Optional.of(idPrefix)).withExclusiveStartKey(lastEvaluatedKey));
+            items.addAll(result.getItems());
+            lastEvaluatedKey = result.getLastEvaluatedKey();
+        } while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
+        return items;
+    }
+
+    private static QueryRequest datasetQuery(String datasetId, Optional<String> idPrefix) {
+        /** Query over the items of one dataset, optionally only those whose id starts with a prefix. */
+        Map<String, String> names = new HashMap<>();
+        names.put("#dataset", SORT_KEY_ATTRIBUTE);
+        Map<String, AttributeValue> values = new HashMap<>();
+        values.put(":dataset", new AttributeValue(datasetId));
+        String keyCondition = "#dataset = :dataset";
+        if (idPrefix.isPresent()) {
+            names.put("#id", PARTITION_KEY_ATTRIBUTE);
+            values.put(":prefix", new AttributeValue(idPrefix.get()));
+            keyCondition += " AND begins_with(#id, :prefix)";
+        }
+        return new QueryRequest()
+                .withTableName(TABLE_NAME)
+                .withKeyConditionExpression(keyCondition)
+                .withExpressionAttributeNames(names)
+                .withExpressionAttributeValues(values);
+    }
+
+    private DynamodbBatchWriter batchWriter(int concurrency) {
+        return new DynamodbBatchWriter(
+                ddbClient, TABLE_NAME, concurrency, DynamodbBatchWriter.DEFAULT_MAX_RETRIES, logger, metrics);
+    }
+
+    private QueryResult query(QueryRequest request) {
+        try (Metrics.Timer timer = metrics.startTimer("dynamodb.query")) {
+            QueryResult result = ddbClient.query(request.withReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+            DynamodbBatchWriter.recordConsumedCapacity(metrics, READ_CAPACITY_METRIC,
+                    Collections.singletonList(result.getConsumedCapacity()));
+            return result;
+        }
+    }
+
+    private GetItemResult getItem(GetItemRequest request) {
+        try (Metrics.Timer timer = metrics.startTimer("dynamodb.getItem")) {
+            GetItemResult result = ddbClient.getItem(request.withReturnConsumedCapacity(ReturnConsumedCapacity.TOTAL));
+            DynamodbBatchWriter.recordConsumedCapacity(metrics, READ_CAPACITY_METRIC,
+                    Collections.singletonList(result.getConsumedCapacity()));
+            return result;
+        }
+    }
+
+    private static Map<String, AttributeValue> itemKey(String datasetId, String id) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put(SORT_KEY_ATTRIBUTE, new AttributeValue(datasetId));
+        key.put(PARTITION_KEY_ATTRIBUTE, new AttributeValue(id));
+        return key;
+    }
+
+    public long countPpiNetworkNodes(String datasetId) {
+        /**
+         * Number of nodes persisted for a dataset, counted server side without transferring the items. The id
+         * dictionary and shard items are filtered out by the '#' in their ids, which no protein id contains.
+         */
+        QueryRequest request = datasetQuery(datasetId, Optional.empty())
+                .withSelect(Select.COUNT)
+                .withFilterExpression("NOT contains(#id, :separator)");
+        request.getExpressionAttributeNames().put("#id", PARTITION_KEY_ATTRIBUTE);
+        request.getExpressionAttributeValues().put(
+                ":separator", new AttributeValue(String.valueOf(PpiNodeItemCodec.SHARD_SEPARATOR)));
+        long count = 0;
+        Map<String, AttributeValue> lastEvaluatedKey = null;
+        do {
+            QueryResult result = query(request.withExclusiveStartKey(lastEvaluatedKey));
+            count += result.getCount();
+            lastEvaluatedKey = result.getLastEvaluatedKey();
+        } while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
+        return count;
     }
 
     public boolean ppiNetworkDataExists(String datasetID) {
@@ -78,30 +873,23 @@ public class DynamodbHelper {
          * the operations: getting the item and checking its existence in the table
          * both have the same latencies. However, since we don't need to get all the
          * attributes to check for existence, we can maximize throughput by retrieving
-         * only the partition key attribute.
+         * only the partition key attribute. Every stored dataset has an id dictionary
+         * item, so that is the item to look up. Errors are not taken to mean the dataset
+         * is missing: updateItems would then rewrite a stored dataset in full.
          */
-        Map<String, AttributeValue> keyToGet = Collections.singletonMap(
-                SORT_KEY_ATTRIBUTE,
-                new AttributeValue(datasetID));
+        Map<String, AttributeValue> keyToGet = itemKey(datasetID, PpiNodeItemCodec.DICTIONARY_ID);
 
-        try {
-            Map<String, AttributeValue> returnedItem = ddbClient
-                    .getItem(
-                            new GetItemRequest()
-                                    .withKey(keyToGet)
-                                    .withTableName(TABLE_NAME)
-                                    .withProjectionExpression(SORT_KEY_ATTRIBUTE))
-                    .getItem();
-            if (returnedItem != null) {
-                logger.log("Key : " + datasetID + "exists in table " + TABLE_NAME);
-                return true;
-            } else {
-                logger.log("Key : " + datasetID + "does not exist " + TABLE_NAME);
-                return false;
-            }
-        } catch (AmazonServiceException e) {
-            logger.log("Error : " + e.getErrorMessage());
-            // If there's an error retrieving the primary key, assume that the key doesn't exist.
+        Map<String, AttributeValue> returnedItem = getItem(
+                new GetItemRequest()
+                        .withKey(keyToGet)
+                        .withTableName(TABLE_NAME)
+                        .withProjectionExpression(SORT_KEY_ATTRIBUTE))
+                .getItem();
+        if (returnedItem != null) {
+            logger.log("Key : " + datasetID + "exists in table " + TABLE_NAME);
+            return true;
+        } else {
+            logger.log("Key : " + datasetID + "does not exist " + TABLE_NAME);
             return false;
         }
     }
@@ -7,38 +7,123 @@ package com.capstone.aws;
  * @author: Chika Jinanwa
  */
 
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaRuntime;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.capstone.metrics.MetricUnit;
+import com.capstone.metrics.Metrics;
+import com.capstone.ppinetwork.CompactPpiNetwork;
+import com.capstone.ppinetwork.NetworkFileCache;
+import com.capstone.ppinetwork.ParseOptions;
+import com.capstone.ppinetwork.PpiNetworkNode;
 import com.capstone.ppinetwork.PpiNetworkParser;
+import com.capstone.ppinetwork.UndirectedPpiNetwork;
 import com.amazonaws.services.lambda.runtime.LambdaLogger;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Entry point for the Lambda service.
  * Handler value: com.capstone.aws.Handler
+ *
+ * Ingestion events carry "interactionDataUrl" and optionally "accessoryDataUrl", parse options and a "datasetId".
+ * Loads too long for one invocation are checkpointed (see CheckpointedIngestion):
+ *   "checkpoint": "true"   write in chunks, checkpointing after each, and continue in a follow-up invocation of this
+ *                          function before timing out
+ *   "workers": "n"         split the nodes into n key ranges, each written by its own checkpointed invocation
+ *   "chunkNodes", "safetyMarginMillis"  nodes written between checkpoints, and the time left at which to stop
+ *   "action": "ingestionStatus"  report the checkpoints of "datasetId"
+ *
+ * Read events:
+ *   "action": "getNode"    one node, "proteinId", through the container-wide node cache
+ *   "action": "getNodes"   the nodes of comma separated "proteinIds" in batched reads, limited to comma separated
+ *                          NodeAttribute names in "attributes" if given; with "hops" (and optionally "minScore"),
+ *                          the neighbor lists of every node within that many hops of them instead
+ *
+ * Lambda creates one instance per container and reuses it for every warm invocation, so the DynamoDB client, the
+ * helpers built on it and whether the table exists are all kept in this instance rather than rebuilt per invocation.
  */
 public class Handler implements RequestHandler<Map<String,String>, String>{
-    Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private static final long DEFAULT_NODE_CACHE_BYTES = 64L * 1024 * 1024;
+    private static final String METRICS_NAMESPACE = "PpiNetwork";
+    private static final Gson GSON = new Gson();
+
+    private final AmazonDynamoDB ddbClient;
+    private final Optional<IngestionInvoker> invoker;
+    private final AtomicBoolean coldStart = new AtomicBoolean(true);
+    // Kept for the lifetime of the Lambda container, so warm invocations are served from the cache.
+    private DynamodbHelper readHelper;
+    private PpiNodeCache nodeCache;
+    private IngestionInvoker lambdaInvoker;
+    private volatile boolean tableReady;
+
+    public Handler() {
+        /**
+         * Uses the DynamoDB endpoint of the environment and invokes this function itself for follow-ups. Lambda
+         * constructs the handler during the init phase, so the client and the Gson adapters for the responses are
+         * built there, once per container, instead of in the first invocation.
+         */
+        this(DynamodbHelper.defaultClient(), Optional.empty());
+        GSON.getAdapter(PpiNetworkNode.class);
+    }
+
+    public Handler(AmazonDynamoDB ddbClient, IngestionInvoker invoker) {
+        /** For running the handler outside Lambda, e.g. under com.capstone.local.LocalIngestionExecutor. */
+        this(ddbClient, Optional.of(invoker));
+    }
+
+    private Handler(AmazonDynamoDB ddbClient, Optional<IngestionInvoker> invoker) {
+        this.ddbClient = ddbClient;
+        this.invoker = invoker;
+    }
+
     @Override
     public String handleRequest(Map<String, String> event, Context context){
         LambdaLogger logger = context.getLogger();
+        logger.log("EVENT: " + GSON.toJson(event));
 
-        // log execution details
-        logger.log("ENVIRONMENT VARIABLES: " + gson.toJson(System.getenv()));
-        logger.log("CONTEXT: " + gson.toJson(context));
-        // process event
-        logger.log("EVENT: " + gson.toJson(event));
-        logger.log("EVENT TYPE: " + event.getClass());
-
+        // One structured metrics record per invocation replaces dumping the environment and context on every call.
+        String operation = event.get("action") != null ? event.get("action") : "ingest";
+        Metrics metrics = new Metrics();
+        metrics.resetHeapHighWaterMark();
+        metrics.setProperty("requestId", context.getAwsRequestId() == null ? "" : context.getAwsRequestId());
+        metrics.setProperty("coldStart", Boolean.toString(coldStart.getAndSet(false)));
+        try (Metrics.Timer timer = metrics.startTimer("handler.total")) {
+            switch (operation) {
+                case "getNode":
+                    return getNode(event.get("datasetId"), event.get("proteinId"), logger, metrics);
+                case "getNodes":
+                    return getNodes(event, metrics);
+                case "ingestionStatus":
+                    return ingestionStatus(event.get("datasetId"), ddbHelper(context, metrics));
+                case "ingest":
+                    return ingest(event, context, metrics);
+                default:
+                    throw new IllegalArgumentException("Unknown action : " + operation);
+            }
+        } finally {
+            drainReadMetrics(metrics);
+            metrics.recordHeapHighWaterMark();
+            logger.log(metrics.toEmfJson(METRICS_NAMESPACE, Collections.singletonMap("Operation", operation)));
+        }
+    }
 
+    private String ingest(Map<String, String> event, Context context, Metrics metrics) {
+        LambdaLogger logger = context.getLogger();
         URL interactionDataUrl;
         try {
             interactionDataUrl = new URL(event.get("interactionDataUrl"));
@@ -55,14 +140,257 @@ public class Handler implements RequestHandler<Map<String,String>, String>{
         } catch (MalformedURLException e) {
             throw new RuntimeException(e);
         }
+        ParseOptions parseOptions = parseOptions(event);
         try {
-            DynamodbHelper ddbHelper = new DynamodbHelper(context);
-            ddbHelper.createNewTable();
-            ddbHelper.putItems(new PpiNetworkParser().parseProteinData(interactionDataUrl, accessoryDataUrl),
-                    interactionDataUrl + " " + accessoryDataUrl);
-            return "Done putting items in db";
+            // The compact representation keeps the whole network in a few bytes per edge and both files stream in
+            // parallel; an explicit parserMode falls back to building the full object graph with that mode.
+            List<PpiNetworkNode> nodes;
+            if (event.get("parserMode") != null) {
+                PpiNetworkParser parser = new PpiNetworkParser(PpiNetworkParser.Mode.valueOf(event.get("parserMode")));
+                parser.setMetrics(metrics);
+                nodes = parser.parseProteinData(interactionDataUrl, accessoryDataUrl, parseOptions);
+            } else {
+                // Warm containers map the network parsed by an earlier invocation from /tmp instead of downloading it.
+                PpiNetworkParser parser = new PpiNetworkParser(PpiNetworkParser.Mode.PIPELINED);
+                parser.setMetrics(metrics);
+                CompactPpiNetwork network = NetworkFileCache.create()
+                        .load(interactionDataUrl, accessoryDataUrl, parser, parseOptions);
+                if (network instanceof UndirectedPpiNetwork) {
+                    logger.log("UNDIRECTED DEDUP: " + ((UndirectedPpiNetwork) network).getDedupStats());
+                }
+                nodes = network.toNodes();
+            }
+            DynamodbHelper ddbHelper = ddbHelper(context, metrics);
+            ensureTable(ddbHelper, metrics);
+            // An explicit datasetId lets successive STRING releases update one stored dataset in place. The default one
+            // names the parse options as well, so that differently filtered loads of one file are stored apart.
+            String datasetId = event.get("datasetId") != null
+                    ? event.get("datasetId")
+                    : interactionDataUrl + " " + accessoryDataUrl
+                            + (parseOptions.isUnfiltered() && !parseOptions.isUndirected()
+                                    ? "" : " " + parseOptions.cacheKey());
+            metrics.setProperty("datasetId", datasetId);
+            try {
+                if (event.get("workers") != null) {
+                    return fanOut(nodes, datasetId, Integer.parseInt(event.get("workers")), event, context, ddbHelper);
+                }
+                if (event.get("rangeStart") != null || Boolean.parseBoolean(event.get("checkpoint"))) {
+                    return ingestRange(nodes, datasetId, event, context, ddbHelper);
+                }
+                if (Boolean.parseBoolean(event.get("incremental"))) {
+                    DatasetDiff diff;
+                    try (Metrics.Timer timer = metrics.startTimer("dynamodb.updateItems")) {
+                        diff = ddbHelper.updateItems(nodes, datasetId);
+                    }
+                    return "Done updating items in db : " + diff.getAddedNodes() + " added, " + diff.getChangedNodes()
+                            + " changed, " + diff.getDeletedNodes() + " deleted, " + diff.getUnchangedNodes()
+                            + " unchanged, " + diff.getWriteSummary().getItemsFailed() + " failed";
+                }
+                DynamodbBatchWriter.WriteSummary summary;
+                try (Metrics.Timer timer = metrics.startTimer("dynamodb.putItems")) {
+                    summary = ddbHelper.putItems(nodes, datasetId);
+                }
+                return "Done putting items in db : " + summary.getItemsWritten() + " written, "
+                        + summary.getItemsFailed() + " failed";
+            } finally {
+                invalidateReads(datasetId);
+            }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
+
+    private String fanOut(List<PpiNetworkNode> nodes, String datasetId, int workers, Map<String, String> event,
+                          Context context, DynamodbHelper ddbHelper) {
+        /**
+         * Coordinator of a fanned-out ingestion: stores the dictionary and a checkpoint per key range, then starts one
+         * worker invocation per unfinished range. Running it again resumes the unfinished ranges.
+         */
+        List<IngestionCheckpoint> checkpoints = checkpointedIngestion(event, context, ddbHelper)
+                .prepare(nodes, datasetId, KeyRange.split(nodes.size(), workers));
+        int started = 0;
+        for (IngestionCheckpoint checkpoint : checkpoints) {
+            if (checkpoint.isComplete()) {
+                continue;
+            }
+            Map<String, String> workerEvent = new HashMap<>(event);
+            workerEvent.remove("workers");
+            workerEvent.put("datasetId", datasetId);
+            workerEvent.put("rangeStart", Integer.toString(checkpoint.getRange().getStart()));
+            workerEvent.put("rangeEnd", Integer.toString(checkpoint.getRange().getEnd()));
+            invoker(context).invoke(workerEvent);
+            started++;
+        }
+        return "Started " + started + " ingestion workers for " + datasetId + " over " + checkpoints.size()
+                + " key ranges";
+    }
+
+    private String ingestRange(List<PpiNetworkNode> nodes, String datasetId, Map<String, String> event,
+                               Context context, DynamodbHelper ddbHelper) {
+        /**
+         * Writes one key range (the whole dataset without "rangeStart") from its checkpoint on. If time runs out,
+         * the same event is sent to a follow-up invocation, as long as this one made progress.
+         */
+        CheckpointedIngestion ingestion = checkpointedIngestion(event, context, ddbHelper);
+        KeyRange range;
+        if (event.get("rangeStart") != null) {
+            range = KeyRange.create(Integer.parseInt(event.get("rangeStart")), Integer.parseInt(event.get("rangeEnd")));
+        } else {
+            range = KeyRange.create(0, nodes.size());
+            ingestion.prepare(nodes, datasetId, Collections.singletonList(range));
+        }
+        IngestionCheckpoint checkpoint = ingestion.run(nodes, datasetId, range);
+        if (checkpoint.isComplete()) {
+            return "Done putting items in db : " + datasetId + " " + range + " complete";
+        }
+        boolean progressed = ddbHelper.getMetrics().getCounter("ingestion.nodesWritten") > 0;
+        if (progressed && !"false".equals(event.get("continueOnTimeout"))) {
+            Map<String, String> followUp = new HashMap<>(event);
+            followUp.put("datasetId", datasetId);
+            invoker(context).invoke(followUp);
+            return "Checkpointed " + datasetId + " " + range + " at node " + checkpoint.getNextNode()
+                    + ", continuing in a follow-up invocation";
+        }
+        return "Stopped " + datasetId + " " + range + " at node " + checkpoint.getNextNode()
+                + "; send the same event again to resume";
+    }
+
+    private static CheckpointedIngestion checkpointedIngestion(Map<String, String> event, Context context,
+                                                               DynamodbHelper ddbHelper) {
+        CheckpointedIngestion.Builder ingestion = new CheckpointedIngestion.Builder(ddbHelper, context.getLogger())
+                .setRemainingMillis(context::getRemainingTimeInMillis);
+        if (event.get("chunkNodes") != null) {
+            ingestion.setChunkNodes(Integer.parseInt(event.get("chunkNodes")));
+        }
+        if (event.get("safetyMarginMillis") != null) {
+            ingestion.setSafetyMarginMillis(Long.parseLong(event.get("safetyMarginMillis")));
+        }
+        return ingestion.build();
+    }
+
+    private static String ingestionStatus(String datasetId, DynamodbHelper ddbHelper) {
+        List<IngestionCheckpoint> checkpoints = ddbHelper.getCheckpoints(datasetId);
+        long remaining = 0;
+        int complete = 0;
+        for (IngestionCheckpoint checkpoint : checkpoints) {
+            remaining += checkpoint.getRemainingNodes();
+            complete += checkpoint.isComplete() ? 1 : 0;
+        }
+        return datasetId + " : " + complete + " of " + checkpoints.size() + " key ranges complete, " + remaining
+                + " nodes remaining";
+    }
+
+    private DynamodbHelper ddbHelper(Context context, Metrics metrics) {
+        /** Per-invocation helper, for the invocation's logger and metrics, over the container's client. */
+        return new DynamodbHelper(context.getLogger(), ddbClient, metrics);
+    }
+
+    private void ensureTable(DynamodbHelper ddbHelper, Metrics metrics) {
+        /** Checks for the table on the container's first ingestion only; a table is not deleted under a live loader. */
+        if (tableReady) {
+            return;
+        }
+        try (Metrics.Timer timer = metrics.startTimer("dynamodb.ensureTable")) {
+            ddbHelper.createTableIfNotExists();
+        }
+        tableReady = true;
+    }
+
+    private synchronized IngestionInvoker invoker(Context context) {
+        if (invoker.isPresent()) {
+            return invoker.get();
+        }
+        if (lambdaInvoker == null) {
+            lambdaInvoker = new LambdaIngestionInvoker(context.getInvokedFunctionArn());
+        }
+        return lambdaInvoker;
+    }
+
+    private static ParseOptions parseOptions(Map<String, String> event) {
+        /**
+         * Optional edge filters: "minScore", "topK" and a comma-separated "allowlist" of protein ids; "undirected"
+         * stores each symmetric interaction once while parsing.
+         */
+        ParseOptions.Builder options = new ParseOptions.Builder();
+        if (event.get("minScore") != null) {
+            options.setMinScore(Integer.parseInt(event.get("minScore")));
+        }
+        if (event.get("topK") != null) {
+            options.setTopK(Integer.parseInt(event.get("topK")));
+        }
+        if (event.get("allowlist") != null) {
+            options.setAllowlist(new HashSet<>(Arrays.asList(event.get("allowlist").split(","))));
+        }
+        options.setUndirected(Boolean.parseBoolean(event.get("undirected")));
+        return options.build();
+    }
+
+    private String getNode(String datasetId, String proteinId, LambdaLogger logger, Metrics metrics) {
+        /** Looks up a single stored node through the container-wide cache. */
+        PpiNodeCache cache = getNodeCache();
+        Optional<PpiNetworkNode> node = cache.getPpiNetworkNode(datasetId, proteinId);
+        // The cache outlives invocations, so these are container lifetime totals.
+        metrics.setGauge("nodeCache.hits", cache.getHitCount(), MetricUnit.COUNT);
+        metrics.setGauge("nodeCache.misses", cache.getMissCount(), MetricUnit.COUNT);
+        metrics.setGauge("nodeCache.evictions", cache.getEvictionCount(), MetricUnit.COUNT);
+        return node.isPresent() ? GSON.toJson(node.get()) : "Node " + proteinId + " not found in " + datasetId;
+    }
+
+    private String getNodes(Map<String, String> event, Metrics metrics) {
+        /** Batched multi-get or neighborhood expansion; concurrent reads of the same nodes share their fetches. */
+        String datasetId = event.get("datasetId");
+        List<String> proteinIds = Arrays.asList(event.get("proteinIds").split(","));
+        Map<String, PpiNetworkNode> nodes;
+        try (Metrics.Timer timer = metrics.startTimer("handler.getNodes")) {
+            nodes = event.get("hops") != null
+                    ? getReadHelper().expandNeighborhood(datasetId, proteinIds, Integer.parseInt(event.get("hops")),
+                            event.get("minScore") != null ? Integer.parseInt(event.get("minScore")) : 0)
+                    : getReadHelper().getPpiNetworkNodes(
+                            datasetId, proteinIds, NodeAttribute.parse(event.get("attributes")));
+        }
+        metrics.add("handler.nodesRead", nodes.size(), MetricUnit.COUNT);
+        return GSON.toJson(nodes.values());
+    }
+
+    private synchronized DynamodbHelper getReadHelper() {
+        /** One helper for every read in the container, so its codecs, clients and in-flight fetches are shared. */
+        if (readHelper == null) {
+            readHelper = new DynamodbHelper(LambdaRuntime.getLogger(), ddbClient);
+        }
+        return readHelper;
+    }
+
+    private synchronized void drainReadMetrics(Metrics metrics) {
+        /**
+         * The read helper outlives invocations, so what it recorded (latencies, capacity, batched keys, retries) is
+         * moved into the metrics of the invocation that caused it.
+         */
+        if (readHelper != null) {
+            readHelper.getMetrics().drainTo(metrics);
+        }
+    }
+
+    private synchronized void invalidateReads(String datasetId) {
+        /** Drops what this container has cached of a dataset it wrote, so its next reads see the new items. */
+        if (nodeCache != null) {
+            nodeCache.invalidateDataset(datasetId);
+        }
+        if (readHelper != null) {
+            readHelper.invalidateCodec(datasetId);
+        }
+    }
+
+    private synchronized PpiNodeCache getNodeCache() {
+        if (nodeCache == null) {
+            String maximumBytes = System.getenv("PPI_NODE_CACHE_BYTES");
+            String timeToLiveSeconds = System.getenv("PPI_NODE_CACHE_TTL_SECONDS");
+            nodeCache = new PpiNodeCache(
+                    getReadHelper(),
+                    maximumBytes != null ? Long.parseLong(maximumBytes) : DEFAULT_NODE_CACHE_BYTES,
+                    timeToLiveSeconds != null
+                            ? Optional.of(Duration.ofSeconds(Long.parseLong(timeToLiveSeconds)))
+                            : Optional.empty());
+        }
+        return nodeCache;
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * IngestionCheckpoint
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.google.auto.value.AutoValue;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Progress of a checkpointed ingestion over one key range of a dataset. Every node before getNextNode() has been
+ * fully written, shards included; nodes from there on may or may not have been. The parse cannot be resumed halfway
+ * through a gzip stream, so what is kept of it is its outcome: the node count and a fingerprint of the parsed
+ * network, which a resuming invocation checks its own parse against before trusting the offset.
+ *
+ * Checkpoints live in PPI_NETWORK_TABLE under their own partition, "&lt;datasetId&gt;#checkpoints", so that reads of
+ * the dataset itself never see them:
+ *
+ * <pre>
+ *   ("1280 release#checkpoints", "range#0-1500")  rangeStart, rangeEnd, nextNode, nodeCount, networkFingerprint,
+ *                                                  itemsWritten, updatedAt
+ * </pre>
+ */
+@AutoValue
+public abstract class IngestionCheckpoint {
+    static final String PARTITION_SUFFIX = "#checkpoints";
+    static final String RANGE_START_ATTRIBUTE = "rangeStart";
+    static final String RANGE_END_ATTRIBUTE = "rangeEnd";
+    static final String NEXT_NODE_ATTRIBUTE = "nextNode";
+    static final String NODE_COUNT_ATTRIBUTE = "nodeCount";
+    static final String NETWORK_FINGERPRINT_ATTRIBUTE = "networkFingerprint";
+    static final String ITEMS_WRITTEN_ATTRIBUTE = "itemsWritten";
+    static final String UPDATED_AT_ATTRIBUTE = "updatedAt";
+
+    static IngestionCheckpoint create(String datasetId, KeyRange range, int nextNode, int nodeCount,
+                                      String networkFingerprint, long itemsWritten) {
+        return new AutoValue_IngestionCheckpoint(
+                datasetId, range, nextNode, nodeCount, networkFingerprint, itemsWritten, System.currentTimeMillis());
+    }
+
+    public abstract String getDatasetId();
+    public abstract KeyRange getRange();
+    public abstract int getNextNode();
+    public abstract int getNodeCount();
+    public abstract String getNetworkFingerprint();
+    public abstract long getItemsWritten();
+    public abstract long getUpdatedAtMillis();
+
+    public boolean isComplete() {
+        return getNextNode() >= getRange().getEnd();
+    }
+
+    public int getRemainingNodes() {
+        return getRange().getEnd() - getNextNode();
+    }
+
+    IngestionCheckpoint advance(int nextNode, long itemsWritten) {
+        return create(getDatasetId(), getRange(), nextNode, getNodeCount(), getNetworkFingerprint(),
+                getItemsWritten() + itemsWritten);
+    }
+
+    boolean matches(List<PpiNetworkNode> nodes, String networkFingerprint) {
+        /** Whether this checkpoint was taken over the same parsed network, so that its offset still applies. */
+        return getNodeCount() == nodes.size() && getNetworkFingerprint().equals(networkFingerprint);
+    }
+
+    static String networkFingerprint(List<PpiNetworkNode> nodes) {
+        /**
+         * Murmur3 hash of every node id and degree, in order. Cheap next to a content hash of every edge, and enough to
+         * tell that a re-parse produced the same node order, which is all that offsets into it depend on.
+         */
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putInt(nodes.size());
+        for (PpiNetworkNode node : nodes) {
+            hasher.putInt(node.getId().length()).putString(node.getId(), StandardCharsets.UTF_8);
+            hasher.putInt(node.getNeighbors().size());
+        }
+        return hasher.hash().toString();
+    }
+
+    static String partitionKey(String datasetId) {
+        return datasetId + PARTITION_SUFFIX;
+    }
+
+    static String itemId(KeyRange range) {
+        return "range#" + range.getStart() + "-" + range.getEnd();
+    }
+
+    Map<String, AttributeValue> toItem() {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put(PpiNodeItemCodec.DATASET_ID_ATTRIBUTE, new AttributeValue(partitionKey(getDatasetId())));
+        item.put(PpiNodeItemCodec.ID_ATTRIBUTE, new AttributeValue(itemId(getRange())));
+        item.put(RANGE_START_ATTRIBUTE, number(getRange().getStart()));
+        item.put(RANGE_END_ATTRIBUTE, number(getRange().getEnd()));
+        item.put(NEXT_NODE_ATTRIBUTE, number(getNextNode()));
+        item.put(NODE_COUNT_ATTRIBUTE, number(getNodeCount()));
+        item.put(NETWORK_FINGERPRINT_ATTRIBUTE, new AttributeValue(getNetworkFingerprint()));
+        item.put(ITEMS_WRITTEN_ATTRIBUTE, number(getItemsWritten()));
+        item.put(UPDATED_AT_ATTRIBUTE, number(getUpdatedAtMillis()));
+        return item;
+    }
+
+    static IngestionCheckpoint fromItem(String datasetId, Map<String, AttributeValue> item) {
+        return new AutoValue_IngestionCheckpoint(
+                datasetId,
+                KeyRange.create(intValue(item, RANGE_START_ATTRIBUTE), intValue(item, RANGE_END_ATTRIBUTE)),
+                intValue(item, NEXT_NODE_ATTRIBUTE),
+                intValue(item, NODE_COUNT_ATTRIBUTE),
+                item.get(NETWORK_FINGERPRINT_ATTRIBUTE).getS(),
+                Long.parseLong(item.get(ITEMS_WRITTEN_ATTRIBUTE).getN()),
+                Long.parseLong(item.get(UPDATED_AT_ATTRIBUTE).getN()));
+    }
+
+    private static AttributeValue number(long value) {
+        return new AttributeValue().withN(Long.toString(value));
+    }
+
+    private static int intValue(Map<String, AttributeValue> item, String attribute) {
+        return Integer.parseInt(item.get(attribute).getN());
+    }
+}
@@ -0,0 +1,19 @@
+/*
+ * IngestionInvoker
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import java.util.Map;
+
+/**
+ * Starts another ingestion invocation without waiting for it: a worker for one key range of a fanned-out ingestion,
+ * or the follow-up of an invocation that checkpointed before timing out. LambdaIngestionInvoker invokes the deployed
+ * function asynchronously; com.capstone.local.LocalIngestionExecutor runs the Handler in-process instead.
+ */
+public interface IngestionInvoker {
+    void invoke(Map<String, String> event);
+}
@@ -0,0 +1,47 @@
+/*
+ * KeyRange
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.google.auto.value.AutoValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Slice [start, end) of a dataset's nodes in id order. Parsed networks list their nodes sorted by id, so a range
+ * names the same proteins in every invocation that parses the same release.
+ */
+@AutoValue
+public abstract class KeyRange {
+    public static KeyRange create(int start, int end) {
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException("Invalid key range [" + start + ", " + end + ")");
+        }
+        return new AutoValue_KeyRange(start, end);
+    }
+
+    public static List<KeyRange> split(int nodeCount, int parts) {
+        /** Splits [0, nodeCount) into at most the given number of contiguous ranges whose sizes differ by at most 1. */
+        if (parts < 1) {
+            throw new IllegalArgumentException("Parts must be at least 1");
+        }
+        int count = Math.max(1, Math.min(parts, nodeCount));
+        List<KeyRange> ranges = new ArrayList<>(count);
+        for (int part = 0; part < count; part++) {
+            ranges.add(create((int) ((long) nodeCount * part / count), (int) ((long) nodeCount * (part + 1) / count)));
+        }
+        return ranges;
+    }
+
+    public abstract int getStart();
+    public abstract int getEnd();
+
+    public int size() {
+        return getEnd() - getStart();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * LambdaIngestionInvoker
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.amazonaws.services.lambda.AWSLambda;
+import com.amazonaws.services.lambda.AWSLambdaClientBuilder;
+import com.amazonaws.services.lambda.model.InvocationType;
+import com.amazonaws.services.lambda.model.InvokeRequest;
+import com.google.gson.Gson;
+
+import java.util.Map;
+
+/**
+ * Invokes a Lambda function asynchronously (InvocationType.Event) with an ingestion event. Lambda queues the event
+ * and retries it on failure, so the calling invocation can return right away.
+ * Reference: https://docs.aws.amazon.com/lambda/latest/dg/invocation-async.html
+ */
+public class LambdaIngestionInvoker implements IngestionInvoker {
+    private final AWSLambda lambdaClient;
+    private final String functionName;
+    private final Gson gson = new Gson();
+
+    public LambdaIngestionInvoker(String functionName) {
+        this(AWSLambdaClientBuilder.defaultClient(), functionName);
+    }
+
+    public LambdaIngestionInvoker(AWSLambda lambdaClient, String functionName) {
+        /** @param functionName Name or ARN of the function, e.g. Context.getInvokedFunctionArn() to invoke itself. */
+        this.lambdaClient = lambdaClient;
+        this.functionName = functionName;
+    }
+
+    @Override
+    public void invoke(Map<String, String> event) {
+        lambdaClient.invoke(new InvokeRequest()
+                .withFunctionName(functionName)
+                .withInvocationType(InvocationType.Event)
+                .withPayload(gson.toJson(event)));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * NodeAttribute
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Optional attributes of a stored node, for reads that only need some of them: DynamoDB charges reads by the bytes
+ * returned, so a neighbor expansion that skips names and annotations reads less. A node's id is always returned;
+ * attributes left out of a read are null on the returned node, and its neighbor list is empty.
+ */
+public enum NodeAttribute {
+    PREFERRED_NAME(PpiNodeItemCodec.PREFERRED_NAME_ATTRIBUTE),
+    PROTEIN_SIZE(PpiNodeItemCodec.PROTEIN_SIZE_ATTRIBUTE),
+    ANNOTATION(PpiNodeItemCodec.ANNOTATION_ATTRIBUTE),
+    NEIGHBORS(PpiNodeItemCodec.NEIGHBORS_ATTRIBUTE);
+
+    public static final Set<NodeAttribute> ALL = Collections.unmodifiableSet(EnumSet.allOf(NodeAttribute.class));
+
+    private final String itemAttribute;
+
+    NodeAttribute(String itemAttribute) {
+        this.itemAttribute = itemAttribute;
+    }
+
+    String getItemAttribute() {
+        return itemAttribute;
+    }
+
+    public static Set<NodeAttribute> parse(String names) {
+        /** Comma separated constant names, e.g. "NEIGHBORS,PREFERRED_NAME"; every attribute when null. */
+        if (names == null) {
+            return ALL;
+        }
+        EnumSet<NodeAttribute> attributes = EnumSet.noneOf(NodeAttribute.class);
+        for (String name : names.split(",")) {
+            if (!name.trim().isEmpty()) {
+                attributes.add(valueOf(name.trim()));
+            }
+        }
+        return attributes;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * NodeBatchReader
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.capstone.metrics.MetricUnit;
+import com.capstone.metrics.Metrics;
+import com.google.auto.value.AutoValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads the base items of many nodes with BatchGetItem: ids are deduplicated, split into calls of up to 100 keys
+ * that all run at once on an AsyncDynamodbClient, and keys DynamoDB leaves unprocessed are retried after a jittered
+ * exponential delay. Only the requested attributes are read back.
+ *
+ * Reads are coalesced: while an item is being fetched, another caller asking for the same item with the same
+ * attributes waits on that fetch instead of issuing its own, so overlapping expansions from concurrent requests read
+ * each item once. Nothing is cached once a fetch completes; PpiNodeCache does that.
+ */
+class NodeBatchReader {
+    static final int MAX_BATCH_KEYS = 100;
+
+    private final AsyncDynamodbClient client;
+    private final String tableName;
+    private final int maxRetries;
+    private final Metrics metrics;
+    private final ConcurrentMap<FetchKey, CompletableFuture<Map<String, AttributeValue>>> inFlight =
+            new ConcurrentHashMap<>();
+
+    NodeBatchReader(AsyncDynamodbClient client, String tableName, int maxRetries, Metrics metrics) {
+        this.client = client;
+        this.tableName = tableName;
+        this.maxRetries = maxRetries;
+        this.metrics = metrics;
+    }
+
+    CompletableFuture<Map<String, Map<String, AttributeValue>>> getItems(String datasetId, Collection<String> ids,
+                                                                        Set<NodeAttribute> attributes) {
+        /** Base items of the given ids, by id in request order; ids without a stored item are left out. */
+        Set<NodeAttribute> projection = EnumSet.noneOf(NodeAttribute.class);
+        projection.addAll(attributes);
+        Map<String, CompletableFuture<Map<String, AttributeValue>>> fetches = new LinkedHashMap<>();
+        List<String> toFetch = new ArrayList<>();
+        int coalesced = 0;
+        for (String id : ids) {
+            if (fetches.containsKey(id)) {
+                continue;
+            }
+            FetchKey key = FetchKey.create(datasetId, id, projection);
+            CompletableFuture<Map<String, AttributeValue>> fetch = new CompletableFuture<>();
+            CompletableFuture<Map<String, AttributeValue>> existing = inFlight.putIfAbsent(key, fetch);
+            if (existing != null) {
+                fetches.put(id, existing);
+                coalesced++;
+                continue;
+            }
+            fetch.whenComplete((item, error) -> inFlight.remove(key, fetch));
+            fetches.put(id, fetch);
+            toFetch.add(id);
+        }
+        metrics.add("dynamodb.batchGet.keys", toFetch.size(), MetricUnit.COUNT);
+        metrics.add("dynamodb.batchGet.coalescedKeys", coalesced, MetricUnit.COUNT);
+
+        for (int from = 0; from < toFetch.size(); from += MAX_BATCH_KEYS) {
+            Map<String, CompletableFuture<Map<String, AttributeValue>>> batch = new LinkedHashMap<>();
+            for (String id : toFetch.subList(from, Math.min(toFetch.size(), from + MAX_BATCH_KEYS))) {
+                batch.put(id, fetches.get(id));
+            }
+            fetchBatch(datasetId, projection, batch, 0);
+        }
+        return CompletableFuture.allOf(fetches.values().toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            Map<String, Map<String, AttributeValue>> items = new LinkedHashMap<>();
+            for (Map.Entry<String, CompletableFuture<Map<String, AttributeValue>>> fetch : fetches.entrySet()) {
+                Map<String, AttributeValue> item = fetch.getValue().join();
+                if (item != null) {
+                    items.put(fetch.getKey(), item);
+                }
+            }
+            return items;
+        });
+    }
+
+    private void fetchBatch(String datasetId, Set<NodeAttribute> attributes,
+                            Map<String, CompletableFuture<Map<String, AttributeValue>>> pending, int attempt) {
+        /** One BatchGetItem call; completes the future of every key it settles and retries the rest. */
+        List<Map<String, AttributeValue>> keys = new ArrayList<>(pending.size());
+        for (String id : pending.keySet()) {
+            keys.add(itemKey(datasetId, id));
+        }
+        CompletableFuture<BatchGetItemResult> call;
+        try {
+            call = client.batchGetItem(new BatchGetItemRequest()
+                    .withRequestItems(Collections.singletonMap(tableName, projection(attributes).withKeys(keys))));
+        } catch (RuntimeException e) {
+            // E.g. rejected by a closed client: fail the waiting callers, which also clears their in-flight entries.
+            pending.values().forEach(fetch -> fetch.completeExceptionally(e));
+            return;
+        }
+        call.whenComplete((result, error) -> {
+            Map<String, CompletableFuture<Map<String, AttributeValue>>> unprocessed = new LinkedHashMap<>();
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                if (!(cause instanceof AmazonServiceException)
+                        || !DynamodbBatchWriter.isRetryable((AmazonServiceException) cause)
+                        || attempt >= maxRetries) {
+                    pending.values().forEach(fetch -> fetch.completeExceptionally(cause));
+                    return;
+                }
+                metrics.increment("dynamodb.throttles");
+                unprocessed = pending;
+            } else {
+                Map<String, CompletableFuture<Map<String, AttributeValue>>> unsettled =
+                        new LinkedHashMap<>(pending);
+                for (Map<String, AttributeValue> item
+                        : result.getResponses().getOrDefault(tableName, Collections.emptyList())) {
+                    CompletableFuture<Map<String, AttributeValue>> fetch =
+                            unsettled.remove(item.get(PpiNodeItemCodec.ID_ATTRIBUTE).getS());
+                    if (fetch != null) {
+                        fetch.complete(item);
+                    }
+                }
+                KeysAndAttributes unprocessedKeys = result.getUnprocessedKeys() == null
+                        ? null
+                        : result.getUnprocessedKeys().get(tableName);
+                if (unprocessedKeys != null) {
+                    for (Map<String, AttributeValue> key : unprocessedKeys.getKeys()) {
+                        String id = key.get(PpiNodeItemCodec.ID_ATTRIBUTE).getS();
+                        CompletableFuture<Map<String, AttributeValue>> fetch = unsettled.remove(id);
+                        if (fetch != null) {
+                            unprocessed.put(id, fetch);
+                        }
+                    }
+                }
+                // Neither returned nor unprocessed: no item is stored under that key.
+                unsettled.values().forEach(fetch -> fetch.complete(null));
+                if (unprocessed.isEmpty()) {
+                    return;
+                }
+                metrics.add("dynamodb.unprocessedKeys", unprocessed.size(), MetricUnit.COUNT);
+                if (attempt >= maxRetries) {
+                    IllegalStateException failure = new IllegalStateException(unprocessed.size()
+                            + " keys of dataset " + datasetId + " still unprocessed after " + attempt
+                            + " retries");
+                    unprocessed.values().forEach(fetch -> fetch.completeExceptionally(failure));
+                    return;
+                }
+            }
+            metrics.increment("dynamodb.retries");
+            Map<String, CompletableFuture<Map<String, AttributeValue>>> retry = unprocessed;
+            long delay = ThreadLocalRandom.current().nextLong(
+                    DynamodbBatchWriter.backoffCapMillis(attempt) + 1);
+            client.delayedExecutor(delay, TimeUnit.MILLISECONDS)
+                    .execute(() -> fetchBatch(datasetId, attributes, retry, attempt + 1));
+        });
+    }
+
+    private static KeysAndAttributes projection(Set<NodeAttribute> attributes) {
+        /**
+         * Keys are always read. The neighbors come with their shard count, as they may continue in shard items, and
+         * with the generation and size of the id dictionary they were encoded against.
+         */
+        Map<String, String> names = new HashMap<>();
+        List<String> projected = new ArrayList<>();
+        names.put("#id", PpiNodeItemCodec.ID_ATTRIBUTE);
+        names.put("#dataset", PpiNodeItemCodec.DATASET_ID_ATTRIBUTE);
+        projected.add("#id");
+        projected.add("#dataset");
+        for (NodeAttribute attribute : attributes) {
+            String name = "#a" + attribute.ordinal();
+            names.put(name, attribute.getItemAttribute());
+            projected.add(name);
+        }
+        if (attributes.contains(NodeAttribute.NEIGHBORS)) {
+            names.put("#shards", PpiNodeItemCodec.SHARD_COUNT_ATTRIBUTE);
+            projected.add("#shards");
+            names.put("#generation", PpiNodeItemCodec.DICTIONARY_GENERATION_ATTRIBUTE);
+            projected.add("#generation");
+            names.put("#dictionarySize", PpiNodeItemCodec.DICTIONARY_SIZE_ATTRIBUTE);
+            projected.add("#dictionarySize");
+        }
+        return new KeysAndAttributes()
+                .withProjectionExpression(String.join(", ", projected))
+                .withExpressionAttributeNames(names);
+    }
+
+    private static Map<String, AttributeValue> itemKey(String datasetId, String id) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put(PpiNodeItemCodec.DATASET_ID_ATTRIBUTE, new AttributeValue(datasetId));
+        key.put(PpiNodeItemCodec.ID_ATTRIBUTE, new AttributeValue(id));
+        return key;
+    }
+
+    /** Identity of a fetch: the same item read with a different projection is a different fetch. */
+    @AutoValue
+    abstract static class FetchKey {
+        static FetchKey create(String datasetId, String id, Set<NodeAttribute> attributes) {
+            return new AutoValue_NodeBatchReader_FetchKey(datasetId, id, attributes);
+        }
+
+        abstract String getDatasetId();
+
+        abstract String getId();
+
+        abstract Set<NodeAttribute> getAttributes();
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * PpiNetworkPage
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.google.auto.value.AutoValue;
+
+import java.util.Map;
+import java.util.Optional;
+
+/** One page of a stored network, with the token to pass back in to read the next page. */
+@AutoValue
+public abstract class PpiNetworkPage {
+    static PpiNetworkPage create(Map<String, PpiNetworkNode> nodes, Optional<String> paginationToken) {
+        return new AutoValue_PpiNetworkPage(nodes, paginationToken);
+    }
+
+    public abstract Map<String, PpiNetworkNode> getNodes();
+    public abstract Optional<String> getPaginationToken(); // Empty once the last page has been read.
+}
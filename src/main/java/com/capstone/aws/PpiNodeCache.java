@@ -0,0 +1,147 @@
+/*
+ * PpiNodeCache
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.google.auto.value.AutoValue;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-through cache in front of DynamodbHelper node lookups, keyed by (datasetId, protein id).
+ * The cache is bounded by the estimated heap size of the cached nodes rather than their number, since a hub protein can
+ * weigh as much as thousands of leaf proteins; least recently used nodes are evicted first. Lookups of proteins that
+ * are not stored are cached too, so repeated misses don't go back to DynamoDB either, but only for a short while
+ * (missTimeToLive), so that a protein written after it was looked up shows up even without a time to live.
+ * Reference: https://github.com/google/guava/wiki/CachesExplained
+ */
+public class PpiNodeCache {
+    private static final int NODE_OVERHEAD_BYTES = 96;    // Node, builder fields and list headers.
+    private static final int NEIGHBOR_BYTES = 48;         // Neighbor, boxed score and list slot; ids are shared.
+    public static final Duration DEFAULT_MISS_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private final LoadingCache<NodeKey, CachedNode> cache;
+    private final long missTimeToLiveNanos;
+
+    public PpiNodeCache(DynamodbHelper ddbHelper, long maximumBytes, Optional<Duration> timeToLive) {
+        this(ddbHelper, maximumBytes, timeToLive, DEFAULT_MISS_TIME_TO_LIVE);
+    }
+
+    public PpiNodeCache(DynamodbHelper ddbHelper, long maximumBytes, Optional<Duration> timeToLive,
+                        Duration missTimeToLive) {
+        /**
+         * @param timeToLive
+         *            How long any entry is kept; forever (until evicted or invalidated) when empty.
+         * @param missTimeToLive
+         *            How long a lookup of a protein that is not stored is kept.
+         */
+        CacheBuilder<NodeKey, CachedNode> builder = CacheBuilder.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((NodeKey key, CachedNode node) -> estimateBytes(key, node.getNode()))
+                .recordStats();
+        if (timeToLive.isPresent()) {
+            builder.expireAfterWrite(timeToLive.get().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        this.cache = builder.build(new CacheLoader<NodeKey, CachedNode>() {
+            @Override
+            public CachedNode load(NodeKey key) {
+                return CachedNode.create(
+                        ddbHelper.getPpiNetworkNode(key.getDatasetId(), key.getProteinId()), System.nanoTime());
+            }
+        });
+        this.missTimeToLiveNanos = missTimeToLive.toNanos();
+    }
+
+    public Optional<PpiNetworkNode> getPpiNetworkNode(String datasetId, String proteinId) {
+        NodeKey key = NodeKey.create(datasetId, proteinId);
+        try {
+            CachedNode cached = cache.get(key);
+            if (!cached.getNode().isPresent() && System.nanoTime() - cached.getLoadedNanos() > missTimeToLiveNanos) {
+                // Only drops the stale miss, not a fresh entry another thread loaded in the meantime.
+                cache.asMap().remove(key, cached);
+                cached = cache.get(key);
+            }
+            return cached.getNode();
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Error loading node : " + proteinId, e.getCause());
+        }
+    }
+
+    public void invalidateDataset(String datasetId) {
+        /** Drops every cached node of a dataset, e.g. after the dataset has been rewritten. */
+        cache.asMap().keySet().removeIf(key -> key.getDatasetId().equals(datasetId));
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    static int estimateBytes(NodeKey key, Optional<PpiNetworkNode> node) {
+        /** Rough heap footprint of a cache entry; Strings are counted at two bytes per char. */
+        long bytes = NODE_OVERHEAD_BYTES + 2L * (key.getDatasetId().length() + key.getProteinId().length());
+        if (node.isPresent()) {
+            PpiNetworkNode value = node.get();
+            bytes += 2L * (length(value.getPreferredName()) + length(value.getAnnotation()));
+            bytes += (long) NEIGHBOR_BYTES * value.getNeighbors().size();
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /** Cache key: a protein within one stored dataset. */
+    @AutoValue
+    abstract static class NodeKey {
+        static NodeKey create(String datasetId, String proteinId) {
+            return new AutoValue_PpiNodeCache_NodeKey(datasetId, proteinId);
+        }
+
+        abstract String getDatasetId();
+        abstract String getProteinId();
+    }
+
+    /** Cache value: the node, or its absence, as loaded at the given System.nanoTime(). */
+    @AutoValue
+    abstract static class CachedNode {
+        static CachedNode create(Optional<PpiNetworkNode> node, long loadedNanos) {
+            return new AutoValue_PpiNodeCache_CachedNode(node, loadedNanos);
+        }
+
+        abstract Optional<PpiNetworkNode> getNode();
+        abstract long getLoadedNanos();
+    }
+}
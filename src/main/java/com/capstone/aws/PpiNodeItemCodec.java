@@ -0,0 +1,369 @@
+/*
+ * PpiNodeItemCodec
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.PpiNetworkNode.Neighbor;
+import com.capstone.ppinetwork.encoding.ByteReader;
+import com.capstone.ppinetwork.encoding.ByteWriter;
+import com.capstone.ppinetwork.encoding.NeighborListEncoding;
+import com.capstone.ppinetwork.encoding.TaxonPrefixDictionary;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Storage layout of a dataset in PPI_NETWORK_TABLE.
+ *
+ * <p>Every protein id of a dataset is stored once, in a dictionary item encoded with a TaxonPrefixDictionary, and
+ * neighbor lists reference proteins by their dictionary index. A node's neighbors are packed into a single binary
+ * attribute in NeighborListEncoding: varint gaps between sorted indices, then every score exactly, in two bytes, so
+ * that minimum score filters on read see the scores STRING published. Binary payloads that do not fit in one item
+ * (DynamoDB caps items at 400 KB) are cut into numbered shard items under the same datasetId and concatenated again on
+ * read:
+ *
+ * <pre>
+ *   (datasetId, "#dictionary")     ids = chunk 0,       shardCount = n, generation
+ *   (datasetId, "#dictionary#1")   ids = chunk 1
+ *   (datasetId, "1280.SAXN108_0001")  preferredName, proteinSize, annotation, neighbors = chunk 0, shardCount = n,
+ *                                     contentHash, dictionaryGeneration, dictionarySize
+ *   (datasetId, "1280.SAXN108_0001#1")  neighbors = chunk 1
+ * </pre>
+ *
+ * The dictionary only ever grows by appending, so indices stored in existing items stay valid. A full write starts a
+ * new dictionary with a new random generation; node items record the generation and size of the dictionary they were
+ * encoded against, so a reader holding a cached dictionary can tell when it is out of date. Base items carry a
+ * hash of the node's content, independent of dictionary indices, so a new release can be diffed against the stored
+ * dataset without reading the neighbor lists back.
+ * Reference: https://docs.aws.amazon.com/amazondynamodb/latest/developerguide/bp-use-s3-too.html
+ */
+class PpiNodeItemCodec {
+    static final String ID_ATTRIBUTE = "id";
+    static final String DATASET_ID_ATTRIBUTE = "datasetId";
+    static final String PREFERRED_NAME_ATTRIBUTE = "preferredName";
+    static final String PROTEIN_SIZE_ATTRIBUTE = "proteinSize";
+    static final String ANNOTATION_ATTRIBUTE = "annotation";
+    static final String NEIGHBORS_ATTRIBUTE = "neighbors";
+    static final String IDS_ATTRIBUTE = "ids";
+    static final String SHARD_COUNT_ATTRIBUTE = "shardCount";
+    static final String CONTENT_HASH_ATTRIBUTE = "contentHash";
+    static final String GENERATION_ATTRIBUTE = "generation";
+    static final String DICTIONARY_GENERATION_ATTRIBUTE = "dictionaryGeneration";
+    static final String DICTIONARY_SIZE_ATTRIBUTE = "dictionarySize";
+    static final String DICTIONARY_ID = "#dictionary";
+    static final char SHARD_SEPARATOR = '#';
+
+    private static final byte NEIGHBORS_FORMAT = 1;
+    private static final int MAX_ITEM_PAYLOAD_BYTES = 350 * 1024; // Leaves headroom under the 400 KB item limit.
+
+    private final List<String> ids;
+    private final Map<String, Integer> indexById;
+    private final String generation;
+
+    PpiNodeItemCodec(List<String> ids, String generation) {
+        this.generation = generation;
+        this.ids = new ArrayList<>(ids);
+        this.indexById = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            indexById.put(ids.get(i), i);
+        }
+    }
+
+    static PpiNodeItemCodec forNodes(Iterable<PpiNetworkNode> nodes) {
+        /** Dictionary over every node and neighbor id, in id order so that index order matches STRING's order. */
+        TreeSet<String> ids = new TreeSet<>();
+        for (PpiNetworkNode node : nodes) {
+            ids.add(node.getId());
+            for (Neighbor neighbor : node.getNeighbors()) {
+                ids.add(neighbor.getId());
+            }
+        }
+        return new PpiNodeItemCodec(new ArrayList<>(ids), UUID.randomUUID().toString());
+    }
+
+    static PpiNodeItemCodec fromDictionaryItems(Map<String, AttributeValue> baseItem,
+                                                List<Map<String, AttributeValue>> shardItems) {
+        byte[] payload = joinShards(baseItem, shardItems, IDS_ATTRIBUTE);
+        return new PpiNodeItemCodec(TaxonPrefixDictionary.read(new ByteReader(payload)),
+                requiredAttribute(baseItem, GENERATION_ATTRIBUTE).getS());
+    }
+
+    int size() {
+        return ids.size();
+    }
+
+    List<String> getIds() {
+        return Collections.unmodifiableList(ids);
+    }
+
+    boolean canDecode(Map<String, AttributeValue> baseItem) {
+        /**
+         * Whether the neighbor indices of an item refer to this dictionary: the item must have been encoded against
+         * the same generation, and against no more ids than this copy holds.
+         */
+        if (!baseItem.containsKey(NEIGHBORS_ATTRIBUTE)) {
+            return true;
+        }
+        return generation.equals(requiredAttribute(baseItem, DICTIONARY_GENERATION_ATTRIBUTE).getS())
+                && Integer.parseInt(requiredAttribute(baseItem, DICTIONARY_SIZE_ATTRIBUTE).getN()) <= ids.size();
+    }
+
+    static String storedContentHash(Map<String, AttributeValue> baseItem) {
+        return requiredAttribute(baseItem, CONTENT_HASH_ATTRIBUTE).getS();
+    }
+
+    private static AttributeValue requiredAttribute(Map<String, AttributeValue> item, String name) {
+        AttributeValue value = item.get(name);
+        if (value == null) {
+            throw new IllegalStateException("Item " + item.get(ID_ATTRIBUTE).getS() + " has no " + name);
+        }
+        return value;
+    }
+
+    int appendIds(Iterable<PpiNetworkNode> nodes) {
+        /** Appends ids not yet in the dictionary. Returns how many were added. */
+        int added = 0;
+        for (PpiNetworkNode node : nodes) {
+            added += appendId(node.getId());
+            for (Neighbor neighbor : node.getNeighbors()) {
+                added += appendId(neighbor.getId());
+            }
+        }
+        return added;
+    }
+
+    private int appendId(String id) {
+        if (indexById.containsKey(id)) {
+            return 0;
+        }
+        indexById.put(id, ids.size());
+        ids.add(id);
+        return 1;
+    }
+
+    List<Map<String, AttributeValue>> toDictionaryItems(String datasetId) {
+        ByteWriter payload = new ByteWriter(ids.size() * 4);
+        TaxonPrefixDictionary.write(ids, payload);
+        Map<String, AttributeValue> baseItem = new HashMap<>();
+        baseItem.put(GENERATION_ATTRIBUTE, new AttributeValue(generation));
+        return shard(datasetId, DICTIONARY_ID, baseItem, IDS_ATTRIBUTE, payload.toByteArray());
+    }
+
+    List<Map<String, AttributeValue>> toItems(PpiNetworkNode node, String datasetId) {
+        /** Base item with the node's metadata and first neighbor chunk, followed by any overflow shard items. */
+        Map<String, AttributeValue> baseItem = new HashMap<>();
+        if (node.getPreferredName() != null) {
+            baseItem.put(PREFERRED_NAME_ATTRIBUTE, new AttributeValue(node.getPreferredName()));
+        }
+        if (node.getProteinSize() != null) {
+            baseItem.put(PROTEIN_SIZE_ATTRIBUTE, new AttributeValue().withN(node.getProteinSize().toString()));
+        }
+        if (node.getAnnotation() != null) {
+            baseItem.put(ANNOTATION_ATTRIBUTE, new AttributeValue(node.getAnnotation()));
+        }
+        baseItem.put(CONTENT_HASH_ATTRIBUTE, new AttributeValue(contentHash(node)));
+        baseItem.put(DICTIONARY_GENERATION_ATTRIBUTE, new AttributeValue(generation));
+        baseItem.put(DICTIONARY_SIZE_ATTRIBUTE, new AttributeValue().withN(Integer.toString(ids.size())));
+        return shard(datasetId, node.getId(), baseItem, NEIGHBORS_ATTRIBUTE, encodeNeighbors(node.getNeighbors()));
+    }
+
+    PpiNetworkNode fromItems(Map<String, AttributeValue> baseItem, List<Map<String, AttributeValue>> shardItems) {
+        /** Items read with a projection that left out the neighbors give a node without neighbors. */
+        PpiNetworkNode.Builder builder = metadataBuilder(baseItem);
+        if (baseItem.containsKey(NEIGHBORS_ATTRIBUTE)) {
+            builder.setNeighbors(decodeNeighbors(joinShards(baseItem, shardItems, NEIGHBORS_ATTRIBUTE)));
+        }
+        return builder.build();
+    }
+
+    static PpiNetworkNode withoutNeighbors(Map<String, AttributeValue> baseItem) {
+        /** Node of a base item read without its neighbors, which needs no dictionary to decode. */
+        return metadataBuilder(baseItem).build();
+    }
+
+    private static PpiNetworkNode.Builder metadataBuilder(Map<String, AttributeValue> baseItem) {
+        PpiNetworkNode.Builder builder = new PpiNetworkNode.Builder()
+                .setId(baseItem.get(ID_ATTRIBUTE).getS());
+        if (baseItem.containsKey(PREFERRED_NAME_ATTRIBUTE)) {
+            builder.setPreferredName(baseItem.get(PREFERRED_NAME_ATTRIBUTE).getS());
+        }
+        if (baseItem.containsKey(PROTEIN_SIZE_ATTRIBUTE)) {
+            builder.setProteinSize(Integer.valueOf(baseItem.get(PROTEIN_SIZE_ATTRIBUTE).getN()));
+        }
+        if (baseItem.containsKey(ANNOTATION_ATTRIBUTE)) {
+            builder.setAnnotation(baseItem.get(ANNOTATION_ATTRIBUTE).getS());
+        }
+        return builder;
+    }
+
+    byte[] encodeNeighbors(List<Neighbor> neighbors) {
+        /** [format byte][NeighborListEncoding list with exact scores]. */
+        int count = neighbors.size();
+        int[] indices = new int[count];
+        int[] scores = new int[count];
+        for (int i = 0; i < count; i++) {
+            Neighbor neighbor = neighbors.get(i);
+            Integer index = indexById.get(neighbor.getId());
+            if (index == null) {
+                throw new IllegalStateException("Neighbor " + neighbor.getId() + " is missing from the dictionary");
+            }
+            indices[i] = index;
+            scores[i] = neighbor.getScore();
+        }
+        ByteWriter payload = new ByteWriter(8 + count * 4);
+        payload.putByte(NEIGHBORS_FORMAT);
+        NeighborListEncoding.writeExact(payload, indices, scores, count);
+        return payload.toByteArray();
+    }
+
+    List<Neighbor> decodeNeighbors(byte[] payload) {
+        if (payload.length == 0 || payload[0] != NEIGHBORS_FORMAT) {
+            throw new IllegalStateException("Unknown neighbor list format, payload of " + payload.length + " bytes");
+        }
+        List<Neighbor> neighbors = new ArrayList<>();
+        NeighborListEncoding.readExact(new ByteReader(payload, 1, payload.length - 1),
+                (index, score) -> neighbors.add(Neighbor.create(ids.get(index), score)));
+        return neighbors;
+    }
+
+    static String contentHash(PpiNetworkNode node) {
+        /**
+         * Murmur3 hash of a node's metadata and neighbors. Neighbors are hashed in (id, score) order, so the hash does
+         * not depend on the order STRING lists them in, nor on dictionary indices.
+         */
+        List<Neighbor> neighbors = new ArrayList<>(node.getNeighbors());
+        neighbors.sort(Comparator.comparing(Neighbor::getId).thenComparingInt(Neighbor::getScore));
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        putNullableString(hasher, node.getId());
+        putNullableString(hasher, node.getPreferredName());
+        putNullableString(hasher, node.getAnnotation());
+        hasher.putInt(node.getProteinSize() == null ? -1 : node.getProteinSize());
+        hasher.putInt(neighbors.size());
+        for (Neighbor neighbor : neighbors) {
+            putNullableString(hasher, neighbor.getId());
+            hasher.putInt(neighbor.getScore());
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putNullableString(Hasher hasher, String value) {
+        // Length-prefixed, so that ("ab", "c") and ("a", "bc") hash differently; -1 marks null.
+        if (value == null) {
+            hasher.putInt(-1);
+        } else {
+            hasher.putInt(value.length()).putString(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    static String shardId(String id, int shard) {
+        return id + SHARD_SEPARATOR + shard;
+    }
+
+    static String shardPrefix(String id) {
+        /** Common prefix of the ids of every shard item belonging to the given base item. */
+        return id + SHARD_SEPARATOR;
+    }
+
+    static boolean isShardItem(Map<String, AttributeValue> item) {
+        return item.get(ID_ATTRIBUTE).getS().indexOf(SHARD_SEPARATOR, 1) > 0;
+    }
+
+    static boolean isDictionaryItem(Map<String, AttributeValue> item) {
+        return item.get(ID_ATTRIBUTE).getS().startsWith(DICTIONARY_ID);
+    }
+
+    static String baseId(String itemId) {
+        /** Id of the base item a shard item belongs to. */
+        int separator = itemId.lastIndexOf(SHARD_SEPARATOR);
+        return separator > 0 ? itemId.substring(0, separator) : itemId;
+    }
+
+    static int shardCount(Map<String, AttributeValue> baseItem) {
+        AttributeValue shardCount = baseItem.get(SHARD_COUNT_ATTRIBUTE);
+        return shardCount == null ? 1 : Integer.parseInt(shardCount.getN());
+    }
+
+    private static List<Map<String, AttributeValue>> shard(String datasetId, String id,
+                                                          Map<String, AttributeValue> baseItem,
+                                                          String payloadAttribute, byte[] payload) {
+        baseItem.put(ID_ATTRIBUTE, new AttributeValue(id));
+        baseItem.put(DATASET_ID_ATTRIBUTE, new AttributeValue(datasetId));
+
+        int firstChunk = Math.max(0, Math.min(payload.length, MAX_ITEM_PAYLOAD_BYTES - approximateSize(baseItem)));
+        int shardCount = 1 + (payload.length - firstChunk + MAX_ITEM_PAYLOAD_BYTES - 1) / MAX_ITEM_PAYLOAD_BYTES;
+        baseItem.put(payloadAttribute, new AttributeValue().withB(ByteBuffer.wrap(payload, 0, firstChunk).slice()));
+        baseItem.put(SHARD_COUNT_ATTRIBUTE, new AttributeValue().withN(Integer.toString(shardCount)));
+
+        List<Map<String, AttributeValue>> items = new ArrayList<>(shardCount);
+        items.add(baseItem);
+        for (int shard = 1, start = firstChunk; shard < shardCount; shard++, start += MAX_ITEM_PAYLOAD_BYTES) {
+            int length = Math.min(MAX_ITEM_PAYLOAD_BYTES, payload.length - start);
+            Map<String, AttributeValue> shardItem = new HashMap<>();
+            shardItem.put(ID_ATTRIBUTE, new AttributeValue(shardId(id, shard)));
+            shardItem.put(DATASET_ID_ATTRIBUTE, new AttributeValue(datasetId));
+            shardItem.put(payloadAttribute, new AttributeValue().withB(ByteBuffer.wrap(payload, start, length).slice()));
+            items.add(shardItem);
+        }
+        return items;
+    }
+
+    private static byte[] joinShards(Map<String, AttributeValue> baseItem,
+                                     List<Map<String, AttributeValue>> shardItems, String payloadAttribute) {
+        int expectedShards = shardCount(baseItem) - 1;
+        if (shardItems.size() != expectedShards) {
+            throw new IllegalStateException("Item " + baseItem.get(ID_ATTRIBUTE).getS() + " expects "
+                    + expectedShards + " shards but " + shardItems.size() + " were found");
+        }
+        // Shard ids sort as strings ("#10" before "#2"), so order them by their shard number instead.
+        List<Map<String, AttributeValue>> ordered = new ArrayList<>(shardItems);
+        ordered.sort(Comparator.comparingInt(item -> shardNumber(item.get(ID_ATTRIBUTE).getS())));
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        appendBinary(payload, baseItem.get(payloadAttribute));
+        for (Map<String, AttributeValue> shardItem : ordered) {
+            appendBinary(payload, shardItem.get(payloadAttribute));
+        }
+        return payload.toByteArray();
+    }
+
+    private static void appendBinary(ByteArrayOutputStream payload, AttributeValue value) {
+        if (value == null || value.getB() == null) {
+            return;
+        }
+        ByteBuffer chunk = value.getB().duplicate();
+        byte[] bytes = new byte[chunk.remaining()];
+        chunk.get(bytes);
+        payload.write(bytes, 0, bytes.length);
+    }
+
+    private static int shardNumber(String itemId) {
+        return Integer.parseInt(itemId.substring(itemId.lastIndexOf(SHARD_SEPARATOR) + 1));
+    }
+
+    private static int approximateSize(Map<String, AttributeValue> item) {
+        int size = 0;
+        for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+            size += attribute.getKey().length();
+            AttributeValue value = attribute.getValue();
+            size += value.getS() != null ? value.getS().getBytes(StandardCharsets.UTF_8).length : 24;
+        }
+        return size + 64; // Shard count and payload attribute names.
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * EncodedNetworkExporter
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.local;
+
+import com.capstone.ppinetwork.CompactPpiNetwork;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.encoding.EncodedNodeFile;
+import com.capstone.ppinetwork.encoding.NeighborListEncoding;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Counterpart of NetworkJsonExporter for the compact EncodedNodeFile format: ids once through a taxon prefix
+ * dictionary, delta/varint neighbor indices and one byte per score. Read exports back with EncodedNodeFile.read.
+ */
+public class EncodedNetworkExporter {
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private final int scorePrecision;
+    private final NetworkJsonExporter.Compression compression;
+
+    protected EncodedNetworkExporter(Builder builder) {
+        this.scorePrecision = builder.scorePrecision;
+        this.compression = builder.compression;
+    }
+
+    public long export(Iterable<PpiNetworkNode> nodes, Path path) throws IOException {
+        /** Writes every node to the given file and returns the number of nodes written. */
+        try (OutputStream output = openOutput(path)) {
+            return EncodedNodeFile.write(nodes, output, scorePrecision);
+        }
+    }
+
+    public long export(CompactPpiNetwork network, Path path) throws IOException {
+        /** As above for network.toNodes(), encoded straight from the network's arrays. */
+        try (OutputStream output = openOutput(path)) {
+            return EncodedNodeFile.write(network, output, scorePrecision);
+        }
+    }
+
+    private OutputStream openOutput(Path path) throws IOException {
+        OutputStream output = new BufferedOutputStream(Files.newOutputStream(path), OUTPUT_BUFFER_SIZE);
+        return compression == NetworkJsonExporter.Compression.GZIP
+                ? new GZIPOutputStream(output, OUTPUT_BUFFER_SIZE)
+                : output;
+    }
+
+    public static class Builder {
+        private int scorePrecision = NeighborListEncoding.DEFAULT_SCORE_PRECISION;
+        private NetworkJsonExporter.Compression compression = NetworkJsonExporter.Compression.NONE;
+
+        public Builder setScorePrecision(int scorePrecision) {
+            /**
+             * Scores are stored rounded down to a multiple of this. It must be at least
+             * NeighborListEncoding.MIN_SCORE_PRECISION (4), so that a score of 1000 fits a byte.
+             */
+            NeighborListEncoding.checkPrecision(scorePrecision);
+            this.scorePrecision = scorePrecision;
+            return this;
+        }
+
+        public Builder setCompression(NetworkJsonExporter.Compression compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        public EncodedNetworkExporter build() {
+            return new EncodedNetworkExporter(this);
+        }
+    }
+}
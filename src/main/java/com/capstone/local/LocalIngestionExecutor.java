@@ -0,0 +1,225 @@
+/*
+ * LocalIngestionExecutor
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.local;
+
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.capstone.aws.DynamodbHelper;
+import com.capstone.aws.Handler;
+import com.capstone.aws.IngestionInvoker;
+import com.capstone.ppinetwork.DataSources;
+
+import java.net.MalformedURLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Stand-in for Lambda when testing checkpointed and fanned-out ingestion: every invocation runs the Handler on a
+ * thread of a local pool, with a Context whose remaining time counts down from the given invocation timeout, so a
+ * short timeout exercises checkpointing and follow-up invocations without deploying anything. Follow-ups and workers
+ * started by the Handler come back to this executor.
+ *
+ * Usage (against DynamoDB Local, see DYNAMODB_ENDPOINT in DynamodbHelper):
+ *   java -cp target/capstone-1.0.jar com.capstone.local.LocalIngestionExecutor --links=&lt;source&gt;
+ *       [--info=&lt;source&gt;] [--dataset=&lt;id&gt;] [--workers=4] [--timeout=60]
+ */
+public class LocalIngestionExecutor implements IngestionInvoker, AutoCloseable {
+    private final Handler handler;
+    private final ExecutorService pool;
+    private final Duration invocationTimeout;
+    private final List<String> results = Collections.synchronizedList(new ArrayList<>());
+    private final List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+    private final Object idle = new Object();
+    private int running;
+    private int invocations;
+
+    public LocalIngestionExecutor(AmazonDynamoDB ddbClient, int threads, Duration invocationTimeout) {
+        this.handler = new Handler(ddbClient, this);
+        this.pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "local-ingestion");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.invocationTimeout = invocationTimeout;
+    }
+
+    @Override
+    public void invoke(Map<String, String> event) {
+        /** Queues an invocation, like an asynchronous Lambda invoke; the clock starts when it begins running. */
+        synchronized (idle) {
+            running++;
+            invocations++;
+        }
+        Map<String, String> copy = new HashMap<>(event);
+        pool.execute(() -> {
+            try {
+                results.add(handler.handleRequest(copy, new LocalContext(invocationTimeout)));
+            } catch (RuntimeException | Error e) {
+                failures.add(e);
+            } finally {
+                synchronized (idle) {
+                    running--;
+                    idle.notifyAll();
+                }
+            }
+        });
+    }
+
+    public void awaitIdle() throws InterruptedException {
+        /** Waits until every invocation has finished, including the follow-ups and workers they started. */
+        synchronized (idle) {
+            while (running > 0) {
+                idle.wait();
+            }
+        }
+    }
+
+    public List<String> getResults() {
+        synchronized (results) {
+            return new ArrayList<>(results);
+        }
+    }
+
+    public List<Throwable> getFailures() {
+        synchronized (failures) {
+            return new ArrayList<>(failures);
+        }
+    }
+
+    public int getInvocationCount() {
+        synchronized (idle) {
+            return invocations;
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    public static void main(String[] args) throws InterruptedException, MalformedURLException {
+        Map<String, String> event = new HashMap<>();
+        int workers = 4;
+        long timeoutSeconds = 900; // Lambda's maximum.
+        for (String arg : args) {
+            if (arg.startsWith("--links=")) {
+                event.put("interactionDataUrl", DataSources.toUrl(arg.substring("--links=".length())).toString());
+            } else if (arg.startsWith("--info=")) {
+                event.put("accessoryDataUrl", DataSources.toUrl(arg.substring("--info=".length())).toString());
+            } else if (arg.startsWith("--dataset=")) {
+                event.put("datasetId", arg.substring("--dataset=".length()));
+            } else if (arg.startsWith("--workers=")) {
+                workers = Integer.parseInt(arg.substring("--workers=".length()));
+            } else if (arg.startsWith("--timeout=")) {
+                timeoutSeconds = Long.parseLong(arg.substring("--timeout=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (!event.containsKey("interactionDataUrl")) {
+            throw new IllegalArgumentException("--links is required");
+        }
+        event.put("workers", Integer.toString(workers));
+
+        long start = System.nanoTime();
+        try (LocalIngestionExecutor executor = new LocalIngestionExecutor(
+                DynamodbHelper.createClient(System.getenv("DYNAMODB_ENDPOINT")), workers + 1,
+                Duration.ofSeconds(timeoutSeconds))) {
+            executor.invoke(event);
+            executor.awaitIdle();
+            System.out.println(executor.getInvocationCount() + " invocations in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms, " + executor.getFailures().size() + " failed");
+            executor.getFailures().forEach(Throwable::printStackTrace);
+        }
+    }
+
+    /** Lambda Context for one local invocation. */
+    private static class LocalContext implements Context {
+        private final String requestId = UUID.randomUUID().toString();
+        private final long deadlineNanos;
+
+        LocalContext(Duration timeout) {
+            this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+        }
+
+        @Override
+        public String getAwsRequestId() {
+            return requestId;
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return "local";
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return "local";
+        }
+
+        @Override
+        public String getFunctionName() {
+            return "local";
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return "$LATEST";
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return "local";
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return (int) Math.max(0, (deadlineNanos - System.nanoTime()) / 1_000_000);
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            return (int) (Runtime.getRuntime().maxMemory() >> 20);
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            return new LambdaLogger() {
+                @Override
+                public void log(String message) {
+                    System.out.println("[" + requestId.substring(0, 8) + "] " + message);
+                }
+
+                @Override
+                public void log(byte[] message) {
+                    log(new String(message));
+                }
+            };
+        }
+    }
+}
@@ -7,18 +7,38 @@
 
 package com.capstone.local;
 
-import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.CompactPpiNetwork;
+import com.capstone.ppinetwork.DataSources;
+import com.capstone.ppinetwork.NetworkFileCache;
 import com.capstone.ppinetwork.PpiNetworkParser;
-import com.google.gson.GsonBuilder;
+import com.capstone.ppinetwork.analytics.AnalyticsReport;
+import com.capstone.ppinetwork.analytics.NetworkAnalytics;
+import com.capstone.ppinetwork.encoding.EncodedNodeFile;
+import com.capstone.ppinetwork.sequence.KmerIndex;
+import com.capstone.ppinetwork.sequence.ProteinSequenceIndex;
 
-import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Entrypoint to run the parser locally. Outputs the parsed data into a JSON file in the root directory.
+ * Options:
+ *   --compact        no pretty printing
+ *   --ndjson         one node per line instead of a single JSON array
+ *   --gzip           gzip-compress the output
+ *   --encoded        compact binary export (see EncodedNodeFile) instead of JSON, written to protein_data.ppne
+ *   --score-precision=<n>  with --encoded, store scores rounded down to a multiple of n (4 or more, default 4)
+ *   --output=<path>  output file; defaults to protein_data.json (or .ndjson), with .gz appended when compressed
+ *   --analytics      also write degree, component, PageRank and clustering results next to the output file
+ *   --links=<source> interaction file to parse instead of the 1280 organism download: a URL, file: URL or local
+ *                    path, gzipped or not (e.g. one written by SyntheticNetworkGenerator)
+ *   --info=<source>  accessory file to go with --links; omitted when --links is given without it
+ *   --motif=<motif>  also list the proteins of the network whose sequence contains the motif ('.' matches any residue)
+ *   --fasta=<path>   sequence file searched by --motif; defaults to protein_sequence.fa, indexed on first use
  */
 public class Main {
     public static void main(String[] args) throws IOException {
@@ -26,14 +46,87 @@ public class Main {
                 "https://stringdb-static.org/download/protein.links.v11.5/1280.protein.links.v11.5.txt.gz");
         Optional<URL> accessoryDataUrl = Optional.of(
                 new URL("https://stringdb-static.org/download/protein.info.v11.5/1280.protein.info.v11.5.txt.gz"));
-        List<PpiNetworkNode> data = new PpiNetworkParser().parseProteinData(interactionUrl, accessoryDataUrl);
-        new GsonBuilder()
-                .setPrettyPrinting()
-                .serializeNulls()
-                .create()
-                .toJson(data, new FileWriter("protein_data.json"));
-        System.out.println(
-                "Done preprocessing the dataset, you can see the processed dataset as a file called protein_data.json");
+
+        NetworkJsonExporter.Builder exporter = new NetworkJsonExporter.Builder().setPrettyPrinting(true);
+        EncodedNetworkExporter.Builder encodedExporter = new EncodedNetworkExporter.Builder();
+        boolean encoded = false;
+        String extension = ".json";
+        boolean compressed = false;
+        Optional<String> output = Optional.empty();
+        boolean analytics = false;
+        Optional<String> links = Optional.empty();
+        Optional<String> info = Optional.empty();
+        Optional<String> motif = Optional.empty();
+        Path fasta = Paths.get("protein_sequence.fa");
+        for (String arg : args) {
+            if (arg.equals("--compact")) {
+                exporter.setPrettyPrinting(false);
+            } else if (arg.equals("--ndjson")) {
+                exporter.setFormat(NetworkJsonExporter.Format.NDJSON);
+                extension = ".ndjson";
+            } else if (arg.equals("--gzip")) {
+                exporter.setCompression(NetworkJsonExporter.Compression.GZIP);
+                encodedExporter.setCompression(NetworkJsonExporter.Compression.GZIP);
+                compressed = true;
+            } else if (arg.equals("--encoded")) {
+                encoded = true;
+                extension = EncodedNodeFile.EXTENSION;
+            } else if (arg.startsWith("--score-precision=")) {
+                encodedExporter.setScorePrecision(Integer.parseInt(arg.substring("--score-precision=".length())));
+            } else if (arg.equals("--analytics")) {
+                analytics = true;
+            } else if (arg.startsWith("--output=")) {
+                output = Optional.of(arg.substring("--output=".length()));
+            } else if (arg.startsWith("--links=")) {
+                links = Optional.of(arg.substring("--links=".length()));
+            } else if (arg.startsWith("--info=")) {
+                info = Optional.of(arg.substring("--info=".length()));
+            } else if (arg.startsWith("--motif=")) {
+                motif = Optional.of(arg.substring("--motif=".length()));
+            } else if (arg.startsWith("--fasta=")) {
+                fasta = Paths.get(arg.substring("--fasta=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        if (links.isPresent()) {
+            interactionUrl = DataSources.toUrl(links.get());
+            accessoryDataUrl = info.isPresent() ? Optional.of(DataSources.toUrl(info.get())) : Optional.empty();
+        } else if (info.isPresent()) {
+            throw new IllegalArgumentException("--info requires --links");
+        }
+        Path outputPath = Paths.get(output.orElse("protein_data" + extension + (compressed ? ".gz" : "")));
+
+        // Parsed networks are kept in a local binary cache, so only the first run downloads and parses the files.
+        CompactPpiNetwork network = NetworkFileCache.create()
+                .load(interactionUrl, accessoryDataUrl, new PpiNetworkParser(PpiNetworkParser.Mode.PIPELINED));
+        // Nodes are materialized one at a time as the exporter writes them.
+        long nodeCount = encoded
+                ? encodedExporter.build().export(network, outputPath)
+                : exporter.build().export(network.toNodes(), outputPath);
+        System.out.println("Done preprocessing the dataset, you can see the " + nodeCount
+                + " processed nodes in a file called " + outputPath);
+
+        if (analytics) {
+            AnalyticsReport report = new NetworkAnalytics(network).computeAll();
+            report.write(outputPath);
+            System.out.println("Network analytics: " + report.getComponentCount() + " components, timings (ms) "
+                    + report.getTimingsMillis());
+        }
+
+        if (motif.isPresent()) {
+            // Sequences stay in the memory-mapped file; only the offsets and the k-mer postings are on the heap.
+            ProteinSequenceIndex sequences = ProteinSequenceIndex.open(fasta);
+            List<KmerIndex.MotifMatch> matches = KmerIndex.build(sequences, KmerIndex.DEFAULT_K).find(motif.get());
+            int inNetwork = 0;
+            for (KmerIndex.MotifMatch match : matches) {
+                if (network.indexOf(match.getProteinId()) >= 0) {
+                    System.out.println(match.getProteinId() + " " + match.getPositions());
+                    inNetwork++;
+                }
+            }
+            System.out.println(inNetwork + " proteins of the network contain " + motif.get());
+        }
 
     }
 }
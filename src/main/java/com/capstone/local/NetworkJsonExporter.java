@@ -0,0 +1,120 @@
+/*
+ * NetworkJsonExporter
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.local;
+
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams nodes to a JSON file one at a time with a JsonWriter, so the full node list and its serialized form never
+ * have to be in memory together. Paired with a lazy node list such as CompactPpiNetwork.toNodes(), memory stays flat
+ * regardless of the size of the network.
+ * Output is either a single JSON array or NDJSON (one node per line), optionally pretty-printed (JSON arrays only)
+ * and optionally gzip-compressed.
+ */
+public class NetworkJsonExporter {
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    public enum Format {
+        JSON_ARRAY,
+        NDJSON
+    }
+
+    public enum Compression {
+        NONE,
+        GZIP
+    }
+
+    private final Format format;
+    private final boolean prettyPrinting;
+    private final Compression compression;
+    private final Gson gson = new GsonBuilder().serializeNulls().create();
+
+    protected NetworkJsonExporter(Builder builder) {
+        this.format = builder.format;
+        this.prettyPrinting = builder.prettyPrinting;
+        this.compression = builder.compression;
+    }
+
+    public long export(Iterable<PpiNetworkNode> nodes, Path path) throws IOException {
+        /** Writes every node to the given file and returns the number of nodes written. */
+        try (Writer writer = new OutputStreamWriter(openOutput(path), StandardCharsets.UTF_8)) {
+            return export(nodes, writer);
+        }
+    }
+
+    public long export(Iterable<PpiNetworkNode> nodes, Writer writer) throws IOException {
+        /** Writes every node to the writer and flushes it; the writer is left open. */
+        long count = 0;
+        if (format == Format.NDJSON) {
+            for (PpiNetworkNode node : nodes) {
+                JsonWriter jsonWriter = gson.newJsonWriter(writer);
+                gson.toJson(node, PpiNetworkNode.class, jsonWriter);
+                jsonWriter.flush();
+                writer.write('\n');
+                count++;
+            }
+        } else {
+            JsonWriter jsonWriter = gson.newJsonWriter(writer);
+            if (prettyPrinting) {
+                jsonWriter.setIndent("  ");
+            }
+            jsonWriter.beginArray();
+            for (PpiNetworkNode node : nodes) {
+                gson.toJson(node, PpiNetworkNode.class, jsonWriter);
+                count++;
+            }
+            jsonWriter.endArray();
+            jsonWriter.flush();
+        }
+        writer.flush();
+        return count;
+    }
+
+    private OutputStream openOutput(Path path) throws IOException {
+        OutputStream output = new BufferedOutputStream(Files.newOutputStream(path), OUTPUT_BUFFER_SIZE);
+        return compression == Compression.GZIP ? new GZIPOutputStream(output, OUTPUT_BUFFER_SIZE) : output;
+    }
+
+    public static class Builder {
+        private Format format = Format.JSON_ARRAY;
+        private boolean prettyPrinting;
+        private Compression compression = Compression.NONE;
+
+        public Builder setFormat(Format format) {
+            this.format = format;
+            return this;
+        }
+
+        public Builder setPrettyPrinting(boolean prettyPrinting) {
+            this.prettyPrinting = prettyPrinting;
+            return this;
+        }
+
+        public Builder setCompression(Compression compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        public NetworkJsonExporter build() {
+            return new NetworkJsonExporter(this);
+        }
+    }
+}
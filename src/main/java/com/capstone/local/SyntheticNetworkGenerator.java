@@ -0,0 +1,464 @@
+/*
+ * SyntheticNetworkGenerator
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.local;
+
+import com.google.auto.value.AutoValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes gzipped protein.links and protein.info files in STRING DB format for a synthetic organism, so ingestion,
+ * persistence and analytics can be exercised offline at any scale.
+ * Interactions follow a Chung-Lu model: each undirected edge joins two proteins drawn with probability proportional to
+ * a power-law weight, so degrees follow a power law with the given exponent, capped at maxDegree. Every edge is
+ * written in both directions with the same score, and lines are grouped by protein1 in id order like the real files.
+ * Scores lie in [minScore, maxScore] and are skewed toward low confidence, as in STRING DB.
+ *
+ * Edges are never all held in memory. A first pass over the seeded random sequence counts the degree of every
+ * protein; the sequence is then replayed once per block of proteins, filling a CSR slice for just that block, which
+ * is sorted, deduplicated and written out. Output is identical for a given seed regardless of the block size.
+ */
+public class SyntheticNetworkGenerator {
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    private static final int SCORE_BITS = 16;
+    private static final int MIN_ID_DIGITS = 7;
+    private static final int MAX_PROTEINS = 1 << 27; // Sampled edges pack two protein indices and a score into a long.
+
+    private final int proteinCount;
+    private final double averageDegree;
+    private final double degreeExponent;
+    private final int maxDegree;
+    private final int minScore;
+    private final int maxScore;
+    private final double scoreSkew;
+    private final String organism;
+    private final String version;
+    private final long seed;
+    private final int blockCapacity;
+    private final int idDigits;
+
+    protected SyntheticNetworkGenerator(Builder builder) {
+        if (builder.proteinCount < 2 || builder.proteinCount > MAX_PROTEINS) {
+            throw new IllegalArgumentException(
+                    "Protein count must be between 2 and " + MAX_PROTEINS + ": " + builder.proteinCount);
+        }
+        if (builder.degreeExponent <= 1) {
+            throw new IllegalArgumentException("Degree exponent must be greater than 1: " + builder.degreeExponent);
+        }
+        if (builder.minScore < 0 || builder.maxScore > 1000 || builder.minScore > builder.maxScore) {
+            throw new IllegalArgumentException(
+                    "Scores must satisfy 0 <= min <= max <= 1000: " + builder.minScore + ", " + builder.maxScore);
+        }
+        this.proteinCount = builder.proteinCount;
+        this.averageDegree = builder.averageDegree;
+        this.degreeExponent = builder.degreeExponent;
+        this.maxDegree = Math.min(builder.maxDegree, builder.proteinCount - 1);
+        this.minScore = builder.minScore;
+        this.maxScore = builder.maxScore;
+        this.scoreSkew = builder.scoreSkew;
+        this.organism = builder.organism;
+        this.version = builder.version;
+        this.seed = builder.seed;
+        this.blockCapacity = builder.blockCapacity;
+        this.idDigits = Math.max(MIN_ID_DIGITS, Integer.toString(builder.proteinCount - 1).length());
+    }
+
+    public Dataset generate(Path directory) throws IOException {
+        /**
+         * Writes <organism>.protein.links.v<version>.txt.gz and <organism>.protein.info.v<version>.txt.gz into the
+         * directory, replacing any previous files.
+         */
+        Files.createDirectories(directory);
+        Path linksFile = directory.resolve(organism + ".protein.links.v" + version + ".txt.gz");
+        Path infoFile = directory.resolve(organism + ".protein.info.v" + version + ".txt.gz");
+
+        long undirectedEdges = Math.round(proteinCount * averageDegree / 2);
+        AliasTable proteins = new AliasTable(cappedWeights(undirectedEdges));
+
+        // Pass 1: sampled degrees, duplicates included, to size each block's CSR slice.
+        long[] degrees = new long[proteinCount];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (long edge = 0; edge < undirectedEdges; edge++) {
+            long sampled = sampleEdge(random, proteins);
+            degrees[source(sampled)]++;
+            degrees[target(sampled)]++;
+        }
+
+        long linesWritten = 0;
+        try (LineWriter links = new LineWriter(linksFile)) {
+            links.append("protein1 protein2 combined_score\n");
+            for (int blockStart = 0; blockStart < proteinCount; ) {
+                int blockEnd = blockStart;
+                long blockEdges = 0;
+                while (blockEnd < proteinCount
+                        && (blockEnd == blockStart || blockEdges + degrees[blockEnd] <= blockCapacity)) {
+                    blockEdges += degrees[blockEnd++];
+                }
+                linesWritten += writeBlock(links, proteins, degrees, blockStart, blockEnd, undirectedEdges);
+                blockStart = blockEnd;
+            }
+        }
+        writeInfo(infoFile);
+        return Dataset.create(linksFile, infoFile, proteinCount, linesWritten);
+    }
+
+    private long writeBlock(LineWriter links, AliasTable proteins, long[] degrees, int blockStart, int blockEnd,
+                            long undirectedEdges) throws IOException {
+        /** Replays the edge sequence, keeping edges out of proteins in [blockStart, blockEnd), and writes them. */
+        int[] offsets = new int[blockEnd - blockStart + 1];
+        for (int protein = blockStart; protein < blockEnd; protein++) {
+            offsets[protein - blockStart + 1] = offsets[protein - blockStart] + (int) degrees[protein];
+        }
+        long[] edges = new long[offsets[offsets.length - 1]]; // (target << SCORE_BITS) | score, so sorting by target.
+        int[] cursors = Arrays.copyOf(offsets, offsets.length - 1);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for (long edge = 0; edge < undirectedEdges; edge++) {
+            long sampled = sampleEdge(random, proteins);
+            int source = source(sampled);
+            int target = target(sampled);
+            int score = score(sampled);
+            if (source >= blockStart && source < blockEnd) {
+                edges[cursors[source - blockStart]++] = (long) target << SCORE_BITS | score;
+            }
+            if (target >= blockStart && target < blockEnd) {
+                edges[cursors[target - blockStart]++] = (long) source << SCORE_BITS | score;
+            }
+        }
+
+        long lines = 0;
+        for (int protein = blockStart; protein < blockEnd; protein++) {
+            int start = offsets[protein - blockStart];
+            int end = offsets[protein - blockStart + 1];
+            Arrays.sort(edges, start, end);
+            for (int i = start; i < end; i++) {
+                // A pair drawn more than once keeps its highest score; sorted entries put that copy last.
+                if (i + 1 < end && edges[i + 1] >>> SCORE_BITS == edges[i] >>> SCORE_BITS) {
+                    continue;
+                }
+                links.appendId(protein).append(' ')
+                        .appendId((int) (edges[i] >>> SCORE_BITS)).append(' ')
+                        .append((int) (edges[i] & ((1 << SCORE_BITS) - 1))).append('\n');
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    private void writeInfo(Path infoFile) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed ^ 0x5DEECE66DL);
+        try (LineWriter info = new LineWriter(infoFile)) {
+            info.append("#string_protein_id\tpreferred_name\tprotein_size\tannotation\n");
+            for (int protein = 0; protein < proteinCount; protein++) {
+                // Protein sizes are roughly log-normal around 300 amino acids; annotations must not contain commas.
+                int size = (int) Math.max(30, Math.round(Math.exp(5.7 + 0.6 * gaussian(random))));
+                info.appendId(protein).append('\t')
+                        .append("SYN").append(protein).append('\t')
+                        .append(size).append('\t')
+                        .append("Synthetic protein ").append(protein).append("; annotation not available\n");
+            }
+        }
+    }
+
+    private double[] cappedWeights(long undirectedEdges) {
+        /**
+         * Chung-Lu weights (rank + 1)^(-1 / (exponent - 1)), which give a power-law degree distribution, scaled and
+         * capped so that no protein's expected degree exceeds maxDegree.
+         */
+        double[] weights = new double[proteinCount];
+        for (int rank = 0; rank < proteinCount; rank++) {
+            weights[rank] = Math.pow(rank + 1, -1.0 / (degreeExponent - 1));
+        }
+        // Capping shrinks the total weight, which raises every other expected degree, so repeat until it settles.
+        for (int round = 0; round < 16; round++) {
+            double total = 0;
+            for (double weight : weights) {
+                total += weight;
+            }
+            double cap = maxDegree * total / (2.0 * undirectedEdges);
+            if (weights[0] <= cap * (1 + 1e-9)) {
+                break;
+            }
+            for (int rank = 0; rank < proteinCount && weights[rank] > cap; rank++) {
+                weights[rank] = cap;
+            }
+        }
+        return weights;
+    }
+
+    private long sampleEdge(SplittableRandom random, AliasTable proteins) {
+        /** Packs (source, target, score) of the next edge in the sequence; self-loops are redrawn. */
+        int source;
+        int target;
+        do {
+            source = proteins.sample(random);
+            target = proteins.sample(random);
+        } while (source == target);
+        int score = minScore + (int) ((maxScore - minScore + 1) * Math.pow(random.nextDouble(), scoreSkew));
+        return (long) source << 37 | (long) target << 10 | Math.min(score, maxScore);
+    }
+
+    private static int source(long sampled) {
+        return (int) (sampled >>> 37);
+    }
+
+    private static int target(long sampled) {
+        return (int) (sampled >>> 10) & MAX_PROTEINS - 1;
+    }
+
+    private static int score(long sampled) {
+        return (int) (sampled & 0x3FF);
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller; SplittableRandom has no nextGaussian.
+        return Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    public static void main(String[] args) throws IOException {
+        /**
+         * Options:
+         *   --proteins=<n>     number of proteins (default 10000)
+         *   --degree=<d>       average degree (default 20)
+         *   --exponent=<g>     power-law degree exponent (default 2.5)
+         *   --max-degree=<n>   degree cap (default 5000)
+         *   --seed=<n>         random seed (default 42)
+         *   --output=<dir>     output directory (default synthetic_data)
+         * The generated files can be loaded with Main --links=<links file> --info=<info file>.
+         */
+        Builder builder = new Builder();
+        Path output = Paths.get("synthetic_data");
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--proteins=")) {
+                builder.setProteinCount(Integer.parseInt(value));
+            } else if (arg.startsWith("--degree=")) {
+                builder.setAverageDegree(Double.parseDouble(value));
+            } else if (arg.startsWith("--exponent=")) {
+                builder.setDegreeExponent(Double.parseDouble(value));
+            } else if (arg.startsWith("--max-degree=")) {
+                builder.setMaxDegree(Integer.parseInt(value));
+            } else if (arg.startsWith("--seed=")) {
+                builder.setSeed(Long.parseLong(value));
+            } else if (arg.startsWith("--output=")) {
+                output = Paths.get(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        long start = System.nanoTime();
+        Dataset dataset = builder.build().generate(output);
+        System.out.println("Wrote " + dataset.getProteinCount() + " proteins and " + dataset.getInteractionLines()
+                + " interaction lines to " + dataset.getLinksFile() + " and " + dataset.getInfoFile() + " in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    /** Files written by generate(). */
+    @AutoValue
+    public abstract static class Dataset {
+        static Dataset create(Path linksFile, Path infoFile, int proteinCount, long interactionLines) {
+            return new AutoValue_SyntheticNetworkGenerator_Dataset(
+                    linksFile, infoFile, proteinCount, interactionLines);
+        }
+
+        public abstract Path getLinksFile();
+        public abstract Path getInfoFile();
+        public abstract int getProteinCount();
+
+        /** Directed interaction lines: twice the number of distinct undirected edges. */
+        public abstract long getInteractionLines();
+    }
+
+    /** Vose alias table: draws an index with probability proportional to its weight in O(1). */
+    private static class AliasTable {
+        private final double[] probability;
+        private final int[] alias;
+
+        AliasTable(double[] weights) {
+            int n = weights.length;
+            probability = new double[n];
+            alias = new int[n];
+            double total = 0;
+            for (double weight : weights) {
+                total += weight;
+            }
+            int[] small = new int[n];
+            int[] large = new int[n];
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int i = 0; i < n; i++) {
+                probability[i] = weights[i] * n / total;
+                if (probability[i] < 1) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
+            }
+            while (smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+                alias[less] = more;
+                probability[more] += probability[less] - 1;
+                if (probability[more] < 1) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
+            // Whatever is left is 1 up to rounding error.
+            while (largeCount > 0) {
+                probability[large[--largeCount]] = 1;
+            }
+            while (smallCount > 0) {
+                probability[small[--smallCount]] = 1;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int column = random.nextInt(probability.length);
+            return random.nextDouble() < probability[column] ? column : alias[column];
+        }
+    }
+
+    /** Buffered ASCII writer into a gzip file, formatting ids and numbers without intermediate Strings. */
+    private class LineWriter implements AutoCloseable {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[WRITE_BUFFER_SIZE];
+        private final byte[] idPrefix = (organism + ".SYN").getBytes(StandardCharsets.US_ASCII);
+        private int position;
+
+        LineWriter(Path file) throws IOException {
+            // Fastest compression level: generation at 100M edges is bound by deflate, not by sampling.
+            this.out = new GZIPOutputStream(Files.newOutputStream(file), WRITE_BUFFER_SIZE) {
+                {
+                    def.setLevel(Deflater.BEST_SPEED);
+                }
+            };
+        }
+
+        LineWriter appendId(int protein) throws IOException {
+            ensureCapacity(idPrefix.length + idDigits);
+            System.arraycopy(idPrefix, 0, buffer, position, idPrefix.length);
+            position += idPrefix.length + idDigits;
+            for (int i = position - 1, rest = protein; i >= position - idDigits; i--, rest /= 10) {
+                buffer[i] = (byte) ('0' + rest % 10);
+            }
+            return this;
+        }
+
+        LineWriter append(int number) throws IOException {
+            return append(Integer.toString(number));
+        }
+
+        LineWriter append(char c) throws IOException {
+            ensureCapacity(1);
+            buffer[position++] = (byte) c;
+            return this;
+        }
+
+        LineWriter append(String text) throws IOException {
+            for (int i = 0; i < text.length(); i++) {
+                append(text.charAt(i));
+            }
+            return this;
+        }
+
+        private void ensureCapacity(int bytes) throws IOException {
+            if (position + bytes > buffer.length) {
+                out.write(buffer, 0, position);
+                position = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.write(buffer, 0, position);
+            out.close();
+        }
+    }
+
+    public static class Builder {
+        private int proteinCount = 10000;
+        private double averageDegree = 20;
+        private double degreeExponent = 2.5;
+        private int maxDegree = 5000;
+        private int minScore = 150; // STRING DB's lowest published confidence.
+        private int maxScore = 999;
+        private double scoreSkew = 2.0;
+        private String organism = "9999";
+        private String version = "12.0";
+        private long seed = 42;
+        private int blockCapacity = 1 << 24;
+
+        public Builder setProteinCount(int proteinCount) {
+            this.proteinCount = proteinCount;
+            return this;
+        }
+
+        public Builder setAverageDegree(double averageDegree) {
+            this.averageDegree = averageDegree;
+            return this;
+        }
+
+        public Builder setDegreeExponent(double degreeExponent) {
+            this.degreeExponent = degreeExponent;
+            return this;
+        }
+
+        public Builder setMaxDegree(int maxDegree) {
+            this.maxDegree = maxDegree;
+            return this;
+        }
+
+        public Builder setScoreRange(int minScore, int maxScore) {
+            this.minScore = minScore;
+            this.maxScore = maxScore;
+            return this;
+        }
+
+        public Builder setScoreSkew(double scoreSkew) {
+            /** Scores are minScore + (maxScore - minScore) * u^skew for uniform u; 1 is uniform, higher favors low. */
+            this.scoreSkew = scoreSkew;
+            return this;
+        }
+
+        public Builder setOrganism(String organism) {
+            this.organism = organism;
+            return this;
+        }
+
+        public Builder setVersion(String version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder setBlockCapacity(int blockCapacity) {
+            /** Directed edges held in memory at once (8 bytes each); larger blocks mean fewer replays. */
+            this.blockCapacity = blockCapacity;
+            return this;
+        }
+
+        public SyntheticNetworkGenerator build() {
+            return new SyntheticNetworkGenerator(this);
+        }
+    }
+}
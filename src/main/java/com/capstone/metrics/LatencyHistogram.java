@@ -0,0 +1,119 @@
+/*
+ * LatencyHistogram
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations in nanoseconds, safe to record into from any number of threads.
+ * Buckets are log-linear: every power of two is split into 8 equal sub-buckets, so a percentile is reported within
+ * 12.5% of the true value while the whole histogram stays a fixed array of about 500 counters, whatever the range.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+    private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void recordNanos(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucket(value));
+        count.increment();
+        sumNanos.add(value);
+        minNanos.accumulateAndGet(value, Math::min);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    public void drainTo(LatencyHistogram target) {
+        /**
+         * Adds everything recorded so far to another histogram and clears this one. Values recorded while draining end
+         * up in one of the two, though the count and the buckets may briefly disagree.
+         */
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long bucketCount = counts.getAndSet(bucket, 0);
+            if (bucketCount != 0) {
+                target.counts.addAndGet(bucket, bucketCount);
+            }
+        }
+        target.count.add(count.sumThenReset());
+        target.sumNanos.add(sumNanos.sumThenReset());
+        target.minNanos.accumulateAndGet(minNanos.getAndSet(Long.MAX_VALUE), Math::min);
+        target.maxNanos.accumulateAndGet(maxNanos.getAndSet(0), Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getSumMillis() {
+        return toMillis(sumNanos.sum());
+    }
+
+    public double getMinMillis() {
+        return getCount() == 0 ? 0 : toMillis(minNanos.get());
+    }
+
+    public double getMaxMillis() {
+        return toMillis(maxNanos.get());
+    }
+
+    public double getPercentileMillis(double percentile) {
+        /** Upper bound of the bucket holding the given percentile (0 to 100), capped at the largest value seen. */
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return toMillis(Math.min(upperBound(bucket), maxNanos.get()));
+            }
+        }
+        return getMaxMillis();
+    }
+
+    static int bucket(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(nanos); // At least SUB_BUCKET_BITS here.
+        int subBucket = (int) (nanos >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int bucket) {
+        /** Largest value that falls into the bucket. */
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int magnitude = bucket / SUB_BUCKETS - 1 + SUB_BUCKET_BITS;
+        long subBucket = bucket % SUB_BUCKETS;
+        long lowerBound = (1L << magnitude) + (subBucket << (magnitude - SUB_BUCKET_BITS));
+        return lowerBound + (1L << (magnitude - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms", getCount(),
+                getPercentileMillis(50), getPercentileMillis(90), getPercentileMillis(99), getMaxMillis());
+    }
+}
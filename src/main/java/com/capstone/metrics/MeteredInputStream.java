@@ -0,0 +1,49 @@
+/*
+ * MeteredInputStream
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/** Adds the bytes read through a stream to a BYTES counter, in one update per read call. */
+public class MeteredInputStream extends FilterInputStream {
+    private final Metrics metrics;
+    private final String counter;
+
+    public MeteredInputStream(InputStream in, Metrics metrics, String counter) {
+        super(in);
+        this.metrics = metrics;
+        this.counter = counter;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value >= 0) {
+            metrics.add(counter, 1, MetricUnit.BYTES);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buf, int offset, int length) throws IOException {
+        int read = super.read(buf, offset, length);
+        if (read > 0) {
+            metrics.add(counter, read, MetricUnit.BYTES);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        metrics.add(counter, skipped, MetricUnit.BYTES);
+        return skipped;
+    }
+}
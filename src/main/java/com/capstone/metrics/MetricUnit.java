@@ -0,0 +1,28 @@
+/*
+ * MetricUnit
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.metrics;
+
+/** Units of recorded metrics, named as CloudWatch expects them in embedded metric format records. */
+public enum MetricUnit {
+    COUNT("Count"),
+    BYTES("Bytes"),
+    MILLISECONDS("Milliseconds"),
+    COUNT_PER_SECOND("Count/Second"),
+    BYTES_PER_SECOND("Bytes/Second"),
+    NONE("None");
+
+    private final String cloudWatchName;
+
+    MetricUnit(String cloudWatchName) {
+        this.cloudWatchName = cloudWatchName;
+    }
+
+    public String getCloudWatchName() {
+        return cloudWatchName;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Metrics
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.metrics;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Metrics of one run (e.g. one Lambda invocation): counters, gauges and latency histograms keyed by dotted names such
+ * as "parse.edges" or "dynamodb.batchWriteItem". Recording is thread-safe and cheap enough for per-chunk and per-batch
+ * call sites, though not for per-edge ones; callers count per-edge work in locals and add it once.
+ * At the end of a run, toEmfJson() renders everything as a single CloudWatch embedded metric format record, which
+ * CloudWatch Logs turns into metrics when the line is logged from Lambda.
+ * Reference: https://docs.aws.amazon.com/AmazonCloudWatch/latest/monitoring/CloudWatch_Embedded_Metric_Format_Specification.html
+ */
+public class Metrics {
+    private static final int MAX_METRICS_PER_DIRECTIVE = 100; // EMF limit.
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Gauge> gauges = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> properties = new ConcurrentHashMap<>();
+
+    public void increment(String name) {
+        add(name, 1, MetricUnit.COUNT);
+    }
+
+    public void add(String name, double value, MetricUnit unit) {
+        counters.computeIfAbsent(name, key -> new Counter(unit)).sum.add(value);
+    }
+
+    public void setGauge(String name, double value, MetricUnit unit) {
+        gauges.put(name, new Gauge(value, unit));
+    }
+
+    public void setMaxGauge(String name, double value, MetricUnit unit) {
+        /** Keeps the largest value set under this name. */
+        gauges.merge(name, new Gauge(value, unit), (current, next) -> next.value > current.value ? next : current);
+    }
+
+    public void setProperty(String name, String value) {
+        /** Context logged with the metrics (e.g. the dataset id) without becoming a metric itself. */
+        properties.put(name, value);
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    public void recordNanos(String name, long nanos) {
+        histogram(name).recordNanos(nanos);
+    }
+
+    public Timer startTimer(String name) {
+        /** Records the time until close() into the named histogram; use with try-with-resources. */
+        return new Timer(histogram(name));
+    }
+
+    public void drainTo(Metrics target) {
+        /**
+         * Moves the counters, gauges and histograms recorded so far into another Metrics, leaving them empty here. This
+         * reports what a component that outlives a run (e.g. a helper kept across warm Lambda invocations) recorded
+         * during the run along with the run's own metrics.
+         */
+        counters.forEach((name, counter) -> {
+            double sum = counter.sum.sumThenReset();
+            if (sum != 0) {
+                target.add(name, sum, counter.unit);
+            }
+        });
+        for (String name : gauges.keySet()) {
+            Gauge gauge = gauges.remove(name);
+            if (gauge != null) {
+                target.gauges.put(name, gauge);
+            }
+        }
+        histograms.forEach((name, histogram) -> {
+            if (histogram.getCount() > 0) {
+                histogram.drainTo(target.histogram(name));
+            }
+        });
+    }
+
+    public double getCounter(String name) {
+        Counter counter = counters.get(name);
+        return counter == null ? 0 : counter.sum.sum();
+    }
+
+    public double getGauge(String name) {
+        Gauge gauge = gauges.get(name);
+        return gauge == null ? 0 : gauge.value;
+    }
+
+    public void resetHeapHighWaterMark() {
+        /** Clears the JVM's peak heap usage, so that recordHeapHighWaterMark() covers this run only. */
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    public void recordHeapHighWaterMark() {
+        /**
+         * Sets "jvm.heapHighWaterMark" to the sum of the peak usage of every heap pool since the last reset. Pools peak
+         * at different times, so this is an upper bound of the true peak, which is what sizing decisions need.
+         */
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        setMaxGauge("jvm.heapHighWaterMark", peak, MetricUnit.BYTES);
+    }
+
+    public String toEmfJson(String namespace, Map<String, String> dimensions) {
+        /**
+         * One-line embedded metric format record. Histograms are reported as <name>.count, <name>.p50, <name>.p90,
+         * <name>.p99 and <name>.max in milliseconds, since EMF has no histogram type.
+         */
+        Map<String, Double> values = new TreeMap<>();
+        Map<String, MetricUnit> units = new TreeMap<>();
+        counters.forEach((name, counter) -> {
+            values.put(name, counter.sum.sum());
+            units.put(name, counter.unit);
+        });
+        gauges.forEach((name, gauge) -> {
+            values.put(name, gauge.value);
+            units.put(name, gauge.unit);
+        });
+        histograms.forEach((name, histogram) -> {
+            values.put(name + ".count", (double) histogram.getCount());
+            units.put(name + ".count", MetricUnit.COUNT);
+            for (double percentile : PERCENTILES) {
+                values.put(name + ".p" + (int) percentile, histogram.getPercentileMillis(percentile));
+                units.put(name + ".p" + (int) percentile, MetricUnit.MILLISECONDS);
+            }
+            values.put(name + ".max", histogram.getMaxMillis());
+            units.put(name + ".max", MetricUnit.MILLISECONDS);
+        });
+
+        JsonArray dimensionSet = new JsonArray();
+        dimensions.keySet().forEach(dimensionSet::add);
+        JsonArray dimensionSets = new JsonArray();
+        dimensionSets.add(dimensionSet);
+
+        // A directive holds at most 100 metrics, so larger runs are split over several directives of one record.
+        JsonArray directives = new JsonArray();
+        List<String> names = new ArrayList<>(values.keySet());
+        for (int start = 0; start < names.size(); start += MAX_METRICS_PER_DIRECTIVE) {
+            JsonArray metrics = new JsonArray();
+            for (String name : names.subList(start, Math.min(names.size(), start + MAX_METRICS_PER_DIRECTIVE))) {
+                JsonObject metric = new JsonObject();
+                metric.addProperty("Name", name);
+                metric.addProperty("Unit", units.get(name).getCloudWatchName());
+                metrics.add(metric);
+            }
+            JsonObject directive = new JsonObject();
+            directive.addProperty("Namespace", namespace);
+            directive.add("Dimensions", dimensionSets);
+            directive.add("Metrics", metrics);
+            directives.add(directive);
+        }
+
+        JsonObject metadata = new JsonObject();
+        metadata.addProperty("Timestamp", System.currentTimeMillis());
+        metadata.add("CloudWatchMetrics", directives);
+        JsonObject record = new JsonObject();
+        record.add("_aws", metadata);
+        dimensions.forEach(record::addProperty);
+        new TreeMap<>(properties).forEach(record::addProperty);
+        values.forEach(record::addProperty);
+        return new Gson().toJson(record);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder();
+        new TreeMap<>(counters).forEach((name, counter) -> summary.append(name).append('=')
+                .append(counter.sum.sum()).append(' '));
+        new TreeMap<>(gauges).forEach((name, gauge) -> summary.append(name).append('=')
+                .append(gauge.value).append(' '));
+        new TreeMap<>(histograms).forEach((name, histogram) -> summary.append(name).append("={")
+                .append(histogram).append("} "));
+        return summary.toString().trim();
+    }
+
+    /** Measures one operation for the histogram it was started for. */
+    public static class Timer implements AutoCloseable {
+        private final LatencyHistogram histogram;
+        private final long startNanos = System.nanoTime();
+
+        Timer(LatencyHistogram histogram) {
+            this.histogram = histogram;
+        }
+
+        public long elapsedNanos() {
+            return System.nanoTime() - startNanos;
+        }
+
+        @Override
+        public void close() {
+            histogram.recordNanos(elapsedNanos());
+        }
+    }
+
+    private static class Counter {
+        private final DoubleAdder sum = new DoubleAdder();
+        private final MetricUnit unit;
+
+        Counter(MetricUnit unit) {
+            this.unit = unit;
+        }
+    }
+
+    private static class Gauge {
+        private final double value;
+        private final MetricUnit unit;
+
+        Gauge(double value, MetricUnit unit) {
+            this.value = value;
+            this.unit = unit;
+        }
+    }
+}
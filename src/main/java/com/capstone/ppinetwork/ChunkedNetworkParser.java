@@ -0,0 +1,284 @@
+/*
+ * ChunkedNetworkParser
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import com.capstone.ppinetwork.PpiNetworkNode.Neighbor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Parses a large interaction file on all cores. The decompressed file is spooled to a local temp file, cut into chunks
+ * at line boundaries, and every chunk is memory-mapped and tokenized on a fork-join pool into its own partial edge list
+ * with a chunk-local id dictionary. Partial results are then remapped onto one shared dictionary, again in parallel,
+ * and stitched together in file order, so the output is identical to a sequential parse.
+ */
+class ChunkedNetworkParser {
+    private static final long MIN_CHUNK_BYTES = 1L << 20;
+    private static final long MAX_CHUNK_BYTES = 1L << 28; // Well under the 2 GB limit of a single mapping.
+    private static final int CHUNKS_PER_THREAD = 4;        // Evens out chunks that parse slower than others.
+    private static final int TRANSFER_BUFFER_SIZE = 1 << 16;
+
+    private final int parallelism;
+
+    ChunkedNetworkParser(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    Map<String, List<Neighbor>> parseNeighborLists(InputStream decompressed) throws IOException {
+        /** Same map, in the same iteration order, as PpiNetworkParser.parseNetworkData. */
+        ProteinIdDictionary dictionary = new ProteinIdDictionary();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<EdgeList> chunks = parseChunks(decompressed, dictionary, pool);
+
+            // Each chunk builds its own map in first-appearance order; merging them in chunk order then inserts keys
+            // into the final map in exactly the order a sequential parse would.
+            List<ForkJoinTask<Map<String, List<Neighbor>>>> partials = new ArrayList<>(chunks.size());
+            for (EdgeList chunk : chunks) {
+                partials.add(pool.submit(() -> chunk.toNeighborLists(dictionary)));
+            }
+            Map<String, List<Neighbor>> networkData = new HashMap<>();
+            for (ForkJoinTask<Map<String, List<Neighbor>>> partial : partials) {
+                for (Map.Entry<String, List<Neighbor>> entry : join(partial).entrySet()) {
+                    List<Neighbor> neighbors = networkData.putIfAbsent(entry.getKey(), entry.getValue());
+                    if (neighbors != null) {
+                        neighbors.addAll(entry.getValue()); // Key's lines straddle a chunk boundary.
+                    }
+                }
+            }
+            return networkData;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    void parseInto(InputStream decompressed, LinksFileTokenizer.EdgeConsumer consumer, ProteinIdDictionary dictionary)
+            throws IOException {
+        /** Replays every edge into the consumer in file order, with indices from the given dictionary. */
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (EdgeList chunk : parseChunks(decompressed, dictionary, pool)) {
+                chunk.forEach(consumer);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<EdgeList> parseChunks(InputStream decompressed, ProteinIdDictionary dictionary, ForkJoinPool pool)
+            throws IOException {
+        /** Tokenizes every chunk in parallel, then remaps the chunk-local indices onto the shared dictionary. */
+        Path spool = Files.createTempFile("ppi-links", ".txt");
+        try (InputStream stream = decompressed;
+             FileChannel channel = spoolAndOpen(stream, spool)) {
+            long[] boundaries = chunkBoundaries(channel);
+
+            List<ForkJoinTask<EdgeList>> tasks = new ArrayList<>(boundaries.length - 1);
+            for (int chunk = 0; chunk + 1 < boundaries.length; chunk++) {
+                long start = boundaries[chunk];
+                long end = boundaries[chunk + 1];
+                tasks.add(pool.submit(() -> tokenizeChunk(channel, start, end)));
+            }
+            List<EdgeList> chunks = new ArrayList<>(tasks.size());
+            for (ForkJoinTask<EdgeList> task : tasks) {
+                chunks.add(join(task));
+            }
+
+            // Only distinct ids are interned here, so this sequential step is small next to tokenizing.
+            List<int[]> remaps = new ArrayList<>(chunks.size());
+            for (EdgeList chunk : chunks) {
+                int[] remap = new int[chunk.dictionary.size()];
+                for (int local = 0; local < remap.length; local++) {
+                    remap[local] = dictionary.intern(chunk.dictionary.getId(local));
+                }
+                remaps.add(remap);
+            }
+            List<ForkJoinTask<?>> remapTasks = new ArrayList<>(chunks.size());
+            for (int chunk = 0; chunk < chunks.size(); chunk++) {
+                EdgeList edges = chunks.get(chunk);
+                int[] remap = remaps.get(chunk);
+                remapTasks.add(pool.submit(() -> edges.remap(remap)));
+            }
+            for (ForkJoinTask<?> task : remapTasks) {
+                join(task);
+            }
+            return chunks;
+        } finally {
+            Files.deleteIfExists(spool);
+        }
+    }
+
+    private static FileChannel spoolAndOpen(InputStream stream, Path spool) throws IOException {
+        Files.copy(stream, spool, StandardCopyOption.REPLACE_EXISTING);
+        return FileChannel.open(spool, StandardOpenOption.READ);
+    }
+
+    private long[] chunkBoundaries(FileChannel channel) throws IOException {
+        /** Offsets that split the file into roughly equal chunks, each ending just after a newline. */
+        long size = channel.size();
+        long target = Math.max(MIN_CHUNK_BYTES,
+                Math.min(MAX_CHUNK_BYTES, size / ((long) parallelism * CHUNKS_PER_THREAD) + 1));
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long position = target;
+        while (position < size) {
+            long newline = -1;
+            while (newline < 0 && position < size) {
+                probe.clear();
+                int read = channel.read(probe, position);
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        newline = position + i;
+                        break;
+                    }
+                }
+                position += Math.max(read, 0);
+            }
+            if (newline < 0) {
+                break; // No newline left: the rest of the file belongs to the last chunk.
+            }
+            boundaries.add(newline + 1);
+            position = newline + 1 + target;
+        }
+        if (boundaries.get(boundaries.size() - 1) < size) {
+            boundaries.add(size);
+        }
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static EdgeList tokenizeChunk(FileChannel channel, long start, long end) {
+        try {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            EdgeList edges = new EdgeList(new ProteinIdDictionary());
+            new LinksFileTokenizer(edges.dictionary).tokenize(new ByteBufferInputStream(mapped), edges);
+            return edges;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> T join(ForkJoinTask<T> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing chunks", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException("Error parsing chunk", e.getCause());
+        }
+    }
+
+    /** Edges of one chunk as primitive arrays, in file order. */
+    private static class EdgeList implements LinksFileTokenizer.EdgeConsumer {
+        private final ProteinIdDictionary dictionary;
+        private int[] sources = new int[1 << 12];
+        private int[] targets = new int[1 << 12];
+        private short[] scores = new short[1 << 12];
+        private int size;
+
+        EdgeList(ProteinIdDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public void accept(int protein1, int protein2, int score) {
+            if (score < 0 || score > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Score out of range for compact storage: " + score);
+            }
+            if (size == sources.length) {
+                sources = Arrays.copyOf(sources, size << 1);
+                targets = Arrays.copyOf(targets, size << 1);
+                scores = Arrays.copyOf(scores, size << 1);
+            }
+            sources[size] = protein1;
+            targets[size] = protein2;
+            scores[size] = (short) score;
+            size++;
+        }
+
+        void remap(int[] remap) {
+            for (int i = 0; i < size; i++) {
+                sources[i] = remap[sources[i]];
+                targets[i] = remap[targets[i]];
+            }
+        }
+
+        void forEach(LinksFileTokenizer.EdgeConsumer consumer) {
+            for (int i = 0; i < size; i++) {
+                consumer.accept(sources[i], targets[i], scores[i]);
+            }
+        }
+
+        Map<String, List<Neighbor>> toNeighborLists(ProteinIdDictionary shared) {
+            /** Neighbor lists keyed in first-appearance order; ids come from the shared dictionary after remap. */
+            Map<String, List<Neighbor>> neighborLists = new LinkedHashMap<>();
+            List<Neighbor> current = null;
+            int currentSource = -1;
+            for (int i = 0; i < size; i++) {
+                if (sources[i] != currentSource) {
+                    currentSource = sources[i];
+                    current = neighborLists.computeIfAbsent(shared.getId(currentSource), key -> new ArrayList<>());
+                }
+                current.add(Neighbor.create(shared.getId(targets[i]), PpiNetworkParser.boxScore(scores[i])));
+            }
+            return neighborLists;
+        }
+    }
+
+    /** Reads a (memory-mapped) ByteBuffer as a stream, so chunks go through the regular tokenizer. */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buf, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int copied = Math.min(length, buffer.remaining());
+            buffer.get(buf, offset, copied);
+            return copied;
+        }
+    }
+}
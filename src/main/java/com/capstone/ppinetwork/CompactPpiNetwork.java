@@ -0,0 +1,330 @@
+/*
+ * CompactPpiNetwork
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import com.capstone.ppinetwork.PpiNetworkNode.Neighbor;
+
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Primitive, compressed-sparse-row representation of a protein-interaction network.
+ * Protein ids live once in a dictionary and every other reference to a protein is its dense int index. The neighbors of
+ * node i are targets[offsets[i]] .. targets[offsets[i + 1] - 1], with the matching STRING DB scores in a parallel
+ * short array, so an edge costs 6 bytes instead of a Neighbor object, a boxed score and an ArrayList slot.
+ * PpiNetworkNode objects are only materialized on demand, as views over these arrays.
+ * Reference: https://en.wikipedia.org/wiki/Sparse_matrix#Compressed_sparse_row_(CSR,_CRS_or_Yale_format)
+ */
+public class CompactPpiNetwork {
+    private static final int NO_PROTEIN_SIZE = Integer.MIN_VALUE;
+
+    private final String[] ids;
+    // Heap arrays when parsed, views over a memory-mapped PpiNetworkFile when loaded from disk.
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+    private final ShortBuffer scores;
+
+    // Accessory metadata by node index; a null preferred name means the node has no accessory record.
+    private final String[] preferredNames;
+    private final String[] annotations;
+    private final int[] proteinSizes;
+
+    protected CompactPpiNetwork(String[] ids, IntBuffer offsets, IntBuffer targets, ShortBuffer scores,
+                                String[] preferredNames, String[] annotations, int[] proteinSizes) {
+        this.ids = ids;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.scores = scores;
+        this.preferredNames = preferredNames;
+        this.annotations = annotations;
+        this.proteinSizes = proteinSizes;
+    }
+
+    public int nodeCount() {
+        return ids.length;
+    }
+
+    public int edgeCount() {
+        return targets.limit();
+    }
+
+    public String getId(int node) {
+        return ids[node];
+    }
+
+    public int indexOf(String id) {
+        /** Index of the protein with the given id, or -1 if it is not part of the network. */
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? index : -1;
+    }
+
+    public int degree(int node) {
+        return offsets.get(node + 1) - offsets.get(node);
+    }
+
+    public int neighbor(int node, int position) {
+        return targets.get(offsets.get(node) + position);
+    }
+
+    public int score(int node, int position) {
+        return scores.get(offsets.get(node) + position);
+    }
+
+    public String getPreferredName(int node) {
+        return preferredNames[node];
+    }
+
+    public String getAnnotation(int node) {
+        return annotations[node];
+    }
+
+    public Integer getProteinSize(int node) {
+        return proteinSizes[node] == NO_PROTEIN_SIZE ? null : proteinSizes[node];
+    }
+
+    public boolean hasAccessoryData(int node) {
+        return preferredNames[node] != null;
+    }
+
+    public PpiNetworkNode getNode(int node) {
+        /** PpiNetworkNode view of a single node; the neighbor list reads straight from the CSR arrays. */
+        PpiNetworkNode.Builder builder = new PpiNetworkNode.Builder()
+                .setId(ids[node])
+                .setNeighbors(new NeighborListView(node));
+        if (hasAccessoryData(node)) {
+            builder.setPreferredName(preferredNames[node])
+                    .setAnnotation(annotations[node])
+                    .setProteinSize(getProteinSize(node));
+        }
+        return builder.build();
+    }
+
+    public PpiNetworkNode getNode(String id) {
+        int index = indexOf(id);
+        return index >= 0 ? getNode(index) : null;
+    }
+
+    public List<PpiNetworkNode> toNodes() {
+        /**
+         * Lazy list of every node with at least one interaction, matching the nodes returned by
+         * PpiNetworkParser.parseProteinData. Nodes are created as they are read, so iterating keeps memory flat.
+         */
+        int count = 0;
+        for (int node = 0; node < ids.length; node++) {
+            if (degree(node) > 0) {
+                count++;
+            }
+        }
+        int[] nodesWithEdges = new int[count];
+        for (int node = 0, i = 0; node < ids.length; node++) {
+            if (degree(node) > 0) {
+                nodesWithEdges[i++] = node;
+            }
+        }
+        return new NodeListView(nodesWithEdges);
+    }
+
+    String[] ids() {
+        return ids;
+    }
+
+    String[] preferredNames() {
+        return preferredNames;
+    }
+
+    String[] annotations() {
+        return annotations;
+    }
+
+    int[] proteinSizes() {
+        return proteinSizes;
+    }
+
+    public long estimatedSizeInBytes() {
+        /** Approximate footprint of the primitive arrays, excluding the id and metadata Strings. */
+        return 4L * offsets.limit() + 4L * targets.limit() + 2L * scores.limit() + 4L * proteinSizes.length;
+    }
+
+    private class NeighborListView extends AbstractList<Neighbor> implements RandomAccess {
+        private final int node;
+
+        NeighborListView(int node) {
+            this.node = node;
+        }
+
+        @Override
+        public Neighbor get(int position) {
+            if (position < 0 || position >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size());
+            }
+            return Neighbor.create(ids[neighbor(node, position)], score(node, position));
+        }
+
+        @Override
+        public int size() {
+            return degree(node);
+        }
+    }
+
+    private class NodeListView extends AbstractList<PpiNetworkNode> implements RandomAccess {
+        private final int[] nodes;
+
+        NodeListView(int[] nodes) {
+            this.nodes = nodes;
+        }
+
+        @Override
+        public PpiNetworkNode get(int position) {
+            return getNode(nodes[position]);
+        }
+
+        @Override
+        public int size() {
+            return nodes.length;
+        }
+    }
+
+    /**
+     * Builds a CompactPpiNetwork straight from the tokenizer's edge stream. Edges are appended to primitive target and
+     * score arrays in arrival order; since STRING files list each protein's interactions contiguously, the rows are
+     * usually already in CSR order and only their start positions need recording. Rows that are split across the
+     * file are regrouped with a stable counting sort when the network is built.
+     */
+    public static class Builder implements LinksFileTokenizer.EdgeConsumer {
+        private final ProteinIdDictionary dictionary;
+        private int[] targets = new int[1 << 12];
+        private short[] scores = new short[1 << 12];
+        private int edgeCount;
+
+        // Contiguous runs of edges sharing a source: (source, first edge) pairs.
+        private int[] runSources = new int[1 << 8];
+        private int[] runStarts = new int[1 << 8];
+        private int runCount;
+        private int lastSource = -1;
+
+        private String[] preferredNames = new String[0];
+        private String[] annotations = new String[0];
+        private int[] proteinSizes = new int[0];
+
+        public Builder(ProteinIdDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        public ProteinIdDictionary getDictionary() {
+            return dictionary;
+        }
+
+        @Override
+        public void accept(int protein1, int protein2, int score) {
+            if (score < 0 || score > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Score out of range for compact storage: " + score);
+            }
+            if (protein1 != lastSource) {
+                if (runCount == runSources.length) {
+                    runSources = Arrays.copyOf(runSources, runCount << 1);
+                    runStarts = Arrays.copyOf(runStarts, runCount << 1);
+                }
+                runSources[runCount] = protein1;
+                runStarts[runCount] = edgeCount;
+                runCount++;
+                lastSource = protein1;
+            }
+            if (edgeCount == targets.length) {
+                targets = Arrays.copyOf(targets, edgeCount << 1);
+                scores = Arrays.copyOf(scores, edgeCount << 1);
+            }
+            targets[edgeCount] = protein2;
+            scores[edgeCount] = (short) score;
+            edgeCount++;
+        }
+
+        public Builder addAccessoryData(PpiNetworkNode.Builder accessoryData) {
+            /** Attaches a protein.info record; proteins that never appear in an interaction get a zero-degree node. */
+            PpiNetworkNode node = accessoryData.build();
+            int index = dictionary.intern(node.getId());
+            ensureMetadataCapacity(index + 1);
+            preferredNames[index] = node.getPreferredName();
+            annotations[index] = node.getAnnotation();
+            proteinSizes[index] = node.getProteinSize() == null ? NO_PROTEIN_SIZE : node.getProteinSize();
+            return this;
+        }
+
+        public CompactPpiNetwork build() {
+            int nodeCount = dictionary.size();
+            ensureMetadataCapacity(nodeCount);
+
+            // Dictionary indices follow first appearance; renumber nodes so that indices follow id order instead.
+            // Sorted indices make id lookups a binary search and give every consumer a deterministic node order.
+            String[] sortedIds = new String[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                sortedIds[i] = dictionary.getId(i);
+            }
+            Arrays.sort(sortedIds);
+            int[] newIndex = new int[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                newIndex[dictionary.intern(sortedIds[i])] = i;
+            }
+
+            int[] offsets = new int[nodeCount + 1];
+            for (int run = 0; run < runCount; run++) {
+                offsets[newIndex[runSources[run]] + 1] += runEnd(run) - runStarts[run];
+            }
+            for (int node = 0; node < nodeCount; node++) {
+                offsets[node + 1] += offsets[node];
+            }
+
+            // Stable scatter of every run into its row, preserving the original edge order within each row.
+            int[] csrTargets = new int[edgeCount];
+            short[] csrScores = new short[edgeCount];
+            int[] cursor = Arrays.copyOf(offsets, nodeCount);
+            for (int run = 0; run < runCount; run++) {
+                int source = newIndex[runSources[run]];
+                for (int edge = runStarts[run]; edge < runEnd(run); edge++) {
+                    csrTargets[cursor[source]] = newIndex[targets[edge]];
+                    csrScores[cursor[source]] = scores[edge];
+                    cursor[source]++;
+                }
+            }
+
+            String[] csrPreferredNames = new String[nodeCount];
+            String[] csrAnnotations = new String[nodeCount];
+            int[] csrProteinSizes = new int[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                csrPreferredNames[newIndex[i]] = preferredNames[i];
+                csrAnnotations[newIndex[i]] = annotations[i];
+                csrProteinSizes[newIndex[i]] = proteinSizes[i];
+            }
+            return new CompactPpiNetwork(sortedIds, IntBuffer.wrap(offsets), IntBuffer.wrap(csrTargets),
+                    ShortBuffer.wrap(csrScores), csrPreferredNames, csrAnnotations, csrProteinSizes);
+        }
+
+        public UndirectedPpiNetwork buildUndirected() {
+            /** Builds the network with every symmetric interaction stored once; see UndirectedPpiNetwork. */
+            return UndirectedPpiNetwork.fromDirected(build());
+        }
+
+        private int runEnd(int run) {
+            return run + 1 < runCount ? runStarts[run + 1] : edgeCount;
+        }
+
+        private void ensureMetadataCapacity(int size) {
+            if (preferredNames.length < size) {
+                int capacity = Math.max(size, preferredNames.length << 1);
+                int oldLength = proteinSizes.length;
+                preferredNames = Arrays.copyOf(preferredNames, capacity);
+                annotations = Arrays.copyOf(annotations, capacity);
+                proteinSizes = Arrays.copyOf(proteinSizes, capacity);
+                Arrays.fill(proteinSizes, oldLength, capacity, NO_PROTEIN_SIZE);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * DataSources
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Helpers for reading STRING DB-format files from any source: remote downloads, file: URLs and local paths, gzipped
+ * or not.
+ */
+public class DataSources {
+    private static final int GZIP_MAGIC = 0x8B1F; // First two bytes of every gzip stream, little-endian.
+
+    private DataSources() {
+    }
+
+    public static URL toUrl(String source) throws MalformedURLException {
+        /**
+         * URL for a STRING DB url, a file: url or a local path. Anything without a URL scheme of two or more letters
+         * is taken as a path (so C:\\data on Windows is a path), relative to the working directory.
+         */
+        if (source.matches("^[a-zA-Z][a-zA-Z0-9+.-]+:.*")) {
+            return new URL(source);
+        }
+        return Paths.get(source).toAbsolutePath().toUri().toURL();
+    }
+
+    public static InputStream decompress(InputStream stream, int bufferSize) throws IOException {
+        /** Unzips the stream if it starts with the gzip magic number, otherwise returns its bytes unchanged. */
+        PushbackInputStream pushback = new PushbackInputStream(stream, 2);
+        byte[] header = new byte[2];
+        int read = pushback.read(header, 0, 2);
+        if (read == 1) {
+            read += Math.max(0, pushback.read(header, 1, 1));
+        }
+        if (read > 0) {
+            pushback.unread(header, 0, read);
+        }
+        boolean gzipped = read == 2 && ((header[0] & 0xFF) | (header[1] & 0xFF) << 8) == GZIP_MAGIC;
+        return gzipped ? new GZIPInputStream(pushback, bufferSize) : pushback;
+    }
+
+    static String cacheKey(URL url) {
+        /**
+         * Identifies the contents behind a URL: the URL itself, plus the size and modification time of local files,
+         * which unlike versioned STRING downloads can be rewritten in place (e.g. by SyntheticNetworkGenerator).
+         */
+        if (!"file".equals(url.getProtocol())) {
+            return url.toString();
+        }
+        try {
+            Path path = Paths.get(url.toURI());
+            return url + "@" + Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+        } catch (Exception e) {
+            return url.toString(); // Missing or unreadable; parsing it will report the actual error.
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * EdgeFilter
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import java.util.Arrays;
+
+/**
+ * Applies ParseOptions to the tokenizer's edge stream before edges reach the consumer that stores them.
+ * Score and allowlist checks work on the int edge directly; allowlist membership is looked up once per dictionary
+ * index. Top-k keeps a bounded min-heap per protein, holding at most k (score, arrival) keys and targets, so the full
+ * neighbor list of a hub protein is never held. With top-k, kept edges are only passed on by finish(), grouped by
+ * protein in order of first appearance and in file order within each protein.
+ */
+class EdgeFilter implements LinksFileTokenizer.EdgeConsumer {
+    private static final byte UNKNOWN = 0;
+    private static final byte ALLOWED = 1;
+    private static final byte DENIED = 2;
+
+    private final ParseOptions options;
+    private final ProteinIdDictionary dictionary;
+    private final LinksFileTokenizer.EdgeConsumer downstream;
+
+    private byte[] allowed = new byte[0];
+
+    // Top-k state by source index; sources are flushed in order of first appearance.
+    private TopK[] heaps = new TopK[0];
+    private int[] sourceOrder = new int[1 << 8];
+    private int sourceCount;
+
+    EdgeFilter(ParseOptions options, ProteinIdDictionary dictionary, LinksFileTokenizer.EdgeConsumer downstream) {
+        this.options = options;
+        this.dictionary = dictionary;
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void accept(int protein1, int protein2, int score) {
+        if (score < options.getMinScore()) {
+            return;
+        }
+        if (options.getAllowlist().isPresent() && !(isAllowed(protein1) && isAllowed(protein2))) {
+            return;
+        }
+        if (!options.getTopK().isPresent()) {
+            downstream.accept(protein1, protein2, score);
+            return;
+        }
+        if (protein1 >= heaps.length) {
+            heaps = Arrays.copyOf(heaps, Math.max(protein1 + 1, heaps.length << 1));
+        }
+        if (heaps[protein1] == null) {
+            heaps[protein1] = new TopK(options.getTopK().get());
+            if (sourceCount == sourceOrder.length) {
+                sourceOrder = Arrays.copyOf(sourceOrder, sourceCount << 1);
+            }
+            sourceOrder[sourceCount++] = protein1;
+        }
+        heaps[protein1].offer(protein2, score);
+    }
+
+    void finish() {
+        /** Passes on the edges held back for top-k; a no-op without top-k. */
+        for (int i = 0; i < sourceCount; i++) {
+            int source = sourceOrder[i];
+            heaps[source].drainTo(source, downstream);
+            heaps[source] = null;
+        }
+        sourceCount = 0;
+    }
+
+    private boolean isAllowed(int protein) {
+        if (protein >= allowed.length) {
+            allowed = Arrays.copyOf(allowed, Math.max(protein + 1, allowed.length << 1));
+        }
+        if (allowed[protein] == UNKNOWN) {
+            allowed[protein] = options.isAllowed(dictionary.getId(protein)) ? ALLOWED : DENIED;
+        }
+        return allowed[protein] == ALLOWED;
+    }
+
+    /** Bounded min-heap of one protein's best edges, ordered by score and then by reverse arrival. */
+    private static class TopK {
+        private final int capacity;
+        // Grown on demand, so proteins with few edges don't pay for a full k-sized heap.
+        private long[] keys = new long[4];
+        private int[] targets = new int[4];
+        private int size;
+        private int arrivals;
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+        }
+
+        void offer(int target, int score) {
+            // Later arrivals rank lower at equal score, so ties keep the edge that came first in the file.
+            long key = ((long) score << 32) | (0xFFFFFFFFL - arrivals++);
+            if (size < capacity) {
+                if (size == keys.length) {
+                    int grown = Math.min(capacity, size << 1);
+                    keys = Arrays.copyOf(keys, grown);
+                    targets = Arrays.copyOf(targets, grown);
+                }
+                keys[size] = key;
+                targets[size] = target;
+                siftUp(size++);
+            } else if (key > keys[0]) {
+                keys[0] = key;
+                targets[0] = target;
+                siftDown(0);
+            }
+        }
+
+        void drainTo(int source, LinksFileTokenizer.EdgeConsumer consumer) {
+            /** Emits the kept edges in arrival order. */
+            long[] byArrival = new long[size];
+            for (int i = 0; i < size; i++) {
+                long arrival = 0xFFFFFFFFL - (keys[i] & 0xFFFFFFFFL);
+                byArrival[i] = (arrival << 32) | i;
+            }
+            Arrays.sort(byArrival);
+            for (long entry : byArrival) {
+                int slot = (int) (entry & 0xFFFFFFFFL);
+                consumer.accept(source, targets[slot], (int) (keys[slot] >>> 32));
+            }
+        }
+
+        private void siftUp(int slot) {
+            while (slot > 0) {
+                int parent = (slot - 1) >>> 1;
+                if (keys[parent] <= keys[slot]) {
+                    return;
+                }
+                swap(parent, slot);
+                slot = parent;
+            }
+        }
+
+        private void siftDown(int slot) {
+            while (true) {
+                int smallest = slot;
+                int left = 2 * slot + 1;
+                int right = left + 1;
+                if (left < size && keys[left] < keys[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && keys[right] < keys[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == slot) {
+                    return;
+                }
+                swap(slot, smallest);
+                slot = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long key = keys[a];
+            keys[a] = keys[b];
+            keys[b] = key;
+            int target = targets[a];
+            targets[a] = targets[b];
+            targets[b] = target;
+        }
+    }
+}
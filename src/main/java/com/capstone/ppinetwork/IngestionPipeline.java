@@ -0,0 +1,333 @@
+/*
+ * IngestionPipeline
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import com.capstone.metrics.LatencyHistogram;
+import com.capstone.metrics.MeteredInputStream;
+import com.capstone.metrics.Metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Streams STRING DB files through a staged pipeline: download, decompress, line splitting and record parsing each run
+ * on their own thread, connected by bounded queues of byte chunks. Stages overlap, so wall-clock time approaches the
+ * slowest stage rather than the sum of all of them, and several files can stream at the same time. The bounded queues
+ * keep memory flat: a fast stage blocks once its downstream queue is full.
+ *
+ * <pre>
+ *   url.openStream() --[raw]--> gunzip --[decompressed]--> split at '\n' --[whole lines]--> LineParser
+ * </pre>
+ */
+public class IngestionPipeline implements AutoCloseable {
+    private static final int QUEUE_CAPACITY = 16;
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final Chunk END = new Chunk(new byte[0], 0);
+
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "ingestion-pipeline");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Future<?>> stages = new CopyOnWriteArrayList<>();
+    private final Map<String, StageTiming> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    private final Metrics metrics;
+
+    public IngestionPipeline() {
+        this(new Metrics());
+    }
+
+    public IngestionPipeline(Metrics metrics) {
+        /** Every chunk a stage handles is recorded in the "pipeline.<file>.<stage>" latency histogram. */
+        this.metrics = metrics;
+    }
+
+    /** Last stage of a pipeline: receives blocks that always end on a line boundary. */
+    public interface LineParser {
+        void parse(byte[] buf, int length) throws IOException;
+    }
+
+    public void start(String name, URL url, LineParser parser) {
+        /** Starts streaming one file through its own set of stages; call await() to wait for every started file. */
+        BlockingQueue<Chunk> raw = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<Chunk> decompressed = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<Chunk> lines = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+        StageTiming download = timing(name + ".download");
+        StageTiming decompress = timing(name + ".decompress");
+        StageTiming split = timing(name + ".split");
+        StageTiming parse = timing(name + ".parse");
+
+        submit(() -> {
+            try (InputStream stream = new MeteredInputStream(
+                    url.openStream(), metrics, PpiNetworkParser.BYTES_READ_METRIC)) {
+                pump(stream, raw, download);
+            }
+        });
+        submit(() -> {
+            try (InputStream stream = new MeteredInputStream(
+                    DataSources.decompress(new QueueInputStream(raw), CHUNK_SIZE),
+                    metrics, PpiNetworkParser.BYTES_DECOMPRESSED_METRIC)) {
+                pump(stream, decompressed, decompress);
+            }
+        });
+        submit(() -> splitLines(decompressed, lines, split));
+        submit(() -> {
+            for (Chunk chunk = lines.take(); chunk != END; chunk = lines.take()) {
+                long start = System.nanoTime();
+                parser.parse(chunk.data, chunk.length);
+                parse.record(System.nanoTime() - start, chunk.length);
+            }
+            parse.finish();
+        });
+    }
+
+    public void await() throws IOException {
+        /** Waits for every started stage; the first failure stops the remaining stages and is rethrown. */
+        try {
+            for (Future<?> stage : stages) {
+                try {
+                    stage.get();
+                } catch (CancellationException | ExecutionException e) {
+                    // Recorded in firstFailure by the stage that failed.
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelStages();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the ingestion pipeline");
+        } finally {
+            stages.clear();
+        }
+
+        // Report the stage that failed first, not the neighbors that were cancelled because of it.
+        Throwable failure = firstFailure.get();
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure != null) {
+            throw new IOException("Ingestion pipeline failed", failure);
+        }
+    }
+
+    public Map<String, StageTiming> getStageTimings() {
+        /** Timing of every stage started so far, in start order, keyed by "<file>.<stage>". */
+        synchronized (timings) {
+            return new LinkedHashMap<>(timings);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private interface Stage {
+        void run() throws Exception;
+    }
+
+    private void submit(Stage stage) {
+        stages.add(executor.submit(() -> {
+            try {
+                stage.run();
+                return null;
+            } catch (Exception | Error e) {
+                firstFailure.compareAndSet(null, e);
+                // Neighboring stages may be blocked on a queue this stage will never touch again.
+                cancelStages();
+                throw e;
+            }
+        }));
+        if (firstFailure.get() != null) {
+            cancelStages(); // A stage failed while this one was being submitted.
+        }
+    }
+
+    private void cancelStages() {
+        for (Future<?> stage : stages) {
+            stage.cancel(true);
+        }
+    }
+
+    private StageTiming timing(String stage) {
+        StageTiming timing = new StageTiming(metrics.histogram("pipeline." + stage));
+        timings.put(stage, timing);
+        return timing;
+    }
+
+    private static void pump(InputStream stream, BlockingQueue<Chunk> output, StageTiming timing)
+            throws IOException, InterruptedException {
+        /** Copies a stream into fixed-size chunks on the output queue. */
+        while (true) {
+            long start = System.nanoTime();
+            byte[] buf = new byte[CHUNK_SIZE];
+            int length = stream.readNBytes(buf, 0, buf.length);
+            timing.record(System.nanoTime() - start, length);
+            if (length == 0) {
+                break;
+            }
+            output.put(new Chunk(buf, length));
+        }
+        timing.finish();
+        output.put(END);
+    }
+
+    private static void splitLines(BlockingQueue<Chunk> input, BlockingQueue<Chunk> output, StageTiming timing)
+            throws InterruptedException {
+        /** Re-cuts chunks so that every block ends on a line boundary, carrying partial lines into the next block. */
+        byte[] carry = new byte[0];
+        for (Chunk chunk = input.take(); chunk != END; chunk = input.take()) {
+            long start = System.nanoTime();
+            int lastNewline = chunk.length - 1;
+            while (lastNewline >= 0 && chunk.data[lastNewline] != '\n') {
+                lastNewline--;
+            }
+            Chunk block = null;
+            if (lastNewline < 0) {
+                carry = concat(carry, chunk.data, 0, chunk.length);
+            } else {
+                byte[] lines = concat(carry, chunk.data, 0, lastNewline + 1);
+                carry = Arrays.copyOfRange(chunk.data, lastNewline + 1, chunk.length);
+                block = new Chunk(lines, lines.length);
+            }
+            timing.record(System.nanoTime() - start, chunk.length);
+            if (block != null) {
+                output.put(block);
+            }
+        }
+        if (carry.length > 0) {
+            byte[] lastLine = Arrays.copyOf(carry, carry.length + 1); // Last line without a trailing newline.
+            lastLine[carry.length] = '\n';
+            output.put(new Chunk(lastLine, lastLine.length));
+        }
+        timing.finish();
+        output.put(END);
+    }
+
+    private static byte[] concat(byte[] head, byte[] tail, int tailStart, int tailEnd) {
+        byte[] joined = Arrays.copyOf(head, head.length + tailEnd - tailStart);
+        System.arraycopy(tail, tailStart, joined, head.length, tailEnd - tailStart);
+        return joined;
+    }
+
+    private static class Chunk {
+        final byte[] data;
+        final int length;
+
+        Chunk(byte[] data, int length) {
+            this.data = data;
+            this.length = length;
+        }
+    }
+
+    /** Adapts a chunk queue back into an InputStream, so the decompression stage can consume the download stage. */
+    private static class QueueInputStream extends InputStream {
+        private final BlockingQueue<Chunk> queue;
+        private Chunk current;
+        private int position;
+
+        QueueInputStream(BlockingQueue<Chunk> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buf, int offset, int length) throws IOException {
+            if (current == END) {
+                return -1;
+            }
+            if (current == null || position == current.length) {
+                try {
+                    current = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for download stage");
+                }
+                position = 0;
+                if (current == END) {
+                    return -1;
+                }
+            }
+            int copied = Math.min(length, current.length - position);
+            System.arraycopy(current.data, position, buf, offset, copied);
+            position += copied;
+            return copied;
+        }
+    }
+
+    /** Time a stage spent working (excluding time blocked on its queues), its wall-clock span and bytes handled. */
+    public static class StageTiming {
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong busyNanos = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private final LatencyHistogram chunkLatency;
+        private volatile long endNanos;
+
+        StageTiming(LatencyHistogram chunkLatency) {
+            this.chunkLatency = chunkLatency;
+        }
+
+        void record(long nanos, long byteCount) {
+            busyNanos.addAndGet(nanos);
+            bytes.addAndGet(byteCount);
+            chunkLatency.recordNanos(nanos);
+        }
+
+        void finish() {
+            endNanos = System.nanoTime();
+        }
+
+        public long getBusyMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(busyNanos.get());
+        }
+
+        public long getWallMillis() {
+            long end = endNanos == 0 ? System.nanoTime() : endNanos;
+            return TimeUnit.NANOSECONDS.toMillis(end - startNanos);
+        }
+
+        public long getBytes() {
+            return bytes.get();
+        }
+
+        @Override
+        public String toString() {
+            return "busy=" + getBusyMillis() + "ms wall=" + getWallMillis() + "ms bytes=" + getBytes();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * LinksFileTokenizer
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Byte-level tokenizer for STRING DB's space-delimited protein.links files
+ * ("protein1 protein2 combined_score"). Lines are scanned directly in the decompressed buffer: protein ids are
+ * interned through a {@link ProteinIdDictionary} and scores are parsed from the digits in place, so no String or
+ * String[] is allocated per edge.
+ */
+public class LinksFileTokenizer {
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private static final byte[] HEADER_MARKER = {'p', 'r', 'o', 't', 'e', 'i', 'n', '1'};
+
+    private final ProteinIdDictionary dictionary;
+    private boolean firstLine = true;
+
+    /** Receives every parsed edge as dictionary indices. */
+    public interface EdgeConsumer {
+        void accept(int protein1, int protein2, int score);
+    }
+
+    public LinksFileTokenizer(ProteinIdDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    public ProteinIdDictionary getDictionary() {
+        return dictionary;
+    }
+
+    public void tokenize(InputStream ioStream, EdgeConsumer consumer) throws IOException {
+        /** Streams the whole input through the consumer, carrying partial lines over between reads. */
+        byte[] buf = new byte[DEFAULT_BUFFER_SIZE];
+        int filled = 0;
+        int read;
+        while ((read = ioStream.read(buf, filled, buf.length - filled)) != -1) {
+            filled += read;
+            int consumed = tokenizeLines(buf, 0, filled, consumer);
+            filled -= consumed;
+            System.arraycopy(buf, consumed, buf, 0, filled);
+            if (filled == buf.length) {
+                // A single line is longer than the buffer.
+                buf = Arrays.copyOf(buf, buf.length << 1);
+            }
+        }
+        if (filled > 0) {
+            tokenizeLine(buf, 0, filled, consumer); // Last line without a trailing newline.
+        }
+    }
+
+    public int tokenizeLines(byte[] buf, int start, int end, EdgeConsumer consumer) {
+        /**
+         * Tokenizes every complete line in buf[start, end).
+         *
+         * @return Number of bytes consumed; any trailing partial line is left for the caller to carry over.
+         */
+        int lineStart = start;
+        for (int i = start; i < end; i++) {
+            if (buf[i] == '\n') {
+                tokenizeLine(buf, lineStart, i, consumer);
+                lineStart = i + 1;
+            }
+        }
+        return lineStart - start;
+    }
+
+    private void tokenizeLine(byte[] buf, int start, int end, EdgeConsumer consumer) {
+        int protein1Start = skipWhitespace(buf, start, end);
+        if (protein1Start == end) {
+            return; // Blank line.
+        }
+        int protein1End = skipToken(buf, protein1Start, end);
+
+        // Ignore csv headers.
+        if (firstLine) {
+            firstLine = false;
+            if (isHeader(buf, protein1Start, protein1End)) {
+                return;
+            }
+        }
+
+        int protein2Start = skipWhitespace(buf, protein1End, end);
+        int protein2End = skipToken(buf, protein2Start, end);
+        int scoreStart = skipWhitespace(buf, protein2End, end);
+        int scoreEnd = skipToken(buf, scoreStart, end);
+        if (protein2Start == protein2End || scoreStart == scoreEnd) {
+            throw new IllegalArgumentException("Malformed interaction line: " + new String(buf, start, end - start));
+        }
+
+        consumer.accept(
+                dictionary.intern(buf, protein1Start, protein1End),
+                dictionary.intern(buf, protein2Start, protein2End),
+                parseScore(buf, scoreStart, scoreEnd));
+    }
+
+    private static int parseScore(byte[] buf, int start, int end) {
+        int score = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buf[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException(
+                        "For input string: \"" + new String(buf, start, end - start) + "\"");
+            }
+            score = score * 10 + digit;
+        }
+        return score;
+    }
+
+    private static boolean isHeader(byte[] buf, int start, int end) {
+        outer:
+        for (int i = start; i <= end - HEADER_MARKER.length; i++) {
+            for (int j = 0; j < HEADER_MARKER.length; j++) {
+                if (buf[i + j] != HEADER_MARKER[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static int skipWhitespace(byte[] buf, int pos, int end) {
+        while (pos < end && isWhitespace(buf[pos])) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int skipToken(byte[] buf, int pos, int end) {
+        while (pos < end && !isWhitespace(buf[pos])) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+}
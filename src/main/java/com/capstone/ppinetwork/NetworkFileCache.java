@@ -0,0 +1,103 @@
+/*
+ * NetworkFileCache
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import com.capstone.metrics.Metrics;
+import com.google.common.hash.Hashing;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local directory of parsed networks in PpiNetworkFile format, keyed by source URLs and STRING DB version.
+ * The first load of a dataset downloads and parses it as usual and stores the result; every later load of the same
+ * dataset memory-maps the stored file and never touches the network.
+ */
+public class NetworkFileCache {
+    public static final String CACHE_DIR_ENV = "PPI_NETWORK_CACHE_DIR";
+    private static final Pattern STRING_VERSION = Pattern.compile("\\.v(\\d+(?:\\.\\d+)*)\\.");
+    private static final String FILE_EXTENSION = ".ppin";
+
+    private final Path directory;
+
+    public NetworkFileCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public static NetworkFileCache create() {
+        /** Cache in $PPI_NETWORK_CACHE_DIR, or in a ppi-network-cache folder in the temp directory. */
+        String directory = System.getenv(CACHE_DIR_ENV);
+        return new NetworkFileCache(directory != null
+                ? Paths.get(directory)
+                : Paths.get(System.getProperty("java.io.tmpdir"), "ppi-network-cache"));
+    }
+
+    public CompactPpiNetwork load(URL interactionDataUrl, Optional<URL> accessoryDataUrl, PpiNetworkParser parser)
+            throws IOException {
+        return load(interactionDataUrl, accessoryDataUrl, parser, ParseOptions.NONE);
+    }
+
+    public CompactPpiNetwork load(URL interactionDataUrl, Optional<URL> accessoryDataUrl, PpiNetworkParser parser,
+                                  ParseOptions options) throws IOException {
+        /**
+         * Maps the cached network for these sources and filters, parsing and caching it first if there is none.
+         * Hits, misses and load and write times are recorded in the parser's metrics.
+         */
+        Metrics metrics = parser.getMetrics();
+        Optional<CompactPpiNetwork> cached;
+        try (Metrics.Timer timer = metrics.startTimer("cache.load")) {
+            cached = get(interactionDataUrl, accessoryDataUrl, options);
+        }
+        if (cached.isPresent()) {
+            metrics.increment("cache.hits");
+            // Files always hold the directed form; deduplicating the mapped network is far cheaper than parsing.
+            return options.isUndirected() ? UndirectedPpiNetwork.fromDirected(cached.get()) : cached.get();
+        }
+        metrics.increment("cache.misses");
+        CompactPpiNetwork network = parser.parseCompactNetwork(interactionDataUrl, accessoryDataUrl, options);
+        try (Metrics.Timer timer = metrics.startTimer("cache.write")) {
+            PpiNetworkFile.write(network, pathFor(interactionDataUrl, accessoryDataUrl, options));
+        }
+        return network;
+    }
+
+    public Optional<CompactPpiNetwork> get(URL interactionDataUrl, Optional<URL> accessoryDataUrl,
+                                           ParseOptions options) throws IOException {
+        Path path = pathFor(interactionDataUrl, accessoryDataUrl, options);
+        return Files.isRegularFile(path) ? Optional.of(PpiNetworkFile.load(path)) : Optional.empty();
+    }
+
+    public Path pathFor(URL interactionDataUrl, Optional<URL> accessoryDataUrl, ParseOptions options) {
+        /**
+         * <version>-<sha256 of the source URLs and filters>.ppin. Versioned STRING downloads never change under the
+         * same URL, so the URLs, version and filters are enough to identify a parsed network; local files are also
+         * keyed by their size and modification time.
+         */
+        String key = DataSources.cacheKey(interactionDataUrl) + "\n"
+                + accessoryDataUrl.map(DataSources::cacheKey).orElse("");
+        if (!options.isUnfiltered() || options.isUndirected()) {
+            key += "\n" + options.cacheKey();
+        }
+        String hash = Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+        return directory.resolve(stringVersion(interactionDataUrl).orElse("unversioned") + "-" + hash + FILE_EXTENSION);
+    }
+
+    static Optional<String> stringVersion(URL url) {
+        /** STRING DB version from a download URL, e.g. "11.5" for .../protein.links.v11.5.txt.gz. */
+        String path = url.getPath();
+        Matcher matcher = STRING_VERSION.matcher(path.substring(path.lastIndexOf('/') + 1));
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+}
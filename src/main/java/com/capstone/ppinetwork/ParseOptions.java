@@ -0,0 +1,119 @@
+/*
+ * ParseOptions
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import com.google.common.base.Joiner;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Edge filters applied by PpiNetworkParser while the interaction file is tokenized, so that dropped edges never
+ * become Neighbor objects or CSR entries.
+ * Filters are applied in order: an edge must have a score of at least minScore, both of its proteins must be on the
+ * allowlist (when one is given), and of the edges left, only the topK highest-scoring edges of each protein are kept.
+ * Independently of the filters, undirected asks parseCompactNetwork for an UndirectedPpiNetwork, which stores each
+ * symmetric interaction once.
+ */
+public class ParseOptions {
+    public static final ParseOptions NONE = new Builder().build();
+
+    private final int minScore;
+    private final Optional<Integer> topK;
+    private final Optional<Set<String>> allowlist;
+    private final boolean undirected;
+
+    protected ParseOptions(Builder builder) {
+        this.minScore = builder.minScore;
+        this.topK = builder.topK;
+        this.allowlist = builder.allowlist;
+        this.undirected = builder.undirected;
+    }
+
+    public int getMinScore() {
+        return minScore;
+    }
+
+    public Optional<Integer> getTopK() {
+        return topK;
+    }
+
+    public Optional<Set<String>> getAllowlist() {
+        return allowlist;
+    }
+
+    public boolean isUndirected() {
+        return undirected;
+    }
+
+    public boolean isUnfiltered() {
+        return minScore <= 0 && !topK.isPresent() && !allowlist.isPresent();
+    }
+
+    public boolean isAllowed(String proteinId) {
+        return !allowlist.isPresent() || allowlist.get().contains(proteinId);
+    }
+
+    public String cacheKey() {
+        /** Stable description of the filters, e.g. for keying cached parse results; the allowlist is hashed. */
+        return "minScore=" + minScore
+                + ";topK=" + topK.map(String::valueOf).orElse("")
+                + ";allowlist=" + allowlist
+                        .map(ids -> Hashing.sha256()
+                                .hashString(Joiner.on('\n').join(new TreeSet<>(ids)), StandardCharsets.UTF_8)
+                                .toString())
+                        .orElse("")
+                + ";undirected=" + undirected;
+    }
+
+    @Override
+    public String toString() {
+        return "ParseOptions{minScore=" + minScore + ", topK=" + topK
+                + ", allowlist=" + allowlist.map(ids -> ids.size() + " ids").orElse("none")
+                + ", undirected=" + undirected + "}";
+    }
+
+    public static class Builder {
+        private int minScore;
+        private Optional<Integer> topK = Optional.empty();
+        private Optional<Set<String>> allowlist = Optional.empty();
+        private boolean undirected;
+
+        public Builder setMinScore(int minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        public Builder setTopK(int topK) {
+            if (topK < 1) {
+                throw new IllegalArgumentException("topK must be at least 1: " + topK);
+            }
+            this.topK = Optional.of(topK);
+            return this;
+        }
+
+        public Builder setAllowlist(Set<String> proteinIds) {
+            this.allowlist = Optional.of(Collections.unmodifiableSet(new HashSet<>(proteinIds)));
+            return this;
+        }
+
+        public Builder setUndirected(boolean undirected) {
+            this.undirected = undirected;
+            return this;
+        }
+
+        public ParseOptions build() {
+            return new ParseOptions(this);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * PpiNetworkFile
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compact binary file format for a CompactPpiNetwork, loaded back by memory-mapping instead of parsing.
+ * All values are little-endian; the CSR sections are aligned so that they can be viewed directly as int and short
+ * buffers over the mapping, and only the protein dictionary and accessory metadata are decoded on load.
+ *
+ * <pre>
+ *   header    magic "PPIN", format version, node count, edge count, section offsets (64 bytes)
+ *   metadata  per node: id, preferred name, annotation (int length + UTF-8, -1 for null), then protein sizes
+ *   offsets   int[nodeCount + 1]
+ *   targets   int[edgeCount]
+ *   scores    short[edgeCount]
+ * </pre>
+ */
+public class PpiNetworkFile {
+    private static final int MAGIC = 0x4E495050; // "PPIN" read as a little-endian int.
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int NULL_STRING = -1;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    private PpiNetworkFile() {
+    }
+
+    public static void write(CompactPpiNetwork network, Path path) throws IOException {
+        /** Writes the network to a temp file next to the target and moves it into place, so readers never see a partial file. */
+        byte[] metadata = encodeMetadata(network);
+        long metadataOffset = HEADER_SIZE;
+        long offsetsOffset = align(metadataOffset + metadata.length);
+        long targetsOffset = offsetsOffset + 4L * (network.nodeCount() + 1);
+        long scoresOffset = targetsOffset + 4L * network.edgeCount();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(network.nodeCount())
+                    .putInt(network.edgeCount())
+                    .putLong(metadataOffset)
+                    .putLong(metadata.length)
+                    .putLong(offsetsOffset)
+                    .putLong(targetsOffset)
+                    .putLong(scoresOffset);
+            buffer.position(HEADER_SIZE);
+            flush(channel, buffer);
+            channel.write(ByteBuffer.wrap(metadata));
+            channel.position(offsetsOffset);
+
+            // Written through the query methods rather than the backing buffers, so any CompactPpiNetwork, including
+            // an UndirectedPpiNetwork, is stored as the directed network it answers for.
+            int offset = 0;
+            for (int node = 0; node < network.nodeCount(); node++) {
+                ensureRemaining(channel, buffer, 4);
+                buffer.putInt(offset);
+                offset += network.degree(node);
+            }
+            ensureRemaining(channel, buffer, 4);
+            buffer.putInt(offset);
+            for (int node = 0; node < network.nodeCount(); node++) {
+                for (int position = 0; position < network.degree(node); position++) {
+                    ensureRemaining(channel, buffer, 4);
+                    buffer.putInt(network.neighbor(node, position));
+                }
+            }
+            for (int node = 0; node < network.nodeCount(); node++) {
+                for (int position = 0; position < network.degree(node); position++) {
+                    ensureRemaining(channel, buffer, 2);
+                    buffer.putShort((short) network.score(node, position));
+                }
+            }
+            flush(channel, buffer);
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static CompactPpiNetwork load(Path path) throws IOException {
+        /**
+         * Memory-maps a network file. The CSR arrays stay on disk and are paged in by the OS as they are touched, so
+         * the network is usable right away regardless of its size.
+         */
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a PPI network file: " + path);
+            }
+            ByteBuffer header = map(channel, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a PPI network file: " + path);
+            }
+            int version = header.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported PPI network file version " + version + ": " + path);
+            }
+            int nodeCount = header.getInt();
+            int edgeCount = header.getInt();
+            long metadataOffset = header.getLong();
+            long metadataLength = header.getLong();
+            long offsetsOffset = header.getLong();
+            long targetsOffset = header.getLong();
+            long scoresOffset = header.getLong();
+            if (scoresOffset + 2L * edgeCount > channel.size()) {
+                throw new IOException("Truncated PPI network file: " + path);
+            }
+
+            ByteBuffer metadata = map(channel, metadataOffset, metadataLength);
+            String[] ids = new String[nodeCount];
+            String[] preferredNames = new String[nodeCount];
+            String[] annotations = new String[nodeCount];
+            int[] proteinSizes = new int[nodeCount];
+            for (int node = 0; node < nodeCount; node++) {
+                ids[node] = getString(metadata);
+            }
+            for (int node = 0; node < nodeCount; node++) {
+                preferredNames[node] = getString(metadata);
+            }
+            for (int node = 0; node < nodeCount; node++) {
+                annotations[node] = getString(metadata);
+            }
+            metadata.asIntBuffer().get(proteinSizes);
+
+            return new CompactPpiNetwork(
+                    ids,
+                    map(channel, offsetsOffset, 4L * (nodeCount + 1)).asIntBuffer(),
+                    map(channel, targetsOffset, 4L * edgeCount).asIntBuffer(),
+                    map(channel, scoresOffset, 2L * edgeCount).asShortBuffer(),
+                    preferredNames,
+                    annotations,
+                    proteinSizes);
+        }
+    }
+
+    private static byte[] encodeMetadata(CompactPpiNetwork network) {
+        int nodeCount = network.nodeCount();
+        byte[][] encoded = new byte[3 * nodeCount][];
+        long size = 4L * nodeCount;
+        for (int node = 0; node < nodeCount; node++) {
+            encoded[node] = bytes(network.getId(node));
+            encoded[nodeCount + node] = bytes(network.getPreferredName(node));
+            encoded[2 * nodeCount + node] = bytes(network.getAnnotation(node));
+        }
+        for (byte[] value : encoded) {
+            size += 4 + (value == null ? 0 : value.length);
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Network metadata too large for a single section: " + size);
+        }
+
+        ByteBuffer metadata = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        for (byte[] value : encoded) {
+            if (value == null) {
+                metadata.putInt(NULL_STRING);
+            } else {
+                metadata.putInt(value.length).put(value);
+            }
+        }
+        for (int proteinSize : network.proteinSizes()) {
+            metadata.putInt(proteinSize);
+        }
+        return metadata.array();
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long offset, long length) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+
+    private static void ensureRemaining(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush(channel, buffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -151,13 +151,13 @@ public class PpiNetworkNode {
 
     // Reference: https://chromium.googlesource.com/external/github.com/google/auto/+/auto-value-1.0/value/README.md
     @AutoValue
-    protected abstract static class Neighbor {
+    public abstract static class Neighbor {
         /** Represents a single instance of a node's neighbor. */
-        static Neighbor create(String id, Integer score) {
+        public static Neighbor create(String id, Integer score) {
             return new AutoValue_PpiNetworkNode_Neighbor(id, score);
         }
 
-        abstract String getId();
-        abstract Integer getScore(); // STRING DB's confidence score for an edge connection.
+        public abstract String getId();
+        public abstract Integer getScore(); // STRING DB's confidence score for an edge connection.
     }
 }
@@ -7,27 +7,100 @@
 
 package com.capstone.ppinetwork;
 
+import com.capstone.metrics.MeteredInputStream;
+import com.capstone.metrics.MetricUnit;
+import com.capstone.metrics.Metrics;
 import com.capstone.ppinetwork.PpiNetworkNode.Neighbor;
 import com.google.common.base.Charsets;
+import com.opencsv.CSVParser;
+import com.opencsv.CSVParserBuilder;
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URL;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPInputStream;
 
 /**
  * Utility class to parse protein interaction and accessory data of a particular organism from STRING DB
  * directly into a list of PpiNetworkNode objects.
  */
 public class PpiNetworkParser {
+    static final String BYTES_READ_METRIC = "parse.bytesRead";
+    static final String BYTES_DECOMPRESSED_METRIC = "parse.bytesDecompressed";
+    private static final int STREAM_BUFFER_SIZE = 1 << 16;
+    private static final int MAX_CACHED_SCORE = 1000; // STRING DB scores range from 0 to 1000.
+    private static final Integer[] SCORES = new Integer[MAX_CACHED_SCORE + 1];
+
+    static {
+        for (int score = 0; score <= MAX_CACHED_SCORE; score++) {
+            SCORES[score] = score;
+        }
+    }
+
+    /** Selects how the input files are tokenized. Every mode produces identical PpiNetworkNode output. */
+    public enum Mode {
+        /** Reads each line through opencsv and splits it into Strings. */
+        CSV,
+        /** Scans the decompressed bytes directly with a {@link LinksFileTokenizer}. */
+        BYTE_TOKENIZER,
+        /**
+         * Streams the interaction and accessory files at the same time through an {@link IngestionPipeline}, with
+         * download, decompression, line splitting and tokenizing overlapping on separate threads.
+         */
+        PIPELINED,
+        /**
+         * Spools the decompressed interaction file to local disk and tokenizes line-aligned, memory-mapped chunks of
+         * it on a fork-join pool with {@link ChunkedNetworkParser}.
+         */
+        PARALLEL_CHUNKED
+    }
+
+    private final Mode mode;
+    private final int parallelism;
+    private Map<String, IngestionPipeline.StageTiming> lastStageTimings = Collections.emptyMap();
+    private Metrics metrics = new Metrics();
+
+    public PpiNetworkParser() {
+        this(Mode.CSV);
+    }
+
+    public PpiNetworkParser(Mode mode) {
+        this(mode, Runtime.getRuntime().availableProcessors());
+    }
+
+    public PpiNetworkParser(Mode mode, int parallelism) {
+        /** @param parallelism Number of threads used to parse chunks in PARALLEL_CHUNKED mode. */
+        this.mode = mode;
+        this.parallelism = parallelism;
+    }
+
+    public void setMetrics(Metrics metrics) {
+        /**
+         * Where parses record bytes read, per-stage latencies and edge throughput, e.g. the metrics of the current
+         * Lambda invocation. Without one, a private Metrics instance is used.
+         */
+        this.metrics = metrics;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
     public  List<PpiNetworkNode> parseProteinData(URL interactionDataUrl, Optional<URL> accessoryDataUrl)
             throws IOException {
+        return parseProteinData(interactionDataUrl, accessoryDataUrl, ParseOptions.NONE);
+    }
+
+    public  List<PpiNetworkNode> parseProteinData(URL interactionDataUrl, Optional<URL> accessoryDataUrl,
+                                                  ParseOptions options)
+            throws IOException {
         /**
          * Get complete protein-interaction data for a particular organism.
          *
@@ -37,6 +110,9 @@ public class PpiNetworkParser {
          * @param accessoryDataUrl
          *            STRING DB url for metadata about each protein.
          *
+         * @param options
+         *            Edge filters, applied while the interaction file is tokenized.
+         *
          * @return List of protein-interaction data with metadata as a JSON marshallable object.
          *
          *         <pre>
@@ -62,11 +138,55 @@ public class PpiNetworkParser {
          *             Error streaming data from STRING DB.
          */
 
-        Map<String, PpiNetworkNode.Builder> accessoryData = accessoryDataUrl.isPresent() ? parseAccessoryData(
-                createDataStream(accessoryDataUrl.get())) : new HashMap<>();
-        Map<String, List<Neighbor>> networkData = parseNetworkData(createDataStream(interactionDataUrl));
+        long start = System.nanoTime();
+        double bytesAtStart = metrics.getCounter(BYTES_DECOMPRESSED_METRIC);
+        Map<String, PpiNetworkNode.Builder> accessoryData;
+        Map<String, List<Neighbor>> networkData;
+        if (mode == Mode.PIPELINED) {
+            ProteinIdDictionary dictionary = new ProteinIdDictionary();
+            NeighborListSink sink = new NeighborListSink(dictionary);
+            EdgeFilter filter = new EdgeFilter(options, dictionary, sink);
+            accessoryData = runPipeline(interactionDataUrl, accessoryDataUrl, dictionary,
+                    options.isUnfiltered() ? sink : filter);
+            filter.finish();
+            networkData = sink.networkData;
+        } else {
+            accessoryData = parseAccessoryData(accessoryDataUrl);
+            try (Metrics.Timer interactions = metrics.startTimer("parse.interactions")) {
+                if (mode == Mode.PARALLEL_CHUNKED && options.isUnfiltered()) {
+                    networkData = new ChunkedNetworkParser(parallelism)
+                            .parseNeighborLists(openDataStream(interactionDataUrl));
+                } else if (mode == Mode.PARALLEL_CHUNKED) {
+                    ProteinIdDictionary dictionary = new ProteinIdDictionary();
+                    NeighborListSink sink = new NeighborListSink(dictionary);
+                    EdgeFilter filter = new EdgeFilter(options, dictionary, sink);
+                    new ChunkedNetworkParser(parallelism)
+                            .parseInto(openDataStream(interactionDataUrl), filter, dictionary);
+                    filter.finish();
+                    networkData = sink.networkData;
+                } else if (mode == Mode.BYTE_TOKENIZER) {
+                    networkData = tokenizeNetworkData(openDataStream(interactionDataUrl), options);
+                } else {
+                    networkData = parseNetworkData(createDataStream(interactionDataUrl), options);
+                }
+            }
+        }
 
-        // Consolidate the two datasets into one.
+        List<PpiNetworkNode> nodes;
+        try (Metrics.Timer consolidation = metrics.startTimer("parse.consolidate")) {
+            nodes = consolidate(networkData, accessoryData);
+        }
+        long edges = 0;
+        for (List<Neighbor> neighbors : networkData.values()) {
+            edges += neighbors.size();
+        }
+        recordParse(System.nanoTime() - start, nodes.size(), edges, bytesAtStart);
+        return nodes;
+    }
+
+    static List<PpiNetworkNode> consolidate(Map<String, List<Neighbor>> networkData,
+                                            Map<String, PpiNetworkNode.Builder> accessoryData) {
+        /** Consolidate the two datasets into one. */
         return new ArrayList<>(networkData.keySet())
                 .parallelStream()
                 .map(
@@ -84,11 +204,102 @@ public class PpiNetworkParser {
                 .collect(Collectors.toList());
     }
 
-    private Map<String, List<Neighbor>> parseNetworkData(Reader ioStream)
+    public CompactPpiNetwork parseCompactNetwork(URL interactionDataUrl, Optional<URL> accessoryDataUrl)
+            throws IOException {
+        return parseCompactNetwork(interactionDataUrl, accessoryDataUrl, ParseOptions.NONE);
+    }
+
+    public CompactPpiNetwork parseCompactNetwork(URL interactionDataUrl, Optional<URL> accessoryDataUrl,
+                                                 ParseOptions options)
+            throws IOException {
+        /**
+         * Get complete protein-interaction data for a particular organism as a CompactPpiNetwork. Edges go straight
+         * from the byte-level tokenizer into the primitive CSR arrays, without creating a Neighbor per edge.
+         *
+         * @param interactionDataUrl
+         *            STRING DB url for the protein network data.
+         *
+         * @param accessoryDataUrl
+         *            STRING DB url for metadata about each protein.
+         *
+         * @param options
+         *            Edge filters, applied while the interaction file is tokenized. Accessory records of proteins
+         *            that are not on the allowlist are dropped as well. When undirected is set, the network is an
+         *            UndirectedPpiNetwork.
+         *
+         * @return Compact network whose nodes match the ones returned by parseProteinData.
+         *
+         * @throws IOException
+         *             Error streaming data from STRING DB.
+         */
+        long start = System.nanoTime();
+        double bytesAtStart = metrics.getCounter(BYTES_DECOMPRESSED_METRIC);
+        CompactPpiNetwork.Builder builder = new CompactPpiNetwork.Builder(new ProteinIdDictionary());
+        EdgeFilter filter = new EdgeFilter(options, builder.getDictionary(), builder);
+        LinksFileTokenizer.EdgeConsumer edges = options.isUnfiltered() ? builder : filter;
+        Map<String, PpiNetworkNode.Builder> accessoryData;
+        if (mode == Mode.PIPELINED) {
+            accessoryData = runPipeline(interactionDataUrl, accessoryDataUrl, builder.getDictionary(), edges);
+        } else {
+            accessoryData = parseAccessoryData(accessoryDataUrl);
+            try (Metrics.Timer interactions = metrics.startTimer("parse.interactions")) {
+                if (mode == Mode.PARALLEL_CHUNKED) {
+                    new ChunkedNetworkParser(parallelism)
+                            .parseInto(openDataStream(interactionDataUrl), edges, builder.getDictionary());
+                } else {
+                    try (InputStream stream = openDataStream(interactionDataUrl)) {
+                        new LinksFileTokenizer(builder.getDictionary()).tokenize(stream, edges);
+                    }
+                }
+            }
+        }
+        CompactPpiNetwork network;
+        try (Metrics.Timer build = metrics.startTimer("parse.build")) {
+            filter.finish();
+            for (Map.Entry<String, PpiNetworkNode.Builder> accessoryRecord : accessoryData.entrySet()) {
+                if (options.isAllowed(accessoryRecord.getKey())) {
+                    builder.addAccessoryData(accessoryRecord.getValue());
+                }
+            }
+            network = options.isUndirected() ? builder.buildUndirected() : builder.build();
+        }
+        recordParse(System.nanoTime() - start, network.nodeCount(), network.edgeCount(), bytesAtStart);
+        return network;
+    }
+
+    private Map<String, PpiNetworkNode.Builder> parseAccessoryData(Optional<URL> accessoryDataUrl)
+            throws IOException {
+        if (!accessoryDataUrl.isPresent()) {
+            return new HashMap<>();
+        }
+        try (Metrics.Timer accessory = metrics.startTimer("parse.accessory")) {
+            return parseAccessoryData(createDataStream(accessoryDataUrl.get()));
+        }
+    }
+
+    private void recordParse(long nanos, long proteins, long edges, double bytesAtStart) {
+        /** Totals and throughput of one parse; bytes were counted by the streams as they were read. */
+        double seconds = Math.max(nanos, 1) / 1e9;
+        metrics.recordNanos("parse.total", nanos);
+        metrics.add("parse.proteins", proteins, MetricUnit.COUNT);
+        metrics.add("parse.edges", edges, MetricUnit.COUNT);
+        metrics.setGauge("parse.edgesPerSecond", edges / seconds, MetricUnit.COUNT_PER_SECOND);
+        double bytes = metrics.getCounter(BYTES_DECOMPRESSED_METRIC) - bytesAtStart;
+        metrics.setGauge("parse.bytesPerSecond", bytes / seconds, MetricUnit.BYTES_PER_SECOND);
+        metrics.setProperty("parserMode", mode.name());
+    }
+
+    Map<String, List<Neighbor>> parseNetworkData(Reader ioStream, ParseOptions options)
             throws IOException {
-        /** Processes the interaction data from STRING DB. */
+        /**
+         * Processes the interaction data from STRING DB. With filters, ids are interned and edges go through an
+         * EdgeFilter, so that dropped edges never become Neighbor objects.
+         */
         Map<String, List<Neighbor>> networkData = new HashMap<>();
         CSVReader reader = new CSVReaderBuilder(ioStream).build();
+        ProteinIdDictionary dictionary = new ProteinIdDictionary();
+        NeighborListSink sink = new NeighborListSink(dictionary);
+        EdgeFilter filter = new EdgeFilter(options, dictionary, sink);
 
         for (Iterator<String[]> it = reader.iterator(); it.hasNext(); ) {
             String[] splitString = it.next()[0].split(" "); // Interaction data file is space-delimited.
@@ -98,6 +309,11 @@ public class PpiNetworkParser {
             if (key.contains("protein1")) {
                 continue;
             }
+            if (!options.isUnfiltered()) {
+                filter.accept(dictionary.intern(key), dictionary.intern(splitString[1].trim()),
+                        Integer.parseInt(splitString[2].trim()));
+                continue;
+            }
             Neighbor neighbor = Neighbor.create(
                     /* id = */    splitString[1].trim(),
                     /* score = */ Integer.parseInt(splitString[2].trim()));
@@ -109,44 +325,143 @@ public class PpiNetworkParser {
         }
 
         reader.close();
+        if (!options.isUnfiltered()) {
+            filter.finish();
+            return sink.networkData;
+        }
         return networkData;
     }
 
-    private Map<String, PpiNetworkNode.Builder> parseAccessoryData(Reader ioStream)
+    public Map<String, IngestionPipeline.StageTiming> getLastStageTimings() {
+        /** Per-stage timing of the last PIPELINED parse, keyed by "<file>.<stage>"; empty for the other modes. */
+        return lastStageTimings;
+    }
+
+    private Map<String, List<Neighbor>> tokenizeNetworkData(InputStream ioStream, ParseOptions options)
+            throws IOException {
+        /**
+         * Processes the interaction data from STRING DB with the byte-level tokenizer. Keys are put into the map in the
+         * same order as parseNetworkData, so the resulting map iterates identically.
+         */
+        ProteinIdDictionary dictionary = new ProteinIdDictionary();
+        NeighborListSink sink = new NeighborListSink(dictionary);
+        EdgeFilter filter = new EdgeFilter(options, dictionary, sink);
+        try (InputStream stream = ioStream) {
+            new LinksFileTokenizer(dictionary).tokenize(stream, options.isUnfiltered() ? sink : filter);
+        }
+        filter.finish();
+        return sink.networkData;
+    }
+
+    private Map<String, PpiNetworkNode.Builder> runPipeline(URL interactionDataUrl, Optional<URL> accessoryDataUrl,
+                                                            ProteinIdDictionary dictionary,
+                                                            LinksFileTokenizer.EdgeConsumer edges)
+            throws IOException {
+        /**
+         * Streams both files concurrently through an IngestionPipeline. Edges go to the given consumer as they are
+         * tokenized; the accessory records are returned once both files have been read.
+         */
+        Map<String, PpiNetworkNode.Builder> accessoryData = new HashMap<>();
+        LinksFileTokenizer tokenizer = new LinksFileTokenizer(dictionary);
+        CSVParser csvParser = new CSVParserBuilder().build();
+        try (IngestionPipeline pipeline = new IngestionPipeline(metrics);
+             Metrics.Timer timer = metrics.startTimer("parse.pipeline")) {
+            pipeline.start("interactions", interactionDataUrl,
+                    (buf, length) -> tokenizer.tokenizeLines(buf, 0, length, edges));
+            if (accessoryDataUrl.isPresent()) {
+                pipeline.start("accessory", accessoryDataUrl.get(), (buf, length) -> {
+                    for (String line : new String(buf, 0, length, Charsets.UTF_8).split("\n")) {
+                        if (line.endsWith("\r")) {
+                            line = line.substring(0, line.length() - 1);
+                        }
+                        // Same record semantics as the CSVReader used by parseAccessoryData.
+                        addAccessoryRecord(csvParser.parseLine(line)[0], accessoryData);
+                    }
+                });
+            }
+            pipeline.await();
+            lastStageTimings = pipeline.getStageTimings();
+        }
+        return accessoryData;
+    }
+
+    private static class NeighborListSink implements LinksFileTokenizer.EdgeConsumer {
+        /** Collects tokenized edges into the same map of Neighbor lists that parseNetworkData builds. */
+        private final Map<String, List<Neighbor>> networkData = new HashMap<>();
+        private final List<List<Neighbor>> neighborsByIndex = new ArrayList<>();
+        private final ProteinIdDictionary dictionary;
+
+        NeighborListSink(ProteinIdDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public void accept(int protein1, int protein2, int score) {
+            while (neighborsByIndex.size() <= protein1) {
+                neighborsByIndex.add(null);
+            }
+            List<Neighbor> neighbors = neighborsByIndex.get(protein1);
+            if (neighbors == null) {
+                neighbors = new ArrayList<>();
+                neighborsByIndex.set(protein1, neighbors);
+                networkData.put(dictionary.getId(protein1), neighbors);
+            }
+            neighbors.add(Neighbor.create(dictionary.getId(protein2), boxScore(score)));
+        }
+    }
+
+    static Integer boxScore(int score) {
+        return score >= 0 && score <= MAX_CACHED_SCORE ? SCORES[score] : Integer.valueOf(score);
+    }
+
+    Map<String, PpiNetworkNode.Builder> parseAccessoryData(Reader ioStream)
             throws IOException{
         Map<String, PpiNetworkNode.Builder> proteinData = new HashMap<>();
         CSVReader reader = new CSVReaderBuilder(ioStream).build();
 
         for (Iterator<String[]> it = reader.iterator(); it.hasNext(); ) {
-            String[] splitString = it.next()[0].split("\t"); // Accessory data file is tab delimited.
-            String key = splitString[0].trim();
-            // Ignore csv headers.
-            if (key.contains("string_protein_id")) {
-                continue;
-            }
-
-            String preferredName = splitString[1].trim();
-            Integer proteinSize = new Integer(splitString[2].trim());
-            String annotation = splitString[3].trim();
-
-            proteinData.put(key, new PpiNetworkNode.Builder()
-                    .setId(key)
-                    .setAnnotation(annotation)
-                    .setProteinSize(proteinSize)
-                    .setPreferredName(preferredName)
-            );
+            addAccessoryRecord(it.next()[0], proteinData);
         }
 
         reader.close();
         return proteinData;
     }
 
+    private static void addAccessoryRecord(String record, Map<String, PpiNetworkNode.Builder> proteinData) {
+        String[] splitString = record.split("\t"); // Accessory data file is tab delimited.
+        String key = splitString[0].trim();
+        // Ignore csv headers.
+        if (key.contains("string_protein_id")) {
+            return;
+        }
+
+        String preferredName = splitString[1].trim();
+        Integer proteinSize = Integer.valueOf(splitString[2].trim());
+        String annotation = splitString[3].trim();
+
+        proteinData.put(key, new PpiNetworkNode.Builder()
+                .setId(key)
+                .setAnnotation(annotation)
+                .setProteinSize(proteinSize)
+                .setPreferredName(preferredName)
+        );
+    }
+
     private Reader createDataStream(URL url) throws IOException {
         /** IOStream to read data directly from the STRING DB URL. */
         return new BufferedReader(
                 new InputStreamReader(
-                        new GZIPInputStream(
-                                url.openStream()), // STRING file is GZipped, so unzip.
+                        openDataStream(url),
                         Charsets.UTF_8));
     }
+
+    private InputStream openDataStream(URL url) throws IOException {
+        /** Raw decompressed bytes straight from the STRING DB URL. */
+        InputStream download = new MeteredInputStream(url.openStream(), metrics, BYTES_READ_METRIC);
+        return new MeteredInputStream(
+                DataSources.decompress(
+                        new BufferedInputStream(download, STREAM_BUFFER_SIZE),
+                        STREAM_BUFFER_SIZE), // STRING files are GZipped; local files may already be unzipped.
+                metrics, BYTES_DECOMPRESSED_METRIC);
+    }
 }
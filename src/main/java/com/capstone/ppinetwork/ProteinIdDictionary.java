@@ -0,0 +1,158 @@
+/*
+ * ProteinIdDictionary
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Interns protein ids straight from raw bytes and assigns each distinct id a dense int index, in order of first
+ * appearance. Lookups hash and compare the byte slice in place, so a String is only ever created once per distinct
+ * id no matter how many edges reference it.
+ */
+public class ProteinIdDictionary {
+    private static final int NOT_FOUND = -1;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] slots;        // Open-addressing table of (index + 1), 0 marks an empty slot.
+    private int[] hashes;       // Hash of each interned id, by index.
+    private int[] arenaOffsets; // Start of each id's bytes in the arena, by index.
+    private byte[] arena;       // Raw bytes of every interned id, back to back.
+    private String[] ids;
+    private int arenaSize;
+    private int size;
+
+    public ProteinIdDictionary() {
+        this(1024);
+    }
+
+    public ProteinIdDictionary(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.slots = new int[capacity];
+        this.hashes = new int[Math.max(16, expectedSize)];
+        this.arenaOffsets = new int[Math.max(16, expectedSize) + 1];
+        this.ids = new String[Math.max(16, expectedSize)];
+        this.arena = new byte[Math.max(16, expectedSize) * 24];
+    }
+
+    /** Returns the index of the id held in buf[start, end), interning it if it has not been seen before. */
+    public int intern(byte[] buf, int start, int end) {
+        int hash = hash(buf, start, end);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                int index = add(buf, start, end, hash);
+                slots[slot] = index + 1;
+                if (size > slots.length * LOAD_FACTOR) {
+                    rehash();
+                }
+                return index;
+            }
+            if (hashes[entry - 1] == hash && matches(entry - 1, buf, start, end)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    public int intern(String id) {
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        return intern(bytes, 0, bytes.length);
+    }
+
+    /** Returns the index of the id held in buf[start, end), or -1 without interning it. */
+    public int find(byte[] buf, int start, int end) {
+        int hash = hash(buf, start, end);
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == 0) {
+                return NOT_FOUND;
+            }
+            if (hashes[entry - 1] == hash && matches(entry - 1, buf, start, end)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    public int indexOf(String id) {
+        byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        return find(bytes, 0, bytes.length);
+    }
+
+    public String getId(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No protein id with index " + index);
+        }
+        return ids[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int add(byte[] buf, int start, int end, int hash) {
+        int length = end - start;
+        if (size == ids.length) {
+            int capacity = ids.length << 1;
+            ids = Arrays.copyOf(ids, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            arenaOffsets = Arrays.copyOf(arenaOffsets, capacity + 1);
+        }
+        if (arenaSize + length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length << 1, arenaSize + length));
+        }
+        System.arraycopy(buf, start, arena, arenaSize, length);
+        arenaOffsets[size] = arenaSize;
+        arenaSize += length;
+        arenaOffsets[size + 1] = arenaSize;
+        hashes[size] = hash;
+        ids[size] = new String(buf, start, length, StandardCharsets.UTF_8);
+        return size++;
+    }
+
+    private boolean matches(int index, byte[] buf, int start, int end) {
+        int offset = arenaOffsets[index];
+        int length = arenaOffsets[index + 1] - offset;
+        if (length != end - start) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (arena[offset + i] != buf[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehash() {
+        int[] resized = new int[slots.length << 1];
+        int mask = resized.length - 1;
+        for (int index = 0; index < size; index++) {
+            int slot = hashes[index] & mask;
+            while (resized[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            resized[slot] = index + 1;
+        }
+        slots = resized;
+    }
+
+    private static int hash(byte[] buf, int start, int end) {
+        // FNV-1a, finished with a murmur-style mix so linear probing doesn't cluster on shared id prefixes.
+        int hash = 0x811C9DC5;
+        for (int i = start; i < end; i++) {
+            hash ^= buf[i];
+            hash *= 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+}
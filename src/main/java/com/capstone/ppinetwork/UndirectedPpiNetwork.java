@@ -0,0 +1,341 @@
+/*
+ * UndirectedPpiNetwork
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import com.google.auto.value.AutoValue;
+
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+
+/**
+ * CompactPpiNetwork that stores each symmetric interaction once. STRING links files list every interaction in both
+ * directions with the same score; here the pair is kept once as a canonical (min, max) edge in the row of its smaller
+ * node, and a reverse index lists, for every node, the smaller nodes whose rows hold an edge to it. Directed edges that
+ * don't form a clean symmetric pair (a missing reverse direction, a score that differs between the two directions,
+ * repeated lines and self-loops) are kept as-is in a small exception list, so that nothing is lost.
+ * Queries answer for both endpoints and return the same neighbors and scores as the directed network, in the same
+ * order. A node's edges are laid out as its reverse index entries, then its canonical row, then its exceptions; a row
+ * whose directed order differs from that layout (rows of STRING files are usually sorted by partner, so few do) keeps
+ * the layout position of each directed position.
+ */
+public class UndirectedPpiNetwork extends CompactPpiNetwork {
+    private static final int REVERSE_EDGE = 0;
+    private static final int UPPER_EDGE = 1;
+    private static final int EXCEPTION_EDGE = 2;
+
+    // Reverse index: the neighbors of node v that are smaller than v, ascending, whose canonical edge sits in their row.
+    private final int[] reverseOffsets;
+    private final int[] reverseSources;
+
+    // Directed edges that are not part of a canonical pair, by source node.
+    private final int[] exceptionOffsets;
+    private final int[] exceptionTargets;
+    private final short[] exceptionScores;
+
+    // Layout position of every directed position, for the rows whose directed order differs from the layout.
+    private final int[] orderOffsets;
+    private final int[] orders;
+
+    private final DedupStats dedupStats;
+
+    /**
+     * Counts found while deduplicating a directed network. Every directed edge is accounted for exactly once: symmetric
+     * pairs stand for two directed edges each, every other count for one.
+     */
+    @AutoValue
+    public abstract static class DedupStats {
+        static DedupStats create(long symmetricPairs, long asymmetricEdges, long scoreMismatchEdges,
+                                 long duplicateEdges, long selfLoops) {
+            return new AutoValue_UndirectedPpiNetwork_DedupStats(
+                    symmetricPairs, asymmetricEdges, scoreMismatchEdges, duplicateEdges, selfLoops);
+        }
+
+        /** Interactions listed once in each direction with the same score; stored as one canonical edge each. */
+        public abstract long getSymmetricPairs();
+        /** Directed edges whose reverse direction is missing. */
+        public abstract long getAsymmetricEdges();
+        /** Directed edges whose reverse direction carries a different score. */
+        public abstract long getScoreMismatchEdges();
+        /** Repeated copies of an edge that is already stored. */
+        public abstract long getDuplicateEdges();
+        public abstract long getSelfLoops();
+    }
+
+    protected UndirectedPpiNetwork(CompactPpiNetwork directed, IntBuffer offsets, IntBuffer targets,
+                                   ShortBuffer scores, int[] reverseOffsets, int[] reverseSources,
+                                   int[] exceptionOffsets, int[] exceptionTargets, short[] exceptionScores,
+                                   int[] orderOffsets, int[] orders, DedupStats dedupStats) {
+        super(directed.ids(), offsets, targets, scores, directed.preferredNames(), directed.annotations(),
+                directed.proteinSizes());
+        this.reverseOffsets = reverseOffsets;
+        this.reverseSources = reverseSources;
+        this.exceptionOffsets = exceptionOffsets;
+        this.exceptionTargets = exceptionTargets;
+        this.exceptionScores = exceptionScores;
+        this.orderOffsets = orderOffsets;
+        this.orders = orders;
+        this.dedupStats = dedupStats;
+    }
+
+    public static UndirectedPpiNetwork fromDirected(CompactPpiNetwork directed) {
+        /** Deduplicates a directed network; the directed network can be dropped afterwards. */
+        int nodeCount = directed.nodeCount();
+
+        // Copy of every row sorted by target, stable so repeated edges keep their file order: (target << 32 | position).
+        int[] rowStarts = new int[nodeCount + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            rowStarts[node + 1] = rowStarts[node] + directed.degree(node);
+        }
+        long[] sorted = new long[rowStarts[nodeCount]];
+        for (int node = 0; node < nodeCount; node++) {
+            for (int position = 0; position < directed.degree(node); position++) {
+                sorted[rowStarts[node] + position] = ((long) directed.neighbor(node, position) << 32) | position;
+            }
+            Arrays.sort(sorted, rowStarts[node], rowStarts[node + 1]);
+        }
+
+        int[] upperOffsets = new int[nodeCount + 1];
+        int[] upperTargets = new int[sorted.length / 2 + 1];
+        short[] upperScores = new short[upperTargets.length];
+        int upperCount = 0;
+        int[] exceptionOffsets = new int[nodeCount + 1];
+        int[] exceptionTargets = new int[16];
+        short[] exceptionScores = new short[16];
+        int exceptionCount = 0;
+        int[] orderOffsets = new int[nodeCount + 1];
+        int[] orders = new int[16];
+        int orderCount = 0;
+        int[] order = new int[16];
+        int[] next = new int[3];
+        long asymmetric = 0;
+        long mismatched = 0;
+        long duplicates = 0;
+        long selfLoops = 0;
+
+        for (int node = 0; node < nodeCount; node++) {
+            int end = rowStarts[node + 1];
+            int degree = end - rowStarts[node];
+            if (order.length < degree) {
+                order = new int[Math.max(degree, order.length << 1)];
+            }
+            int reverseDegree = 0;
+            int upperStart = upperCount;
+            for (int i = rowStarts[node]; i < end; ) {
+                int target = (int) (sorted[i] >>> 32);
+                int runEnd = i + 1;
+                while (runEnd < end && (int) (sorted[runEnd] >>> 32) == target) {
+                    runEnd++;
+                }
+                int score = directed.score(node, (int) sorted[i]);
+                int reverse = findRow(sorted, rowStarts, target, node);
+                int reverseScore = reverse >= 0 ? directed.score(target, (int) sorted[reverse]) : -1;
+
+                boolean canonical = target != node && reverse >= 0 && reverseScore == score;
+                if (canonical && target < node) {
+                    order[(int) sorted[i]] = REVERSE_EDGE;
+                    reverseDegree++;
+                }
+                if (canonical && node < target) {
+                    order[(int) sorted[i]] = UPPER_EDGE;
+                    if (upperCount == upperTargets.length) {
+                        upperTargets = Arrays.copyOf(upperTargets, upperCount << 1);
+                        upperScores = Arrays.copyOf(upperScores, upperCount << 1);
+                    }
+                    upperTargets[upperCount] = target;
+                    upperScores[upperCount] = (short) score;
+                    upperCount++;
+                }
+                // The first copy of a canonical edge is stored (by whichever endpoint is smaller); everything else is
+                // an exception.
+                for (int copy = canonical ? i + 1 : i; copy < runEnd; copy++) {
+                    if (exceptionCount == exceptionTargets.length) {
+                        exceptionTargets = Arrays.copyOf(exceptionTargets, exceptionCount << 1);
+                        exceptionScores = Arrays.copyOf(exceptionScores, exceptionCount << 1);
+                    }
+                    exceptionTargets[exceptionCount] = target;
+                    exceptionScores[exceptionCount] = (short) directed.score(node, (int) sorted[copy]);
+                    exceptionCount++;
+                    order[(int) sorted[copy]] = EXCEPTION_EDGE;
+                    if (target == node) {
+                        selfLoops++;
+                    } else if (copy > i) {
+                        duplicates++;
+                    } else if (reverse < 0) {
+                        asymmetric++;
+                    } else {
+                        mismatched++;
+                    }
+                }
+                i = runEnd;
+            }
+            upperOffsets[node + 1] = upperCount;
+            exceptionOffsets[node + 1] = exceptionCount;
+
+            // Each part of the layout lists its edges in the order of the sorted copy, so walking the sorted copy
+            // again gives every directed position its layout position.
+            next[REVERSE_EDGE] = 0;
+            next[UPPER_EDGE] = reverseDegree;
+            next[EXCEPTION_EDGE] = reverseDegree + upperCount - upperStart;
+            for (int i = rowStarts[node]; i < end; i++) {
+                int position = (int) sorted[i];
+                order[position] = next[order[position]]++;
+            }
+            boolean inLayoutOrder = true;
+            for (int position = 0; position < degree && inLayoutOrder; position++) {
+                inLayoutOrder = order[position] == position;
+            }
+            if (!inLayoutOrder) {
+                if (orders.length < orderCount + degree) {
+                    orders = Arrays.copyOf(orders, Math.max(orderCount + degree, orders.length << 1));
+                }
+                System.arraycopy(order, 0, orders, orderCount, degree);
+                orderCount += degree;
+            }
+            orderOffsets[node + 1] = orderCount;
+        }
+
+        // Transpose the upper rows into the reverse index; scanning sources in ascending order keeps each list sorted.
+        int[] reverseOffsets = new int[nodeCount + 1];
+        for (int edge = 0; edge < upperCount; edge++) {
+            reverseOffsets[upperTargets[edge] + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            reverseOffsets[node + 1] += reverseOffsets[node];
+        }
+        int[] reverseSources = new int[upperCount];
+        int[] cursor = Arrays.copyOf(reverseOffsets, nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            for (int edge = upperOffsets[node]; edge < upperOffsets[node + 1]; edge++) {
+                reverseSources[cursor[upperTargets[edge]]++] = node;
+            }
+        }
+
+        return new UndirectedPpiNetwork(directed,
+                IntBuffer.wrap(upperOffsets),
+                IntBuffer.wrap(Arrays.copyOf(upperTargets, upperCount)),
+                ShortBuffer.wrap(Arrays.copyOf(upperScores, upperCount)),
+                reverseOffsets,
+                reverseSources,
+                exceptionOffsets,
+                Arrays.copyOf(exceptionTargets, exceptionCount),
+                Arrays.copyOf(exceptionScores, exceptionCount),
+                orderOffsets,
+                Arrays.copyOf(orders, orderCount),
+                DedupStats.create(upperCount, asymmetric, mismatched, duplicates, selfLoops));
+    }
+
+    public DedupStats getDedupStats() {
+        return dedupStats;
+    }
+
+    public int canonicalEdgeCount() {
+        /** Number of stored (min, max) edges, each standing for two directed edges. */
+        return super.edgeCount();
+    }
+
+    @Override
+    public int edgeCount() {
+        /** Number of directed edges, the same as in the directed network this was built from. */
+        return 2 * super.edgeCount() + exceptionTargets.length;
+    }
+
+    @Override
+    public int degree(int node) {
+        return reverseDegree(node) + super.degree(node) + exceptionDegree(node);
+    }
+
+    @Override
+    public int neighbor(int node, int position) {
+        position = layoutPosition(node, position);
+        int reverseDegree = reverseDegree(node);
+        if (position < reverseDegree) {
+            return reverseSources[reverseOffsets[node] + position];
+        }
+        position -= reverseDegree;
+        int upperDegree = super.degree(node);
+        if (position < upperDegree) {
+            return super.neighbor(node, position);
+        }
+        return exceptionTargets[exceptionOffsets[node] + position - upperDegree];
+    }
+
+    @Override
+    public int score(int node, int position) {
+        position = layoutPosition(node, position);
+        int reverseDegree = reverseDegree(node);
+        if (position < reverseDegree) {
+            // The score lives in the source's row, which is sorted by target.
+            int source = reverseSources[reverseOffsets[node] + position];
+            return super.score(source, upperPosition(source, node));
+        }
+        position -= reverseDegree;
+        int upperDegree = super.degree(node);
+        if (position < upperDegree) {
+            return super.score(node, position);
+        }
+        return exceptionScores[exceptionOffsets[node] + position - upperDegree];
+    }
+
+    @Override
+    public long estimatedSizeInBytes() {
+        return super.estimatedSizeInBytes() + 4L * reverseOffsets.length + 4L * reverseSources.length
+                + 4L * exceptionOffsets.length + 4L * exceptionTargets.length + 2L * exceptionScores.length
+                + 4L * orderOffsets.length + 4L * orders.length;
+    }
+
+    private int layoutPosition(int node, int position) {
+        /** Where the edge at a directed position of the node sits in its reverse, canonical and exception layout. */
+        return orderOffsets[node + 1] == orderOffsets[node] ? position : orders[orderOffsets[node] + position];
+    }
+
+    private int reverseDegree(int node) {
+        return reverseOffsets[node + 1] - reverseOffsets[node];
+    }
+
+    private int exceptionDegree(int node) {
+        return exceptionOffsets[node + 1] - exceptionOffsets[node];
+    }
+
+    private int upperPosition(int source, int target) {
+        int low = 0;
+        int high = super.degree(source) - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int value = super.neighbor(source, middle);
+            if (value < target) {
+                low = middle + 1;
+            } else if (value > target) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        throw new IllegalStateException("Reverse index out of sync for edge " + source + " -> " + target);
+    }
+
+    private static int findRow(long[] sorted, int[] rowStarts, int node, int target) {
+        /** Index of the first (node -> target) entry in the sorted copy of node's row, or -1 if there is none. */
+        int low = rowStarts[node];
+        int high = rowStarts[node + 1] - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int value = (int) (sorted[middle] >>> 32);
+            if (value < target) {
+                low = middle + 1;
+            } else {
+                if (value == target) {
+                    found = middle;
+                }
+                high = middle - 1;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * AnalyticsReport
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.analytics;
+
+import com.capstone.ppinetwork.CompactPpiNetwork;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Results of NetworkAnalytics.computeAll(), by node index of the analyzed network, with writers for tab-separated
+ * files that sit next to the exported node data.
+ */
+public class AnalyticsReport {
+    private static final double WEIGHTED_DEGREE_BIN_WIDTH = 1.0;
+
+    private final CompactPpiNetwork network;
+    private final int[] degrees;
+    private final double[] weightedDegrees;
+    private final int[] components;
+    private final double[] pageRank;
+    private final double[] clusteringCoefficients;
+    private final Map<String, Long> timingsMillis;
+
+    protected AnalyticsReport(Builder builder) {
+        this.network = builder.network;
+        this.degrees = builder.degrees;
+        this.weightedDegrees = builder.weightedDegrees;
+        this.components = builder.components;
+        this.pageRank = builder.pageRank;
+        this.clusteringCoefficients = builder.clusteringCoefficients;
+        this.timingsMillis = Collections.unmodifiableMap(new LinkedHashMap<>(builder.timingsMillis));
+    }
+
+    public int getDegree(int node) {
+        return degrees[node];
+    }
+
+    public double getWeightedDegree(int node) {
+        return weightedDegrees[node];
+    }
+
+    public int getComponent(int node) {
+        return components[node];
+    }
+
+    public double getPageRank(int node) {
+        return pageRank[node];
+    }
+
+    public double getClusteringCoefficient(int node) {
+        return clusteringCoefficients[node];
+    }
+
+    public long[] getDegreeHistogram() {
+        return NetworkAnalytics.histogram(degrees);
+    }
+
+    public long[] getWeightedDegreeHistogram() {
+        return NetworkAnalytics.histogram(weightedDegrees, WEIGHTED_DEGREE_BIN_WIDTH);
+    }
+
+    public int[] getComponentSizes() {
+        /** Size of the component of every node, by node index. */
+        int[] sizeByLabel = new int[components.length];
+        for (int label : components) {
+            sizeByLabel[label]++;
+        }
+        int[] sizes = new int[components.length];
+        for (int node = 0; node < components.length; node++) {
+            sizes[node] = sizeByLabel[components[node]];
+        }
+        return sizes;
+    }
+
+    public int getComponentCount() {
+        int count = 0;
+        for (int node = 0; node < components.length; node++) {
+            if (components[node] == node) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public Map<String, Long> getTimingsMillis() {
+        return timingsMillis;
+    }
+
+    public void write(Path nodeDataFile) throws IOException {
+        /**
+         * Writes <name>.analytics.tsv (one row per protein) and <name>.degree_histogram.tsv next to the given node data
+         * file, where <name> is its file name up to the first dot.
+         */
+        String name = nodeDataFile.getFileName().toString();
+        if (name.indexOf('.') > 0) {
+            name = name.substring(0, name.indexOf('.'));
+        }
+        Path directory = nodeDataFile.toAbsolutePath().getParent();
+        writeNodes(directory.resolve(name + ".analytics.tsv"));
+        writeHistograms(directory.resolve(name + ".degree_histogram.tsv"));
+    }
+
+    public void writeNodes(Path path) throws IOException {
+        int[] componentSizes = getComponentSizes();
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("protein_id\tpreferred_name\tdegree\tweighted_degree\tcomponent\tcomponent_size"
+                    + "\tpagerank\tclustering_coefficient\n");
+            for (int node = 0; node < degrees.length; node++) {
+                writer.write(network.getId(node));
+                writer.write('\t');
+                writer.write(network.getPreferredName(node) == null ? "" : network.getPreferredName(node));
+                writer.write('\t' + Integer.toString(degrees[node]));
+                writer.write('\t' + Double.toString(weightedDegrees[node]));
+                writer.write('\t' + network.getId(components[node]));
+                writer.write('\t' + Integer.toString(componentSizes[node]));
+                writer.write('\t' + Double.toString(pageRank[node]));
+                writer.write('\t' + Double.toString(clusteringCoefficients[node]));
+                writer.write('\n');
+            }
+        }
+    }
+
+    public void writeHistograms(Path path) throws IOException {
+        /** Rows of (bin, nodes with that degree, nodes with a weighted degree in [bin, bin + 1)). */
+        long[] degreeHistogram = getDegreeHistogram();
+        long[] weightedHistogram = getWeightedDegreeHistogram();
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("bin\tdegree_count\tweighted_degree_count\n");
+            for (int bin = 0; bin < Math.max(degreeHistogram.length, weightedHistogram.length); bin++) {
+                writer.write(bin + "\t" + (bin < degreeHistogram.length ? degreeHistogram[bin] : 0)
+                        + "\t" + (bin < weightedHistogram.length ? weightedHistogram[bin] : 0) + "\n");
+            }
+        }
+    }
+
+    public static class Builder {
+        private final CompactPpiNetwork network;
+        private int[] degrees;
+        private double[] weightedDegrees;
+        private int[] components;
+        private double[] pageRank;
+        private double[] clusteringCoefficients;
+        private final Map<String, Long> timingsMillis = new LinkedHashMap<>();
+
+        public Builder(CompactPpiNetwork network) {
+            this.network = network;
+        }
+
+        public Builder setDegrees(int[] degrees) {
+            this.degrees = degrees;
+            return this;
+        }
+
+        public Builder setWeightedDegrees(double[] weightedDegrees) {
+            this.weightedDegrees = weightedDegrees;
+            return this;
+        }
+
+        public Builder setComponents(int[] components) {
+            this.components = components;
+            return this;
+        }
+
+        public Builder setPageRank(double[] pageRank) {
+            this.pageRank = pageRank;
+            return this;
+        }
+
+        public Builder setClusteringCoefficients(double[] clusteringCoefficients) {
+            this.clusteringCoefficients = clusteringCoefficients;
+            return this;
+        }
+
+        long recordTiming(String metric, long startNanos) {
+            /** Records the time since startNanos and returns the current time, to start timing the next metric. */
+            long now = System.nanoTime();
+            timingsMillis.put(metric, TimeUnit.NANOSECONDS.toMillis(now - startNanos));
+            return now;
+        }
+
+        public AnalyticsReport build() {
+            return new AnalyticsReport(this);
+        }
+    }
+}
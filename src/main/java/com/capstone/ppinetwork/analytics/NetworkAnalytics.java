@@ -0,0 +1,408 @@
+/*
+ * NetworkAnalytics
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.analytics;
+
+import com.capstone.ppinetwork.CompactPpiNetwork;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Whole-network statistics computed in parallel over the primitive arrays of a CompactPpiNetwork: degree and
+ * weighted-degree histograms, connected components, weighted PageRank and local clustering coefficients.
+ * Node ranges are split into chunks that run on a fork-join pool; every per-node result is a primitive array indexed
+ * by node, so a whole organism is analyzed without creating a PpiNetworkNode.
+ * Components and clustering coefficients treat the network as undirected: u and v are adjacent if either lists the
+ * other. PageRank follows edge direction, which makes no difference for STRING's symmetric files.
+ */
+public class NetworkAnalytics {
+    private static final double MAX_SCORE = 1000.0; // STRING DB scores range from 0 to 1000.
+    private static final int CHUNKS_PER_THREAD = 4;  // Evens out chunks with a few heavy hub nodes.
+
+    private final CompactPpiNetwork network;
+    private final ForkJoinPool pool;
+    private final int nodeCount;
+    private int[][] undirectedAdjacency; // Lazily built: {offsets, neighbors}, each row sorted and distinct.
+
+    public NetworkAnalytics(CompactPpiNetwork network) {
+        this(network, ForkJoinPool.commonPool());
+    }
+
+    public NetworkAnalytics(CompactPpiNetwork network, ForkJoinPool pool) {
+        this.network = network;
+        this.pool = pool;
+        this.nodeCount = network.nodeCount();
+    }
+
+    public AnalyticsReport computeAll() {
+        /** Every metric with its default settings, plus the time each one took. */
+        AnalyticsReport.Builder report = new AnalyticsReport.Builder(network);
+        long start = System.nanoTime();
+        report.setDegrees(degrees()).setWeightedDegrees(weightedDegrees());
+        start = report.recordTiming("degrees", start);
+        report.setComponents(connectedComponents());
+        start = report.recordTiming("components", start);
+        report.setPageRank(pageRank());
+        start = report.recordTiming("pageRank", start);
+        report.setClusteringCoefficients(clusteringCoefficients());
+        report.recordTiming("clustering", start);
+        return report.build();
+    }
+
+    public int[] degrees() {
+        int[] degrees = new int[nodeCount];
+        parallelFor((from, to) -> {
+            for (int node = from; node < to; node++) {
+                degrees[node] = network.degree(node);
+            }
+        });
+        return degrees;
+    }
+
+    public double[] weightedDegrees() {
+        /** Sum of each node's edge scores, as confidences between 0 and 1. */
+        double[] weightedDegrees = new double[nodeCount];
+        parallelFor((from, to) -> {
+            for (int node = from; node < to; node++) {
+                double sum = 0;
+                for (int position = 0, degree = network.degree(node); position < degree; position++) {
+                    sum += network.score(node, position) / MAX_SCORE;
+                }
+                weightedDegrees[node] = sum;
+            }
+        });
+        return weightedDegrees;
+    }
+
+    public static long[] histogram(int[] values) {
+        /** Count of nodes for every value from 0 to the maximum value. */
+        long[] histogram = new long[Arrays.stream(values).max().orElse(-1) + 1];
+        for (int value : values) {
+            histogram[value]++;
+        }
+        return histogram;
+    }
+
+    public static long[] histogram(double[] values, double binWidth) {
+        /** Count of nodes in each bin [i * binWidth, (i + 1) * binWidth). */
+        long[] histogram = new long[(int) (Arrays.stream(values).max().orElse(-1) / binWidth) + 1];
+        for (double value : values) {
+            histogram[(int) (value / binWidth)]++;
+        }
+        return histogram;
+    }
+
+    public int[] connectedComponents() {
+        /**
+         * Component label of every node: the smallest node index in its component. Edges are merged concurrently into
+         * a lock-free union-find that always links the larger root under the smaller one.
+         */
+        AtomicIntegerArray parent = new AtomicIntegerArray(nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            parent.set(node, node);
+        }
+        parallelFor((from, to) -> {
+            for (int node = from; node < to; node++) {
+                for (int position = 0, degree = network.degree(node); position < degree; position++) {
+                    union(parent, node, network.neighbor(node, position));
+                }
+            }
+        });
+        int[] labels = new int[nodeCount];
+        parallelFor((from, to) -> {
+            for (int node = from; node < to; node++) {
+                labels[node] = find(parent, node);
+            }
+        });
+        return labels;
+    }
+
+    public double[] pageRank() {
+        return pageRank(0.85, 100, 1e-9);
+    }
+
+    public double[] pageRank(double damping, int maxIterations, double tolerance) {
+        /**
+         * Weighted PageRank: a node passes its rank to its neighbors in proportion to the edge scores. Rank of nodes
+         * without scored edges is spread evenly over all nodes. Iterates until the L1 change drops below tolerance.
+         */
+        // Transposed, normalized edges so that each iteration pulls into its own node range without contention.
+        double[] outWeight = new double[nodeCount];
+        int[] inOffsets = new int[nodeCount + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            for (int position = 0, degree = network.degree(node); position < degree; position++) {
+                int score = network.score(node, position);
+                if (score > 0) {
+                    outWeight[node] += score;
+                    inOffsets[network.neighbor(node, position) + 1]++;
+                }
+            }
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            inOffsets[node + 1] += inOffsets[node];
+        }
+        int[] inSources = new int[inOffsets[nodeCount]];
+        float[] inWeights = new float[inSources.length];
+        int[] cursor = Arrays.copyOf(inOffsets, nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            for (int position = 0, degree = network.degree(node); position < degree; position++) {
+                int score = network.score(node, position);
+                if (score > 0) {
+                    int slot = cursor[network.neighbor(node, position)]++;
+                    inSources[slot] = node;
+                    inWeights[slot] = (float) (score / outWeight[node]);
+                }
+            }
+        }
+
+        double[] rank = new double[nodeCount];
+        double[] next = new double[nodeCount];
+        Arrays.fill(rank, 1.0 / nodeCount);
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            double dangling = 0;
+            for (int node = 0; node < nodeCount; node++) {
+                if (outWeight[node] == 0) {
+                    dangling += rank[node];
+                }
+            }
+            double base = (1 - damping) / nodeCount + damping * dangling / nodeCount;
+            double[] current = rank;
+            double[] updated = next;
+            List<Double> changes = parallelMap((from, to) -> {
+                double delta = 0;
+                for (int node = from; node < to; node++) {
+                    double sum = 0;
+                    for (int edge = inOffsets[node]; edge < inOffsets[node + 1]; edge++) {
+                        sum += current[inSources[edge]] * inWeights[edge];
+                    }
+                    updated[node] = base + damping * sum;
+                    delta += Math.abs(updated[node] - current[node]);
+                }
+                return delta;
+            });
+            double change = 0;
+            for (double delta : changes) {
+                change += delta;
+            }
+            rank = updated;
+            next = current;
+            if (change < tolerance) {
+                break;
+            }
+        }
+        return rank;
+    }
+
+    public double[] clusteringCoefficients() {
+        /**
+         * Local clustering coefficient of every node: the fraction of pairs of its distinct neighbors that interact
+         * with each other. Nodes with fewer than two neighbors get 0.
+         * Triangles are counted on edges oriented from lower to higher degree, so each triangle is found exactly once
+         * and hub proteins only ever scan their few higher-degree neighbors instead of every pair of neighbors.
+         */
+        int[][] adjacency = undirectedAdjacency();
+        int[] offsets = adjacency[0];
+        int[] neighbors = adjacency[1];
+
+        // Forward lists: the neighbors that rank higher, by (degree, index).
+        int[] forwardOffsets = new int[nodeCount + 1];
+        parallelFor((from, to) -> {
+            for (int node = from; node < to; node++) {
+                for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+                    if (ranksBelow(offsets, node, neighbors[edge])) {
+                        forwardOffsets[node + 1]++;
+                    }
+                }
+            }
+        });
+        for (int node = 0; node < nodeCount; node++) {
+            forwardOffsets[node + 1] += forwardOffsets[node];
+        }
+        int[] forward = new int[forwardOffsets[nodeCount]];
+        parallelFor((from, to) -> {
+            for (int node = from; node < to; node++) {
+                int write = forwardOffsets[node];
+                for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+                    if (ranksBelow(offsets, node, neighbors[edge])) {
+                        forward[write++] = neighbors[edge];
+                    }
+                }
+            }
+        });
+
+        AtomicLongArray triangles = new AtomicLongArray(nodeCount);
+        parallelFor((from, to) -> {
+            int[] mark = new int[nodeCount]; // mark[w] == node + 1 when w is a forward neighbor of the current node.
+            for (int node = from; node < to; node++) {
+                for (int edge = forwardOffsets[node]; edge < forwardOffsets[node + 1]; edge++) {
+                    mark[forward[edge]] = node + 1;
+                }
+                for (int edge = forwardOffsets[node]; edge < forwardOffsets[node + 1]; edge++) {
+                    int neighbor = forward[edge];
+                    for (int second = forwardOffsets[neighbor]; second < forwardOffsets[neighbor + 1]; second++) {
+                        int third = forward[second];
+                        if (mark[third] == node + 1) {
+                            triangles.incrementAndGet(node);
+                            triangles.incrementAndGet(neighbor);
+                            triangles.incrementAndGet(third);
+                        }
+                    }
+                }
+            }
+        });
+
+        double[] coefficients = new double[nodeCount];
+        parallelFor((from, to) -> {
+            for (int node = from; node < to; node++) {
+                long degree = offsets[node + 1] - offsets[node];
+                coefficients[node] = degree < 2 ? 0 : 2.0 * triangles.get(node) / (degree * (degree - 1));
+            }
+        });
+        return coefficients;
+    }
+
+    private static boolean ranksBelow(int[] offsets, int node, int other) {
+        int degree = offsets[node + 1] - offsets[node];
+        int otherDegree = offsets[other + 1] - offsets[other];
+        return degree < otherDegree || (degree == otherDegree && node < other);
+    }
+
+    private synchronized int[][] undirectedAdjacency() {
+        /** Distinct neighbors of every node in either direction, without self-loops, sorted by node index. */
+        if (undirectedAdjacency != null) {
+            return undirectedAdjacency;
+        }
+        int[] counts = new int[nodeCount + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            for (int position = 0, degree = network.degree(node); position < degree; position++) {
+                int neighbor = network.neighbor(node, position);
+                if (neighbor != node) {
+                    counts[node + 1]++;
+                    counts[neighbor + 1]++;
+                }
+            }
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            counts[node + 1] += counts[node];
+        }
+        int[] all = new int[counts[nodeCount]];
+        int[] cursor = Arrays.copyOf(counts, nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            for (int position = 0, degree = network.degree(node); position < degree; position++) {
+                int neighbor = network.neighbor(node, position);
+                if (neighbor != node) {
+                    all[cursor[node]++] = neighbor;
+                    all[cursor[neighbor]++] = node;
+                }
+            }
+        }
+
+        // Sort and deduplicate every row in parallel, then compact the rows.
+        int[] distinct = new int[nodeCount];
+        parallelFor((from, to) -> {
+            for (int node = from; node < to; node++) {
+                Arrays.sort(all, counts[node], counts[node + 1]);
+                int write = counts[node];
+                for (int read = counts[node]; read < counts[node + 1]; read++) {
+                    if (read == counts[node] || all[read] != all[read - 1]) {
+                        all[write++] = all[read];
+                    }
+                }
+                distinct[node] = write - counts[node];
+            }
+        });
+        int[] offsets = new int[nodeCount + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            offsets[node + 1] = offsets[node] + distinct[node];
+        }
+        int[] neighbors = new int[offsets[nodeCount]];
+        for (int node = 0; node < nodeCount; node++) {
+            System.arraycopy(all, counts[node], neighbors, offsets[node], distinct[node]);
+        }
+        undirectedAdjacency = new int[][] {offsets, neighbors};
+        return undirectedAdjacency;
+    }
+
+    private static void union(AtomicIntegerArray parent, int a, int b) {
+        while (true) {
+            int rootA = find(parent, a);
+            int rootB = find(parent, b);
+            if (rootA == rootB) {
+                return;
+            }
+            int low = Math.min(rootA, rootB);
+            int high = Math.max(rootA, rootB);
+            if (parent.compareAndSet(high, high, low)) {
+                return;
+            }
+            // Another thread re-rooted high in the meantime; retry from the new roots.
+        }
+    }
+
+    private static int find(AtomicIntegerArray parent, int node) {
+        /** Root of node, halving the path on the way; a racing update only ever moves a node closer to its root. */
+        while (true) {
+            int next = parent.get(node);
+            if (next == node) {
+                return node;
+            }
+            int grandparent = parent.get(next);
+            if (grandparent != next) {
+                parent.compareAndSet(node, next, grandparent);
+            }
+            node = next;
+        }
+    }
+
+    private interface RangeTask {
+        void run(int from, int to);
+    }
+
+    private interface RangeFunction<T> {
+        T apply(int from, int to);
+    }
+
+    private void parallelFor(RangeTask task) {
+        parallelMap((from, to) -> {
+            task.run(from, to);
+            return null;
+        });
+    }
+
+    private <T> List<T> parallelMap(RangeFunction<T> function) {
+        /** Runs the function over chunks of the node range on the pool; results are in chunk order. */
+        int chunks = Math.max(1, Math.min(nodeCount, pool.getParallelism() * CHUNKS_PER_THREAD));
+        List<ForkJoinTask<T>> tasks = new ArrayList<>(chunks);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            int from = (int) ((long) nodeCount * chunk / chunks);
+            int to = (int) ((long) nodeCount * (chunk + 1) / chunks);
+            tasks.add(pool.submit(() -> function.apply(from, to)));
+        }
+        List<T> results = new ArrayList<>(chunks);
+        try {
+            for (ForkJoinTask<T> task : tasks) {
+                results.add(task.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while computing network analytics", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Network analytics failed", e.getCause());
+        }
+        return results;
+    }
+}
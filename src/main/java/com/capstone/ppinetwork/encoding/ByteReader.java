@@ -0,0 +1,92 @@
+/*
+ * ByteReader
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.encoding;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads what a ByteWriter wrote, from a byte array. Reading past the end, or a varint longer than its type allows,
+ * throws IllegalStateException, since either means the data is truncated or not in the expected encoding.
+ */
+public class ByteReader {
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public ByteReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    public ByteReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    public int getByte() {
+        /** The next byte, unsigned. */
+        checkRemaining(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public int getVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = getByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint at " + (position - 5));
+    }
+
+    public long getVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = getByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint at " + (position - 10));
+    }
+
+    public String getString() {
+        int length = getVarInt();
+        return readString(length);
+    }
+
+    public String getNullableString() {
+        int length = getVarInt();
+        return length == 0 ? null : readString(length - 1);
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public int remaining() {
+        return limit - position;
+    }
+
+    private String readString(int length) {
+        checkRemaining(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    private void checkRemaining(int bytes) {
+        if (bytes > limit - position) {
+            throw new IllegalStateException("Encoded data ends " + (bytes - (limit - position))
+                    + " bytes short at " + position);
+        }
+    }
+}
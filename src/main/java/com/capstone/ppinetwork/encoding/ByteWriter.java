@@ -0,0 +1,110 @@
+/*
+ * ByteWriter
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.encoding;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer for the compact encodings. Integers are written as unsigned LEB128 varints: seven bits per
+ * byte, least significant group first, with the high bit set on every byte but the last, so values below 128 take a
+ * single byte. Negative values are not supported.
+ * Reference: https://en.wikipedia.org/wiki/LEB128
+ */
+public class ByteWriter {
+    private byte[] buffer;
+    private int size;
+
+    public ByteWriter() {
+        this(256);
+    }
+
+    public ByteWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public ByteWriter putByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    public ByteWriter putVarInt(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Varints are unsigned : " + value);
+        }
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    public ByteWriter putVarLong(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Varints are unsigned : " + value);
+        }
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    public ByteWriter putBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+        return this;
+    }
+
+    public ByteWriter putString(String value) {
+        /** Varint byte length followed by the UTF-8 bytes. */
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putVarInt(bytes.length);
+        return putBytes(bytes, 0, bytes.length);
+    }
+
+    public ByteWriter putNullableString(String value) {
+        /** As putString, with the length shifted up by one so that 0 can stand for null. */
+        if (value == null) {
+            return putVarInt(0);
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putVarInt(bytes.length + 1);
+        return putBytes(bytes, 0, bytes.length);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void reset() {
+        size = 0;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public void writeTo(OutputStream output) throws IOException {
+        output.write(buffer, 0, size);
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (size + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + bytes));
+        }
+    }
+}
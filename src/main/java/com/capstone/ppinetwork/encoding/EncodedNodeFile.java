@@ -0,0 +1,211 @@
+/*
+ * EncodedNodeFile
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.encoding;
+
+import com.capstone.ppinetwork.CompactPpiNetwork;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.PpiNetworkNode.Neighbor;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Compact export of a list of nodes: every protein id is written once through a TaxonPrefixDictionary, and node
+ * records reference neighbors by their index in it, with NeighborListEncoding lists. Reading it back is a single pass
+ * over a byte array, with no tokenizing or reflection as in the JSON export.
+ *
+ * <pre>
+ *   magic "PPNE", varint version, varint score precision
+ *   ids        TaxonPrefixDictionary: the node ids in node order, then ids only seen as neighbors
+ *   varint nodeCount
+ *   per node   nullable string preferredName, nullable string annotation, varint proteinSize + 1 (0 for none),
+ *              neighbor list
+ * </pre>
+ *
+ * Node i's id is id i, so node records carry no id of their own. Scores come back rounded down to the declared
+ * precision.
+ */
+public class EncodedNodeFile {
+    public static final String EXTENSION = ".ppne";
+    private static final byte[] MAGIC = {'P', 'P', 'N', 'E'};
+    private static final int FORMAT_VERSION = 1;
+    private static final int FLUSH_THRESHOLD = 1 << 16;
+
+    private EncodedNodeFile() {
+    }
+
+    public static long write(Iterable<PpiNetworkNode> nodes, OutputStream output, int scorePrecision)
+            throws IOException {
+        /**
+         * Writes every node and returns how many were written; the stream is left open. Iterates the nodes twice,
+         * once for the id dictionary and once for the records, so lazy lists such as CompactPpiNetwork.toNodes()
+         * are never held in memory.
+         */
+        NeighborListEncoding.checkPrecision(scorePrecision);
+        Map<String, Integer> indexById = new HashMap<>();
+        List<String> ids = new ArrayList<>();
+        int nodeCount = 0;
+        for (PpiNetworkNode node : nodes) {
+            if (indexById.putIfAbsent(node.getId(), ids.size()) != null) {
+                throw new IllegalArgumentException("Node " + node.getId() + " appears twice");
+            }
+            ids.add(node.getId());
+            nodeCount++;
+        }
+        for (PpiNetworkNode node : nodes) {
+            for (Neighbor neighbor : node.getNeighbors()) {
+                if (indexById.putIfAbsent(neighbor.getId(), ids.size()) == null) {
+                    ids.add(neighbor.getId());
+                }
+            }
+        }
+
+        ByteWriter buffer = new ByteWriter(FLUSH_THRESHOLD * 2);
+        buffer.putBytes(MAGIC, 0, MAGIC.length).putVarInt(FORMAT_VERSION).putVarInt(scorePrecision);
+        TaxonPrefixDictionary.write(ids, buffer);
+        buffer.putVarInt(nodeCount);
+        int[] indices = new int[16];
+        int[] scores = new int[16];
+        for (PpiNetworkNode node : nodes) {
+            List<Neighbor> neighbors = node.getNeighbors();
+            if (neighbors.size() > indices.length) {
+                indices = new int[Math.max(neighbors.size(), indices.length * 2)];
+                scores = new int[indices.length];
+            }
+            for (int i = 0; i < neighbors.size(); i++) {
+                indices[i] = indexById.get(neighbors.get(i).getId());
+                scores[i] = neighbors.get(i).getScore();
+            }
+            writeNode(buffer, node.getPreferredName(), node.getAnnotation(), node.getProteinSize(),
+                    indices, scores, neighbors.size(), scorePrecision, output);
+        }
+        buffer.writeTo(output);
+        output.flush();
+        return nodeCount;
+    }
+
+    public static long write(CompactPpiNetwork network, OutputStream output, int scorePrecision) throws IOException {
+        /**
+         * Writes the nodes of network.toNodes() straight from the CSR arrays: neighbor indices only need renumbering,
+         * with the nodes that have interactions first, so no id is hashed and no node is materialized.
+         */
+        NeighborListEncoding.checkPrecision(scorePrecision);
+        int[] renumbered = new int[network.nodeCount()];
+        List<String> ids = new ArrayList<>(network.nodeCount());
+        int nodeCount = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            for (int node = 0; node < network.nodeCount(); node++) {
+                if ((network.degree(node) > 0) == (pass == 0)) {
+                    renumbered[node] = ids.size();
+                    ids.add(network.getId(node));
+                }
+            }
+            if (pass == 0) {
+                nodeCount = ids.size();
+            }
+        }
+
+        ByteWriter buffer = new ByteWriter(FLUSH_THRESHOLD * 2);
+        buffer.putBytes(MAGIC, 0, MAGIC.length).putVarInt(FORMAT_VERSION).putVarInt(scorePrecision);
+        TaxonPrefixDictionary.write(ids, buffer);
+        buffer.putVarInt(nodeCount);
+        int[] indices = new int[16];
+        int[] scores = new int[16];
+        for (int node = 0; node < network.nodeCount(); node++) {
+            int degree = network.degree(node);
+            if (degree == 0) {
+                continue;
+            }
+            if (degree > indices.length) {
+                indices = new int[Math.max(degree, indices.length * 2)];
+                scores = new int[indices.length];
+            }
+            for (int position = 0; position < degree; position++) {
+                indices[position] = renumbered[network.neighbor(node, position)];
+                scores[position] = network.score(node, position);
+            }
+            // Like CompactPpiNetwork.getNode, a node without an accessory record has no metadata at all.
+            boolean accessory = network.hasAccessoryData(node);
+            writeNode(buffer, accessory ? network.getPreferredName(node) : null,
+                    accessory ? network.getAnnotation(node) : null,
+                    accessory ? network.getProteinSize(node) : null,
+                    indices, scores, degree, scorePrecision, output);
+        }
+        buffer.writeTo(output);
+        output.flush();
+        return nodeCount;
+    }
+
+    private static void writeNode(ByteWriter buffer, String preferredName, String annotation, Integer proteinSize,
+                                  int[] indices, int[] scores, int count, int scorePrecision, OutputStream output)
+            throws IOException {
+        buffer.putNullableString(preferredName)
+                .putNullableString(annotation)
+                .putVarInt(proteinSize == null ? 0 : proteinSize + 1);
+        NeighborListEncoding.write(buffer, indices, scores, count, scorePrecision);
+        if (buffer.size() >= FLUSH_THRESHOLD) {
+            buffer.writeTo(output);
+            buffer.reset();
+        }
+    }
+
+    public static List<PpiNetworkNode> read(Path path) throws IOException {
+        /** Reads a file written by write(), gzip-compressed or not. */
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(path))) {
+            input.mark(2);
+            boolean gzip = input.read() == 0x1F && input.read() == 0x8B;
+            input.reset();
+            return read(gzip ? new GZIPInputStream(input) : input);
+        }
+    }
+
+    public static List<PpiNetworkNode> read(InputStream input) throws IOException {
+        return decode(input.readAllBytes());
+    }
+
+    public static List<PpiNetworkNode> decode(byte[] encoded) {
+        ByteReader reader = new ByteReader(encoded);
+        for (byte b : MAGIC) {
+            if (reader.remaining() == 0 || reader.getByte() != b) {
+                throw new IllegalStateException("Not an encoded node file");
+            }
+        }
+        int version = reader.getVarInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported encoded node file version " + version);
+        }
+        int scorePrecision = reader.getVarInt();
+        NeighborListEncoding.checkPrecision(scorePrecision);
+        List<String> ids = TaxonPrefixDictionary.read(reader);
+        int nodeCount = reader.getVarInt();
+        List<PpiNetworkNode> nodes = new ArrayList<>(nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            PpiNetworkNode.Builder builder = new PpiNetworkNode.Builder()
+                    .setId(ids.get(node))
+                    .setPreferredName(reader.getNullableString())
+                    .setAnnotation(reader.getNullableString());
+            int proteinSize = reader.getVarInt();
+            if (proteinSize > 0) {
+                builder.setProteinSize(proteinSize - 1);
+            }
+            NeighborListEncoding.read(reader, scorePrecision,
+                    (index, score) -> builder.addNeighbor(Neighbor.create(ids.get(index), score)));
+            nodes.add(builder.build());
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * NeighborListEncoding
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.encoding;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Neighbor list as dictionary indices and scores: indices sorted ascending and stored as varint gaps from the
+ * previous one, then the scores, either one byte per score at a declared precision or two bytes per exact score.
+ *
+ * <pre>
+ *   varint count, count x varint (index - previous index), count x byte floor(score / precision)
+ *   varint count, count x varint (index - previous index), count x big-endian short score    (exact)
+ * </pre>
+ *
+ * STRING scores run from 0 to 1000, which needs ten bits. Dividing by a declared precision first makes them fit a
+ * byte: at the default precision of 4 every score is stored rounded down to a multiple of 4, so a stored score is
+ * never above the real one and a minimum score filter never lets a weaker edge through. Precisions below 4 cannot fit
+ * a score of 1000 in a byte and are rejected; where scores must stay exact, use the two-byte lists. The
+ * precision is not part of the list; the container (e.g. a file header) declares it once for every list it holds.
+ */
+public class NeighborListEncoding {
+    public static final int DEFAULT_SCORE_PRECISION = 4;
+    public static final int MAX_SCORE = 1000;
+    public static final int MIN_SCORE_PRECISION = (MAX_SCORE + 0xFF - 1) / 0xFF; // Fits MAX_SCORE in a byte.
+    private static final int MAX_EXACT_SCORE = 0xFFFF;
+
+    /** Receives the decoded neighbors in ascending index order. */
+    public interface NeighborConsumer {
+        void accept(int index, int score);
+    }
+
+    private NeighborListEncoding() {
+    }
+
+    public static void checkPrecision(int precision) {
+        /** Every score up to MAX_SCORE must fit a byte at the precision. */
+        if (precision < MIN_SCORE_PRECISION || precision > MAX_SCORE) {
+            throw new IllegalArgumentException("Score precision must be between " + MIN_SCORE_PRECISION + " and "
+                    + MAX_SCORE + " : " + precision);
+        }
+    }
+
+    public static int quantize(int score, int precision) {
+        /** Byte a score is stored as, rounding down to a multiple of the precision. */
+        int quantized = score / precision;
+        if (score < 0 || quantized > 0xFF) {
+            throw new IllegalArgumentException("Score " + score + " does not fit a byte at precision " + precision);
+        }
+        return quantized;
+    }
+
+    public static int dequantize(int quantized, int precision) {
+        return quantized * precision;
+    }
+
+    public static void write(ByteWriter output, int[] indices, int[] scores, int count, int precision) {
+        /** Writes the first count neighbors, in any order; they are stored sorted by index. */
+        long[] packed = writeIndices(output, indices, scores, count, score -> quantize(score, precision));
+        for (long pair : packed) {
+            output.putByte((int) pair);
+        }
+    }
+
+    public static void writeExact(ByteWriter output, int[] indices, int[] scores, int count) {
+        /** Like write, but keeps every score exact in two bytes. */
+        long[] packed = writeIndices(output, indices, scores, count, score -> {
+            if (score < 0 || score > MAX_EXACT_SCORE) {
+                throw new IllegalArgumentException("Score " + score + " does not fit two bytes");
+            }
+            return score;
+        });
+        for (long pair : packed) {
+            output.putByte((int) pair >>> 8).putByte((int) pair);
+        }
+    }
+
+    private static long[] writeIndices(ByteWriter output, int[] indices, int[] scores, int count,
+                                       IntUnaryOperator storedScore) {
+        /** Writes the count and the index gaps; returns the pairs in index order, each stored score in the low bits. */
+        long[] packed = new long[count]; // Index in the high bits, stored score in the low bits.
+        for (int i = 0; i < count; i++) {
+            if (indices[i] < 0) {
+                throw new IllegalArgumentException("Negative neighbor index : " + indices[i]);
+            }
+            packed[i] = ((long) indices[i] << 32) | storedScore.applyAsInt(scores[i]);
+        }
+        Arrays.sort(packed);
+
+        output.putVarInt(count);
+        int previous = 0;
+        for (long pair : packed) {
+            int index = (int) (pair >>> 32);
+            output.putVarInt(index - previous);
+            previous = index;
+        }
+        return packed;
+    }
+
+    public static int read(ByteReader input, int precision, NeighborConsumer consumer) {
+        /** Decodes one list into the consumer and returns its length. */
+        int[] indices = readIndices(input);
+        for (int index : indices) {
+            consumer.accept(index, dequantize(input.getByte(), precision));
+        }
+        return indices.length;
+    }
+
+    public static int readExact(ByteReader input, NeighborConsumer consumer) {
+        /** Decodes one list written by writeExact into the consumer and returns its length. */
+        int[] indices = readIndices(input);
+        for (int index : indices) {
+            consumer.accept(index, input.getByte() << 8 | input.getByte());
+        }
+        return indices.length;
+    }
+
+    private static int[] readIndices(ByteReader input) {
+        int count = input.getVarInt();
+        int[] indices = new int[count];
+        int index = 0;
+        for (int i = 0; i < count; i++) {
+            index += input.getVarInt();
+            indices[i] = index;
+        }
+        return indices;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * TaxonPrefixDictionary
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.encoding;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes a list of protein ids by splitting each into a shared prefix and a trailing number. STRING ids are a taxon
+ * id and a locus tag that mostly differ only in their final digits (1280.SAXN108_0001, 1280.SAXN108_0002, ...), so
+ * the prefixes of a whole organism fit in a handful of dictionary entries, and each id shrinks to an entry index and
+ * a varint instead of its full string.
+ *
+ * <pre>
+ *   varint entryCount, entryCount x (string prefix, varint digits)
+ *   varint idCount,    idCount x (varint entry, varlong number)
+ * </pre>
+ *
+ * An entry records the digit count along with the prefix, so zero padding ("0001") comes back exactly. Ids keep
+ * their order, so indices into the list stay valid across an encode and decode.
+ */
+public class TaxonPrefixDictionary {
+    // Longer digit runs keep their leading digits in the prefix, so the number always fits a long.
+    private static final int MAX_NUMBER_DIGITS = 18;
+
+    private TaxonPrefixDictionary() {
+    }
+
+    public static void write(List<String> ids, ByteWriter output) {
+        Map<String, Integer> entryIndex = new HashMap<>();
+        List<String> prefixes = new ArrayList<>();
+        List<Integer> digits = new ArrayList<>();
+        int[] entries = new int[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            int numberStart = numberStart(id);
+            String prefix = id.substring(0, numberStart);
+            int numberDigits = id.length() - numberStart;
+            // The digit count is part of the key: "0001" and "00001" must decode differently.
+            String key = numberDigits + ":" + prefix;
+            Integer entry = entryIndex.get(key);
+            if (entry == null) {
+                entry = prefixes.size();
+                entryIndex.put(key, entry);
+                prefixes.add(prefix);
+                digits.add(numberDigits);
+            }
+            entries[i] = entry;
+        }
+
+        output.putVarInt(prefixes.size());
+        for (int entry = 0; entry < prefixes.size(); entry++) {
+            output.putString(prefixes.get(entry)).putVarInt(digits.get(entry));
+        }
+        output.putVarInt(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            int numberStart = id.length() - digits.get(entries[i]);
+            output.putVarInt(entries[i])
+                    .putVarLong(numberStart == id.length() ? 0 : Long.parseLong(id.substring(numberStart)));
+        }
+    }
+
+    public static List<String> read(ByteReader input) {
+        int entryCount = input.getVarInt();
+        String[] prefixes = new String[entryCount];
+        int[] digits = new int[entryCount];
+        for (int entry = 0; entry < entryCount; entry++) {
+            prefixes[entry] = input.getString();
+            digits[entry] = input.getVarInt();
+        }
+        int idCount = input.getVarInt();
+        List<String> ids = new ArrayList<>(idCount);
+        StringBuilder id = new StringBuilder();
+        for (int i = 0; i < idCount; i++) {
+            int entry = input.getVarInt();
+            long number = input.getVarLong();
+            id.setLength(0);
+            id.append(prefixes[entry]);
+            if (digits[entry] > 0) {
+                String numberText = Long.toString(number);
+                for (int pad = numberText.length(); pad < digits[entry]; pad++) {
+                    id.append('0');
+                }
+                id.append(numberText);
+            }
+            ids.add(id.toString());
+        }
+        return ids;
+    }
+
+    static int numberStart(String id) {
+        /** Start of the run of ASCII digits the id ends with, at most MAX_NUMBER_DIGITS long. */
+        int start = id.length();
+        while (start > 0 && id.length() - start < MAX_NUMBER_DIGITS
+                && id.charAt(start - 1) >= '0' && id.charAt(start - 1) <= '9') {
+            start--;
+        }
+        return start;
+    }
+}
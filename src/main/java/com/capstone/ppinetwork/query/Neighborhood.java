@@ -0,0 +1,53 @@
+/*
+ * Neighborhood
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.query;
+
+import com.capstone.ppinetwork.CompactPpiNetwork;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Proteins within k hops of a source protein, as node indices of the queried network in breadth-first order, with
+ * the hop distance of each. The source itself is the first entry, at distance 0.
+ */
+public class Neighborhood {
+    private final CompactPpiNetwork network;
+    private final int[] nodes;
+    private final int[] hops;
+
+    Neighborhood(CompactPpiNetwork network, int[] nodes, int[] hops) {
+        this.network = network;
+        this.nodes = nodes;
+        this.hops = hops;
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    public int getNode(int position) {
+        return nodes[position];
+    }
+
+    public int getHops(int position) {
+        return hops[position];
+    }
+
+    public int[] getNodes() {
+        return nodes.clone();
+    }
+
+    public List<String> getProteinIds() {
+        List<String> proteinIds = new ArrayList<>(nodes.length);
+        for (int node : nodes) {
+            proteinIds.add(network.getId(node));
+        }
+        return proteinIds;
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * NetworkQueryEngine
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.query;
+
+import com.capstone.ppinetwork.CompactPpiNetwork;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.ProteinIdDictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntFunction;
+
+/**
+ * In-memory graph queries over a CompactPpiNetwork. Queries work on node indices, with primitive int frontiers and
+ * BitSets for visited nodes, so traversals allocate a handful of arrays instead of a String set and a Neighbor per
+ * edge; lookups by protein id are thin wrappers. A single engine is safe to share between threads, and the batch
+ * variants run one query per source on a fork-join pool.
+ */
+public class NetworkQueryEngine {
+    private static final double MAX_SCORE = 1000.0; // STRING DB scores range from 0 to 1000.
+
+    private final CompactPpiNetwork network;
+    private final ForkJoinPool pool;
+
+    public NetworkQueryEngine(CompactPpiNetwork network) {
+        this(network, ForkJoinPool.commonPool());
+    }
+
+    public NetworkQueryEngine(CompactPpiNetwork network, ForkJoinPool pool) {
+        this.network = network;
+        this.pool = pool;
+    }
+
+    public CompactPpiNetwork getNetwork() {
+        return network;
+    }
+
+    public Neighborhood kHop(String proteinId, int k, int minScore) {
+        return kHop(requireNode(proteinId), k, minScore);
+    }
+
+    public Neighborhood kHop(int source, int k, int minScore) {
+        /** Every protein reachable from source in at most k hops over edges scoring at least minScore. */
+        BitSet visited = new BitSet(network.nodeCount());
+        int[] nodes = new int[16];
+        int[] hops = new int[16];
+        nodes[0] = source;
+        visited.set(source);
+        int size = 1;
+
+        // The frontier of each level is the slice of nodes[] discovered during the previous level.
+        int levelStart = 0;
+        for (int hop = 1; hop <= k && levelStart < size; hop++) {
+            int levelEnd = size;
+            for (int i = levelStart; i < levelEnd; i++) {
+                int node = nodes[i];
+                for (int position = 0, degree = network.degree(node); position < degree; position++) {
+                    int neighbor = network.neighbor(node, position);
+                    if (visited.get(neighbor) || network.score(node, position) < minScore) {
+                        continue;
+                    }
+                    visited.set(neighbor);
+                    if (size == nodes.length) {
+                        nodes = Arrays.copyOf(nodes, size << 1);
+                        hops = Arrays.copyOf(hops, size << 1);
+                    }
+                    nodes[size] = neighbor;
+                    hops[size] = hop;
+                    size++;
+                }
+            }
+            levelStart = levelEnd;
+        }
+        return new Neighborhood(network, Arrays.copyOf(nodes, size), Arrays.copyOf(hops, size));
+    }
+
+    public Optional<WeightedPath> shortestPath(String sourceId, String targetId, int minScore) {
+        return shortestPath(requireNode(sourceId), requireNode(targetId), minScore);
+    }
+
+    public Optional<WeightedPath> shortestPath(int source, int target, int minScore) {
+        /**
+         * Most confident path between two proteins (Dijkstra, weight -ln(score / 1000)) over edges scoring at least
+         * minScore, or empty if there is none. Zero-score edges have infinite weight and are never used.
+         */
+        int nodeCount = network.nodeCount();
+        double[] distance = new double[nodeCount];
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        int[] previous = new int[nodeCount];
+        BitSet settled = new BitSet(nodeCount);
+        NodeHeap heap = new NodeHeap();
+        distance[source] = 0;
+        previous[source] = -1;
+        heap.push(source, 0);
+
+        while (!heap.isEmpty()) {
+            int node = heap.peekNode();
+            double nodeDistance = heap.peekDistance();
+            heap.pop();
+            if (settled.get(node)) {
+                continue; // Stale entry: the node was reached on a shorter path since.
+            }
+            settled.set(node);
+            if (node == target) {
+                break;
+            }
+            for (int position = 0, degree = network.degree(node); position < degree; position++) {
+                int score = network.score(node, position);
+                if (score < minScore || score <= 0) {
+                    continue;
+                }
+                int neighbor = network.neighbor(node, position);
+                double candidate = nodeDistance + weight(score);
+                if (candidate < distance[neighbor]) {
+                    distance[neighbor] = candidate;
+                    previous[neighbor] = node;
+                    heap.push(neighbor, candidate);
+                }
+            }
+        }
+        if (!settled.get(target)) {
+            return Optional.empty();
+        }
+
+        List<String> path = new ArrayList<>();
+        for (int node = target; node != -1; node = previous[node]) {
+            path.add(network.getId(node));
+        }
+        Collections.reverse(path);
+        return Optional.of(WeightedPath.create(path, distance[target]));
+    }
+
+    public int[] sharedNeighbors(int protein1, int protein2, int minScore) {
+        /** Proteins interacting with both proteins, each over an edge scoring at least minScore, in ascending order. */
+        BitSet first = neighborSet(protein1, minScore);
+        first.and(neighborSet(protein2, minScore));
+        return first.stream().toArray();
+    }
+
+    public double jaccard(String proteinId1, String proteinId2, int minScore) {
+        return jaccard(requireNode(proteinId1), requireNode(proteinId2), minScore);
+    }
+
+    public double jaccard(int protein1, int protein2, int minScore) {
+        /**
+         * Size of the intersection over the size of the union of both neighbor sets, counting edges scoring at least
+         * minScore; 0 when both have no neighbors.
+         */
+        BitSet first = neighborSet(protein1, minScore);
+        BitSet second = neighborSet(protein2, minScore);
+        int firstSize = first.cardinality();
+        int secondSize = second.cardinality();
+        first.and(second);
+        int shared = first.cardinality();
+        int union = firstSize + secondSize - shared;
+        return union == 0 ? 0.0 : (double) shared / union;
+    }
+
+    public CompactPpiNetwork inducedSubgraph(Collection<String> proteinIds) {
+        BitSet nodes = new BitSet(network.nodeCount());
+        for (String proteinId : proteinIds) {
+            nodes.set(requireNode(proteinId));
+        }
+        return inducedSubgraph(nodes);
+    }
+
+    public CompactPpiNetwork inducedSubgraph(BitSet nodes) {
+        /** The given proteins with their metadata and every edge between two of them; all other edges are dropped. */
+        ProteinIdDictionary dictionary = new ProteinIdDictionary(nodes.cardinality());
+        CompactPpiNetwork.Builder builder = new CompactPpiNetwork.Builder(dictionary);
+        int[] subgraphIndex = new int[network.nodeCount()];
+        for (int node = nodes.nextSetBit(0); node >= 0; node = nodes.nextSetBit(node + 1)) {
+            subgraphIndex[node] = dictionary.intern(network.getId(node));
+        }
+        for (int node = nodes.nextSetBit(0); node >= 0; node = nodes.nextSetBit(node + 1)) {
+            for (int position = 0, degree = network.degree(node); position < degree; position++) {
+                int neighbor = network.neighbor(node, position);
+                if (nodes.get(neighbor)) {
+                    builder.accept(subgraphIndex[node], subgraphIndex[neighbor], network.score(node, position));
+                }
+            }
+            if (network.hasAccessoryData(node)) {
+                builder.addAccessoryData(new PpiNetworkNode.Builder()
+                        .setId(network.getId(node))
+                        .setPreferredName(network.getPreferredName(node))
+                        .setAnnotation(network.getAnnotation(node))
+                        .setProteinSize(network.getProteinSize(node)));
+            }
+        }
+        return builder.build();
+    }
+
+    public List<Neighborhood> kHopBatch(int[] sources, int k, int minScore) {
+        return batch(sources.length, i -> kHop(sources[i], k, minScore));
+    }
+
+    public List<Optional<WeightedPath>> shortestPathBatch(int[] sources, int[] targets, int minScore) {
+        if (sources.length != targets.length) {
+            throw new IllegalArgumentException("Expected one target per source");
+        }
+        return batch(sources.length, i -> shortestPath(sources[i], targets[i], minScore));
+    }
+
+    public double[] jaccardBatch(int[] proteins1, int[] proteins2, int minScore) {
+        if (proteins1.length != proteins2.length) {
+            throw new IllegalArgumentException("Expected one protein2 per protein1");
+        }
+        List<Double> similarities = batch(proteins1.length, i -> jaccard(proteins1[i], proteins2[i], minScore));
+        return similarities.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    static double weight(int score) {
+        return -Math.log(Math.min(score, MAX_SCORE) / MAX_SCORE);
+    }
+
+    private BitSet neighborSet(int node, int minScore) {
+        BitSet neighbors = new BitSet(network.nodeCount());
+        for (int position = 0, degree = network.degree(node); position < degree; position++) {
+            if (network.score(node, position) >= minScore) {
+                neighbors.set(network.neighbor(node, position));
+            }
+        }
+        return neighbors;
+    }
+
+    private int requireNode(String proteinId) {
+        int node = network.indexOf(proteinId);
+        if (node < 0) {
+            throw new IllegalArgumentException("Protein not in network: " + proteinId);
+        }
+        return node;
+    }
+
+    private <T> List<T> batch(int count, IntFunction<T> query) {
+        /** Runs one query per index on the pool; results are returned in index order. */
+        List<ForkJoinTask<T>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            tasks.add(pool.submit(() -> query.apply(index)));
+        }
+        List<T> results = new ArrayList<>(count);
+        try {
+            for (ForkJoinTask<T> task : tasks) {
+                results.add(task.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running batch queries", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Batch query failed", e.getCause());
+        }
+        return results;
+    }
+
+    /** Binary min-heap of (distance, node) entries for Dijkstra, with lazy deletion of stale entries. */
+    private static class NodeHeap {
+        private double[] distances = new double[64];
+        private int[] nodes = new int[64];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int peekNode() {
+            return nodes[0];
+        }
+
+        double peekDistance() {
+            return distances[0];
+        }
+
+        void push(int node, double distance) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size << 1);
+                distances = Arrays.copyOf(distances, size << 1);
+            }
+            int slot = size++;
+            while (slot > 0) {
+                int parent = (slot - 1) >>> 1;
+                if (distances[parent] <= distance) {
+                    break;
+                }
+                nodes[slot] = nodes[parent];
+                distances[slot] = distances[parent];
+                slot = parent;
+            }
+            nodes[slot] = node;
+            distances[slot] = distance;
+        }
+
+        void pop() {
+            size--;
+            int node = nodes[size];
+            double distance = distances[size];
+            int slot = 0;
+            while (true) {
+                int child = 2 * slot + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && distances[child + 1] < distances[child]) {
+                    child++;
+                }
+                if (distances[child] >= distance) {
+                    break;
+                }
+                nodes[slot] = nodes[child];
+                distances[slot] = distances[child];
+                slot = child;
+            }
+            nodes[slot] = node;
+            distances[slot] = distance;
+        }
+    }
+}
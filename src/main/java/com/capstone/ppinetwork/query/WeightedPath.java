@@ -0,0 +1,34 @@
+/*
+ * WeightedPath
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.query;
+
+import com.google.auto.value.AutoValue;
+
+import java.util.List;
+
+/**
+ * Shortest path between two proteins. Edge weights are -ln(score / 1000), so the path weight is the negative log of
+ * the product of its STRING confidences, and getConfidence() gives that product back.
+ */
+@AutoValue
+public abstract class WeightedPath {
+    static WeightedPath create(List<String> proteinIds, double weight) {
+        return new AutoValue_WeightedPath(proteinIds, weight);
+    }
+
+    public abstract List<String> getProteinIds(); // Source first, target last.
+    public abstract double getWeight();
+
+    public double getConfidence() {
+        return Math.exp(-getWeight());
+    }
+
+    public int getHops() {
+        return getProteinIds().size() - 1;
+    }
+}
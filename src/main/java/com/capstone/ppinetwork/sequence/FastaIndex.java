@@ -0,0 +1,267 @@
+/*
+ * FastaIndex
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.sequence;
+
+import com.google.auto.value.AutoValue;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Byte offsets of every record in a FASTA file, in the samtools .fai layout, so that a sequence can be sliced out of
+ * the file without reading anything before it. Each line of a .fai file is tab-separated:
+ *
+ * <pre>
+ *   name  sequence length  offset of the first residue  residues per line  bytes per line (with the line break)
+ * </pre>
+ *
+ * As with samtools, every sequence line of a record except the last must have the same length; files such as the
+ * STRING DB protein.sequences downloads, wrapped at 80 residues, always do.
+ * Reference: http://www.htslib.org/doc/faidx.html
+ */
+public class FastaIndex {
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private final List<Entry> entries;
+    private final Map<String, Entry> entriesByName;
+
+    private FastaIndex(List<Entry> entries) throws IOException {
+        this.entries = Collections.unmodifiableList(entries);
+        this.entriesByName = new HashMap<>(entries.size() * 2);
+        for (Entry entry : entries) {
+            if (entriesByName.put(entry.getName(), entry) != null) {
+                throw new IOException("Duplicate FASTA record: " + entry.getName());
+            }
+        }
+    }
+
+    /** One record of the index. */
+    @AutoValue
+    public abstract static class Entry {
+        static Entry create(String name, long length, long offset, int lineBases, int lineWidth) {
+            return new AutoValue_FastaIndex_Entry(name, length, offset, lineBases, lineWidth);
+        }
+
+        public abstract String getName();
+        public abstract long getLength();
+        public abstract long getOffset();
+        public abstract int getLineBases();
+        public abstract int getLineWidth();
+
+        public long fileOffset(long position) {
+            /** Offset in the file of the residue at position (0-based) of this sequence. */
+            return getOffset() + position / getLineBases() * getLineWidth() + position % getLineBases();
+        }
+
+        public long byteSpan() {
+            /** Bytes from the first to just past the last residue, line breaks included. */
+            return getLength() == 0 ? 0 : fileOffset(getLength() - 1) + 1 - getOffset();
+        }
+    }
+
+    public static FastaIndex loadOrBuild(Path fasta, Path indexPath) throws IOException {
+        /**
+         * Reads the index at indexPath, or builds it from the FASTA file and writes it there when it is missing or
+         * older than the FASTA file, so the file is scanned once rather than on every open.
+         */
+        if (Files.exists(indexPath)
+                && Files.getLastModifiedTime(indexPath).compareTo(Files.getLastModifiedTime(fasta)) >= 0) {
+            return read(indexPath);
+        }
+        FastaIndex index = build(fasta);
+        index.write(indexPath);
+        return index;
+    }
+
+    public static FastaIndex build(Path fasta) throws IOException {
+        /** Scans the FASTA file once, counting bytes; sequences are never held in memory. */
+        List<Entry> entries = new ArrayList<>();
+        try (InputStream stream = Files.newInputStream(fasta)) {
+            new Scanner(fasta, entries).scan(stream);
+        }
+        return new FastaIndex(entries);
+    }
+
+    public static FastaIndex read(Path indexPath) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(indexPath, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] fields = line.split("\t");
+                if (fields.length < 5) {
+                    throw new IOException("Malformed FASTA index line in " + indexPath + ": " + line);
+                }
+                try {
+                    entries.add(Entry.create(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                            Integer.parseInt(fields[3]), Integer.parseInt(fields[4])));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Malformed FASTA index line in " + indexPath + ": " + line, e);
+                }
+            }
+        }
+        return new FastaIndex(entries);
+    }
+
+    public void write(Path indexPath) throws IOException {
+        /** Writes to a temp file next to the target and moves it into place, so readers never see a partial index. */
+        Path directory = indexPath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, indexPath.getFileName().toString(), ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Entry entry : entries) {
+                writer.write(entry.getName() + '\t' + entry.getLength() + '\t' + entry.getOffset() + '\t'
+                        + entry.getLineBases() + '\t' + entry.getLineWidth() + '\n');
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public Optional<Entry> get(String name) {
+        return Optional.ofNullable(entriesByName.get(name));
+    }
+
+    public List<Entry> getEntries() {
+        /** Every record, in file order. */
+        return entries;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /** Line-by-line state machine over the raw bytes of a FASTA file. */
+    private static class Scanner {
+        private final Path fasta;
+        private final List<Entry> entries;
+        private final StringBuilder header = new StringBuilder();
+
+        private long position;         // Absolute offset of the byte being read.
+        private boolean inHeader;
+        private boolean atLineStart = true;
+        private long lineStart;
+        private int lineBases;         // Residues on the current line.
+
+        // The record being scanned; name is null before the first header.
+        private String name;
+        private long length;
+        private long offset;
+        private int recordLineBases;
+        private int recordLineWidth;
+        private boolean sawShortLine;  // A line shorter than the first; only the last line may be.
+
+        Scanner(Path fasta, List<Entry> entries) {
+            this.fasta = fasta;
+            this.entries = entries;
+        }
+
+        void scan(InputStream stream) throws IOException {
+            byte[] buf = new byte[READ_BUFFER_SIZE];
+            for (int read = stream.read(buf); read != -1; read = stream.read(buf)) {
+                for (int i = 0; i < read; i++, position++) {
+                    accept(buf[i]);
+                }
+            }
+            if (!atLineStart) {
+                endLine(position, position); // Last line without a trailing newline.
+            }
+            finishRecord();
+        }
+
+        private void accept(byte b) throws IOException {
+            if (atLineStart) {
+                atLineStart = false;
+                lineStart = position;
+                lineBases = 0;
+                inHeader = b == '>';
+                if (inHeader) {
+                    finishRecord();
+                    header.setLength(0);
+                    return;
+                }
+                if (name == null && b != '\n' && b != '\r') {
+                    throw new IOException("Not an uncompressed FASTA file (no '>' header first): " + fasta);
+                }
+            }
+            if (b == '\n') {
+                endLine(lineStart + lineBases, position + 1);
+            } else if (inHeader) {
+                header.append((char) (b & 0xFF));
+            } else if (b != '\r') {
+                lineBases++;
+            }
+        }
+
+        private void endLine(long contentEnd, long next) throws IOException {
+            atLineStart = true;
+            if (inHeader) {
+                // The record name is the header (after '>') up to the first whitespace, as with samtools.
+                String line = header.toString();
+                int end = 0;
+                while (end < line.length() && !Character.isWhitespace(line.charAt(end))) {
+                    end++;
+                }
+                name = line.substring(0, end);
+                length = 0;
+                offset = next;
+                recordLineBases = 0;
+                recordLineWidth = 0;
+                sawShortLine = false;
+                return;
+            }
+            if (lineBases == 0) {
+                // Blank lines are skipped before the sequence and only allowed at the end of a record after it.
+                if (length == 0) {
+                    offset = next;
+                } else {
+                    sawShortLine = true;
+                }
+                return;
+            }
+            if (sawShortLine) {
+                throw new IOException("Inconsistent line lengths in FASTA record " + name + " of " + fasta);
+            }
+            if (recordLineBases == 0) {
+                recordLineBases = lineBases;
+                recordLineWidth = (int) (next - lineStart);
+            } else if (lineBases > recordLineBases || (lineBases == recordLineBases
+                    && next - lineStart != recordLineWidth && next != contentEnd)) {
+                throw new IOException("Inconsistent line lengths in FASTA record " + name + " of " + fasta);
+            } else if (lineBases < recordLineBases) {
+                sawShortLine = true;
+            }
+            length += lineBases;
+        }
+
+        private void finishRecord() {
+            if (name != null) {
+                // A single-line record still needs a non-zero line length for offset arithmetic.
+                int bases = recordLineBases == 0 ? 1 : recordLineBases;
+                int width = recordLineWidth == 0 ? 2 : recordLineWidth;
+                entries.add(Entry.create(name, length, offset, bases, width));
+                name = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * KmerIndex
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.sequence;
+
+import com.google.auto.value.AutoValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Inverted index from every k-residue substring (k-mer) to the proteins containing it, for motif and substring
+ * searches across a whole ProteinSequenceIndex. A search intersects the protein lists of the motif's k-mers and then
+ * checks only the surviving candidates against their sequences, instead of scanning every sequence.
+ *
+ * K-mers are packed 5 bits per residue into a long, and the index is three flat arrays: the sorted distinct k-mers,
+ * offsets into the postings, and the postings themselves (ascending protein numbers, i.e. positions in the FASTA
+ * index). Building it sorts one long per k-mer occurrence, (k-mer, protein) packed together, so peak memory is about
+ * 8 bytes per residue of the file; it is optional and built on demand.
+ */
+public class KmerIndex {
+    public static final int DEFAULT_K = 4;
+    public static final char WILDCARD = '.'; // Matches any residue in a motif.
+    private static final int BITS_PER_RESIDUE = 5;
+    private static final int NOT_INDEXED = 0;
+
+    private final ProteinSequenceIndex sequences;
+    private final int k;
+    private final long[] kmers;
+    private final int[] offsets;
+    private final int[] postings;
+
+    private KmerIndex(ProteinSequenceIndex sequences, int k, long[] kmers, int[] offsets, int[] postings) {
+        this.sequences = sequences;
+        this.k = k;
+        this.kmers = kmers;
+        this.offsets = offsets;
+        this.postings = postings;
+    }
+
+    /** A protein containing a motif, with every (0-based, possibly overlapping) position it occurs at. */
+    @AutoValue
+    public abstract static class MotifMatch {
+        static MotifMatch create(String proteinId, List<Integer> positions) {
+            return new AutoValue_KmerIndex_MotifMatch(proteinId, Collections.unmodifiableList(positions));
+        }
+
+        public abstract String getProteinId();
+        public abstract List<Integer> getPositions();
+    }
+
+    public static KmerIndex build(ProteinSequenceIndex sequences, int k) {
+        /**
+         * Indexes every k-mer of every sequence. Letters are case-insensitive; k-mers holding anything else (e.g. a '*'
+         * stop or a gap) are not indexed. Larger k makes lists shorter but only helps motifs of at least k residues.
+         */
+        List<FastaIndex.Entry> entries = sequences.getIndex().getEntries();
+        int proteinBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, entries.size() - 1)));
+        if (k < 1 || k * BITS_PER_RESIDUE + proteinBits > Long.SIZE - 1) {
+            throw new IllegalArgumentException("k must be between 1 and " + (Long.SIZE - 1 - proteinBits)
+                    / BITS_PER_RESIDUE + " for " + entries.size() + " proteins: " + k);
+        }
+
+        long occurrences = 0;
+        long longest = 0;
+        for (FastaIndex.Entry entry : entries) {
+            occurrences += Math.max(0, entry.getLength() - k + 1);
+            longest = Math.max(longest, entry.getLength());
+        }
+        if (occurrences > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many k-mers to index in one array: " + occurrences);
+        }
+
+        // Every occurrence as (k-mer << proteinBits | protein); sorting groups them by k-mer, proteins ascending.
+        long[] packed = new long[(int) occurrences];
+        int size = 0;
+        byte[] residues = new byte[(int) longest];
+        long kmerMask = (1L << (k * BITS_PER_RESIDUE)) - 1;
+        for (int protein = 0; protein < entries.size(); protein++) {
+            FastaIndex.Entry entry = entries.get(protein);
+            sequences.read(entry, 0, entry.getLength(), residues);
+            long kmer = 0;
+            int valid = 0; // Indexable residues ending at the current position.
+            for (int position = 0; position < entry.getLength(); position++) {
+                int code = code(residues[position]);
+                kmer = ((kmer << BITS_PER_RESIDUE) | code) & kmerMask;
+                valid = code == NOT_INDEXED ? 0 : valid + 1;
+                if (valid >= k) {
+                    packed[size++] = kmer << proteinBits | protein;
+                }
+            }
+        }
+        Arrays.parallelSort(packed, 0, size);
+
+        // Drop repeats of a k-mer within one protein, then split the pairs into the three index arrays.
+        int[] postings = new int[size];
+        long[] kmers = new long[16];
+        int[] offsets = new int[17];
+        int postingCount = 0;
+        int kmerCount = 0;
+        long proteinMask = (1L << proteinBits) - 1;
+        for (int i = 0; i < size; i++) {
+            if (i > 0 && packed[i] == packed[i - 1]) {
+                continue;
+            }
+            long kmer = packed[i] >>> proteinBits;
+            if (kmerCount == 0 || kmers[kmerCount - 1] != kmer) {
+                if (kmerCount == kmers.length) {
+                    kmers = Arrays.copyOf(kmers, kmerCount << 1);
+                    offsets = Arrays.copyOf(offsets, (kmerCount << 1) + 1);
+                }
+                kmers[kmerCount] = kmer;
+                offsets[kmerCount++] = postingCount;
+            }
+            postings[postingCount++] = (int) (packed[i] & proteinMask);
+        }
+        offsets[kmerCount] = postingCount;
+        return new KmerIndex(sequences, k, Arrays.copyOf(kmers, kmerCount), Arrays.copyOf(offsets, kmerCount + 1),
+                Arrays.copyOf(postings, postingCount));
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public int getDistinctKmerCount() {
+        return kmers.length;
+    }
+
+    public int getPostingCount() {
+        return postings.length;
+    }
+
+    public int[] candidates(String motif) {
+        /**
+         * Proteins (positions in the FASTA index, ascending) holding every indexable k-mer of the motif, a superset of
+         * the proteins containing the motif itself. Null when the motif has no indexable k-mer (it is shorter than k,
+         * or wildcards break it up) and every protein is a candidate.
+         */
+        int[] candidates = null;
+        long kmerMask = (1L << (k * BITS_PER_RESIDUE)) - 1;
+        long kmer = 0;
+        int valid = 0;
+        for (int position = 0; position < motif.length(); position++) {
+            char residue = motif.charAt(position);
+            int code = residue < 128 ? code((byte) residue) : NOT_INDEXED;
+            kmer = ((kmer << BITS_PER_RESIDUE) | code) & kmerMask;
+            valid = code == NOT_INDEXED ? 0 : valid + 1;
+            if (valid < k) {
+                continue;
+            }
+            int slot = Arrays.binarySearch(kmers, kmer);
+            if (slot < 0) {
+                return new int[0];
+            }
+            int[] proteins = Arrays.copyOfRange(postings, offsets[slot], offsets[slot + 1]);
+            candidates = candidates == null ? proteins : intersect(candidates, proteins);
+            if (candidates.length == 0) {
+                return candidates;
+            }
+        }
+        return candidates;
+    }
+
+    public List<MotifMatch> find(String motif) {
+        /**
+         * Every protein containing the motif, in FASTA order. A motif is a run of residues in which '.' matches any
+         * one residue (e.g. "N.ST"); matching is case-insensitive.
+         */
+        if (motif.isEmpty()) {
+            throw new IllegalArgumentException("Empty motif");
+        }
+        List<FastaIndex.Entry> entries = sequences.getIndex().getEntries();
+        int[] candidates = candidates(motif);
+        int candidateCount = candidates == null ? entries.size() : candidates.length;
+
+        byte[] pattern = motif.toUpperCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+        List<MotifMatch> matches = new ArrayList<>();
+        byte[] residues = new byte[0];
+        for (int i = 0; i < candidateCount; i++) {
+            FastaIndex.Entry entry = entries.get(candidates == null ? i : candidates[i]);
+            if (entry.getLength() < pattern.length) {
+                continue;
+            }
+            if (residues.length < entry.getLength()) {
+                residues = new byte[(int) entry.getLength()];
+            }
+            sequences.read(entry, 0, entry.getLength(), residues);
+            List<Integer> positions = new ArrayList<>();
+            for (int start = 0; start + pattern.length <= entry.getLength(); start++) {
+                if (matchesAt(residues, start, pattern)) {
+                    positions.add(start);
+                }
+            }
+            if (!positions.isEmpty()) {
+                matches.add(MotifMatch.create(entry.getName(), positions));
+            }
+        }
+        return matches;
+    }
+
+    private static boolean matchesAt(byte[] residues, int start, byte[] pattern) {
+        for (int i = 0; i < pattern.length; i++) {
+            int residue = residues[start + i];
+            if (residue >= 'a' && residue <= 'z') {
+                residue -= 'a' - 'A';
+            }
+            if (pattern[i] != WILDCARD && pattern[i] != residue) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int code(byte residue) {
+        /** 1 to 26 for the letters A to Z in either case, NOT_INDEXED for anything else. */
+        if (residue >= 'A' && residue <= 'Z') {
+            return residue - 'A' + 1;
+        }
+        if (residue >= 'a' && residue <= 'z') {
+            return residue - 'a' + 1;
+        }
+        return NOT_INDEXED;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] common = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        for (int i = 0, j = 0; i < left.length && j < right.length; ) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                common[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(common, size);
+    }
+}
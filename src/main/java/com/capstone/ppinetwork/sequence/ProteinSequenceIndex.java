@@ -0,0 +1,127 @@
+/*
+ * ProteinSequenceIndex
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.sequence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Serves protein sequences straight out of a memory-mapped FASTA file (e.g. the STRING DB protein.sequences download
+ * in protein_sequence.fa), using a FastaIndex to find each record. Only the index lives on the heap; residues are
+ * paged in by the OS as sequences are requested, so nodes can be enriched with their sequence lazily, one lookup at
+ * a time, whatever the size of the file. An index is immutable once opened and safe to share between threads.
+ */
+public class ProteinSequenceIndex {
+    // Files are mapped as overlapping segments, so every record lies whole inside the segment its offset falls in.
+    private static final long SEGMENT_STRIDE = 1L << 30;
+
+    private final Path fasta;
+    private final FastaIndex index;
+    private final MappedByteBuffer[] segments;
+
+    private ProteinSequenceIndex(Path fasta, FastaIndex index, MappedByteBuffer[] segments) {
+        this.fasta = fasta;
+        this.index = index;
+        this.segments = segments;
+    }
+
+    public static ProteinSequenceIndex open(Path fasta) throws IOException {
+        /** Opens a FASTA file, using (and creating when needed) the "<fasta>.fai" index next to it. */
+        return open(fasta, Paths.get(fasta + ".fai"));
+    }
+
+    public static ProteinSequenceIndex open(Path fasta, Path indexPath) throws IOException {
+        /** For read-only FASTA locations (e.g. a Lambda deployment package), indexPath can point into /tmp. */
+        FastaIndex index = FastaIndex.loadOrBuild(fasta, indexPath);
+        long longestRecord = 0;
+        for (FastaIndex.Entry entry : index.getEntries()) {
+            longestRecord = Math.max(longestRecord, entry.byteSpan());
+        }
+        if (SEGMENT_STRIDE + longestRecord > Integer.MAX_VALUE) {
+            throw new IOException("FASTA record too long to map: " + longestRecord + " bytes in " + fasta);
+        }
+
+        try (FileChannel channel = FileChannel.open(fasta, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer[] segments = new MappedByteBuffer[(int) Math.max(1, (size + SEGMENT_STRIDE - 1)
+                    / SEGMENT_STRIDE)];
+            for (int segment = 0; segment < segments.length; segment++) {
+                long start = segment * SEGMENT_STRIDE;
+                long end = Math.min(size, start + SEGMENT_STRIDE + longestRecord);
+                segments[segment] = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            }
+            return new ProteinSequenceIndex(fasta, index, segments);
+        }
+    }
+
+    public FastaIndex getIndex() {
+        return index;
+    }
+
+    public Path getPath() {
+        return fasta;
+    }
+
+    public boolean contains(String proteinId) {
+        return index.get(proteinId).isPresent();
+    }
+
+    public Optional<Integer> getLength(String proteinId) {
+        return index.get(proteinId).map(entry -> (int) entry.getLength());
+    }
+
+    public Optional<String> getSequence(String proteinId) {
+        return index.get(proteinId).map(entry -> new String(read(entry, 0, entry.getLength()),
+                StandardCharsets.US_ASCII));
+    }
+
+    public Optional<String> getSubsequence(String proteinId, long start, long end) {
+        /** Residues [start, end) of a sequence (0-based); only the lines holding them are touched. */
+        Optional<FastaIndex.Entry> entry = index.get(proteinId);
+        if (!entry.isPresent()) {
+            return Optional.empty();
+        }
+        if (start < 0 || end > entry.get().getLength() || start > end) {
+            throw new IndexOutOfBoundsException("[" + start + ", " + end + ") outside " + proteinId + " of length "
+                    + entry.get().getLength());
+        }
+        return Optional.of(new String(read(entry.get(), start, end), StandardCharsets.US_ASCII));
+    }
+
+    byte[] read(FastaIndex.Entry entry, long start, long end) {
+        /** Residues [start, end) of a record, copied line by line out of the mapping with the line breaks dropped. */
+        byte[] residues = new byte[(int) (end - start)];
+        read(entry, start, end, residues);
+        return residues;
+    }
+
+    void read(FastaIndex.Entry entry, long start, long end, byte[] residues) {
+        if (start == end) {
+            return; // An empty record at the very end of the file has no segment of its own.
+        }
+        int segment = (int) (entry.getOffset() / SEGMENT_STRIDE);
+        ByteBuffer buffer = segments[segment].duplicate(); // Positions are per reader, the mapping is shared.
+        long base = segment * SEGMENT_STRIDE;
+        int lineBases = entry.getLineBases();
+        int copied = 0;
+        for (long position = start; position < end; ) {
+            int count = (int) Math.min(end - position, lineBases - position % lineBases);
+            buffer.position((int) (entry.fileOffset(position) - base));
+            buffer.get(residues, copied, count);
+            copied += count;
+            position += count;
+        }
+    }
+}
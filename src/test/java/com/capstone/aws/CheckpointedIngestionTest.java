@@ -0,0 +1,151 @@
+/*
+ * CheckpointedIngestionTest
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.PpiNetworkNode.Neighbor;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Checkpointed ingestion against InMemoryDynamoDb: a run that runs out of time must stop at a checkpoint that the next
+ * run resumes from, and preparing over a different network must start every range over.
+ */
+public class CheckpointedIngestionTest {
+    private static final String DATASET_ID = "test";
+    private static final int NODE_COUNT = 250;
+    private static final int CHUNK_NODES = 50;
+
+    @Test
+    public void runStopsBeforeTheTimeoutAndTheNextRunResumes() {
+        InMemoryDynamoDb ddb = new InMemoryDynamoDb();
+        ddb.unprocessedWrites.set(3);
+        DynamodbHelper helper = new DynamodbHelper(InMemoryDynamoDb.DISCARDING_LOGGER, ddb);
+        List<PpiNetworkNode> nodes = network(NODE_COUNT);
+        List<KeyRange> ranges = Collections.singletonList(KeyRange.create(0, NODE_COUNT));
+        AtomicInteger chunksLeft = new AtomicInteger(2);
+
+        ingestion(helper, chunksLeft).prepare(nodes, DATASET_ID, ranges);
+        IngestionCheckpoint stopped = ingestion(helper, chunksLeft).run(nodes, DATASET_ID, ranges.get(0));
+
+        assertEquals(2 * CHUNK_NODES, stopped.getNextNode());
+        assertFalse(stopped.isComplete());
+        assertEquals(1, helper.getMetrics().getCounter("ingestion.timeoutStops"), 0);
+        assertEquals(2 * CHUNK_NODES, helper.countPpiNetworkNodes(DATASET_ID));
+
+        // Preparing again over the same network keeps the checkpoint instead of starting over.
+        chunksLeft.set(Integer.MAX_VALUE);
+        List<IngestionCheckpoint> prepared = ingestion(helper, chunksLeft).prepare(nodes, DATASET_ID, ranges);
+        assertEquals(2 * CHUNK_NODES, prepared.get(0).getNextNode());
+        IngestionCheckpoint done = ingestion(helper, chunksLeft).run(nodes, DATASET_ID, ranges.get(0));
+
+        assertTrue(done.isComplete());
+        assertEquals(0, done.getRemainingNodes());
+        assertEquals(0, ddb.unprocessedWrites.get());
+        assertStored(helper, nodes);
+        // An invocation that fell behind cannot move the checkpoint back.
+        assertFalse(helper.putCheckpoint(stopped));
+        assertTrue(helper.getCheckpoint(DATASET_ID, ranges.get(0)).get().isComplete());
+    }
+
+    @Test
+    public void rangesAreWrittenIndependently() {
+        DynamodbHelper helper = new DynamodbHelper(InMemoryDynamoDb.DISCARDING_LOGGER, new InMemoryDynamoDb());
+        List<PpiNetworkNode> nodes = network(NODE_COUNT);
+        List<KeyRange> ranges = KeyRange.split(NODE_COUNT, 3);
+        AtomicInteger chunksLeft = new AtomicInteger(Integer.MAX_VALUE);
+
+        List<IngestionCheckpoint> prepared = ingestion(helper, chunksLeft).prepare(nodes, DATASET_ID, ranges);
+        assertEquals(ranges.size(), prepared.size());
+        for (int i = ranges.size() - 1; i >= 0; i--) {
+            assertEquals(ranges.get(i).getStart(), prepared.get(i).getNextNode());
+            assertTrue(ingestion(helper, chunksLeft).run(nodes, DATASET_ID, ranges.get(i)).isComplete());
+        }
+
+        assertEquals(ranges.size(), helper.getCheckpoints(DATASET_ID).size());
+        assertStored(helper, nodes);
+    }
+
+    @Test
+    public void aChangedNetworkStartsOver() {
+        DynamodbHelper helper = new DynamodbHelper(InMemoryDynamoDb.DISCARDING_LOGGER, new InMemoryDynamoDb());
+        List<PpiNetworkNode> oldNodes = network(NODE_COUNT);
+        List<KeyRange> ranges = Collections.singletonList(KeyRange.create(0, NODE_COUNT));
+        AtomicInteger chunksLeft = new AtomicInteger(3);
+        ingestion(helper, chunksLeft).prepare(oldNodes, DATASET_ID, ranges);
+        ingestion(helper, chunksLeft).run(oldNodes, DATASET_ID, ranges.get(0));
+
+        // Same node count and ids, but one more neighbor: a new release behind the same URL.
+        List<PpiNetworkNode> newNodes = network(NODE_COUNT);
+        List<Neighbor> neighbors = new ArrayList<>(newNodes.get(0).getNeighbors());
+        neighbors.add(Neighbor.create(proteinId(NODE_COUNT / 2), 700));
+        newNodes.set(0, newNodes.get(0).toBuilder().setNeighbors(neighbors).build());
+        chunksLeft.set(Integer.MAX_VALUE);
+        List<IngestionCheckpoint> prepared = ingestion(helper, chunksLeft).prepare(newNodes, DATASET_ID, ranges);
+
+        assertEquals(0, prepared.get(0).getNextNode());
+        assertEquals(0, helper.countPpiNetworkNodes(DATASET_ID));
+        try {
+            ingestion(helper, chunksLeft).run(oldNodes, DATASET_ID, ranges.get(0));
+            fail("Expected the old network to be refused");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("different network"));
+        }
+        assertTrue(ingestion(helper, chunksLeft).run(newNodes, DATASET_ID, ranges.get(0)).isComplete());
+        assertStored(helper, newNodes);
+    }
+
+    private static CheckpointedIngestion ingestion(DynamodbHelper helper, AtomicInteger chunksLeft) {
+        /** Runs out of time once chunksLeft chunks have been started. */
+        return new CheckpointedIngestion.Builder(helper, InMemoryDynamoDb.DISCARDING_LOGGER)
+                .setRemainingMillis(() -> chunksLeft.getAndDecrement() > 0 ? Long.MAX_VALUE / 4 : 0)
+                .setChunkNodes(CHUNK_NODES)
+                .setSafetyMarginMillis(1000)
+                .build();
+    }
+
+    private static void assertStored(DynamodbHelper helper, List<PpiNetworkNode> nodes) {
+        Map<String, PpiNetworkNode> stored = helper.queryPpiNetwork(DATASET_ID);
+        assertEquals(nodes.size(), stored.size());
+        for (PpiNetworkNode node : nodes) {
+            assertEquals(node.getId(), node.getNeighbors(), stored.get(node.getId()).getNeighbors());
+        }
+    }
+
+    private static List<PpiNetworkNode> network(int nodeCount) {
+        /** A chain of nodes, each linked to the next two; neighbors are listed in id order, as they are stored. */
+        List<PpiNetworkNode> nodes = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            List<Neighbor> neighbors = new ArrayList<>();
+            for (int next = i + 1; next <= i + 2 && next < nodeCount; next++) {
+                neighbors.add(Neighbor.create(proteinId(next), 150 + (i + next) % 850));
+            }
+            nodes.add(new PpiNetworkNode.Builder()
+                    .setId(proteinId(i))
+                    .setPreferredName("P" + i)
+                    .setNeighbors(neighbors)
+                    .build());
+        }
+        return nodes;
+    }
+
+    private static String proteinId(int i) {
+        return String.format("9606.ENSP%08d", i);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * DynamodbHelperTest
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.capstone.aws.DynamodbBatchWriter.WriteSummary;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.PpiNetworkNode.Neighbor;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * putItems against InMemoryDynamoDb: a dataset with one hub too large for a single item must be stored in full, even
+ * when BatchWriteItem leaves items unprocessed, and counted as exactly its nodes.
+ */
+public class DynamodbHelperTest {
+    private static final String DATASET_ID = "test";
+    private static final int NODE_COUNT = 250;
+    private static final int HUB_DEGREE = 150_000; // About three bytes per neighbor, well over one item.
+
+    @Test
+    public void putItemsStoresEveryNodeAndRetriesUnprocessedItems() {
+        InMemoryDynamoDb ddb = new InMemoryDynamoDb();
+        ddb.unprocessedWrites.set(5);
+        DynamodbHelper helper = new DynamodbHelper(InMemoryDynamoDb.DISCARDING_LOGGER, ddb);
+        List<PpiNetworkNode> nodes = network();
+
+        WriteSummary summary = helper.putItems(nodes, DATASET_ID);
+
+        assertEquals(0, summary.getItemsFailed());
+        assertEquals(summary.getItemsRequested(), summary.getItemsWritten());
+        assertTrue("unprocessed items were not retried", summary.getRetries() > 0);
+        assertEquals(0, ddb.unprocessedWrites.get());
+        assertNotNull("hub was not sharded", ddb.item(DATASET_ID, PpiNodeItemCodec.shardId(hubId(), 1)));
+        assertTrue(ddb.itemCount() > NODE_COUNT + 1);
+        assertEquals(NODE_COUNT, helper.countPpiNetworkNodes(DATASET_ID));
+
+        Map<String, PpiNetworkNode> stored = helper.queryPpiNetwork(DATASET_ID, 4);
+        assertEquals(NODE_COUNT, stored.size());
+        for (PpiNetworkNode node : nodes) {
+            assertEquals(node.getId(), node.getNeighbors(), stored.get(node.getId()).getNeighbors());
+        }
+    }
+
+    private static List<PpiNetworkNode> network() {
+        /** A hub linked to HUB_DEGREE proteins, most of them not nodes themselves, and a ring of small nodes. */
+        List<PpiNetworkNode> nodes = new ArrayList<>();
+        List<Neighbor> hubNeighbors = new ArrayList<>();
+        for (int i = 0; i < HUB_DEGREE; i++) {
+            hubNeighbors.add(Neighbor.create(proteinId(i + 1), 150 + i % 850));
+        }
+        nodes.add(new PpiNetworkNode.Builder().setId(hubId()).setNeighbors(hubNeighbors).build());
+        for (int i = 1; i < NODE_COUNT; i++) {
+            List<Neighbor> neighbors = new ArrayList<>();
+            neighbors.add(Neighbor.create(hubId(), 150 + i % 850));
+            neighbors.add(Neighbor.create(proteinId(i % (NODE_COUNT - 1) + 1), 400));
+            nodes.add(new PpiNetworkNode.Builder()
+                    .setId(proteinId(i))
+                    .setPreferredName("P" + i)
+                    .setNeighbors(neighbors)
+                    .build());
+        }
+        return nodes;
+    }
+
+    private static String hubId() {
+        return proteinId(0);
+    }
+
+    private static String proteinId(int i) {
+        return String.format("9606.ENSP%011d", i);
+    }
+}
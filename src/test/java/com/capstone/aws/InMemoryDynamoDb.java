@@ -0,0 +1,251 @@
+/*
+ * InMemoryDynamoDb
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.model.AmazonDynamoDBException;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.ConditionalCheckFailedException;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableRequest;
+import com.amazonaws.services.dynamodbv2.model.DescribeTableResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.PutItemResult;
+import com.amazonaws.services.dynamodbv2.model.QueryRequest;
+import com.amazonaws.services.dynamodbv2.model.QueryResult;
+import com.amazonaws.services.dynamodbv2.model.TableDescription;
+import com.amazonaws.services.dynamodbv2.model.TableStatus;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The single PPI network table in memory, for tests. It understands exactly the requests DynamodbHelper,
+ * NodeBatchReader and CheckpointedIngestion send: the dataset key condition with an optional begins_with or id range,
+ * the filter of countPpiNetworkNodes, projections of top-level attributes and the checkpoint condition of
+ * putCheckpoint. Queries return pages of PAGE_SIZE items, and the first unprocessedWrites BatchWriteItem calls
+ * (unprocessedReads BatchGetItem calls) leave their last request unprocessed, so paging and retries are exercised.
+ * The 400 KB item limit is enforced.
+ */
+class InMemoryDynamoDb extends AbstractAmazonDynamoDB {
+    static final int PAGE_SIZE = 100;
+    static final LambdaLogger DISCARDING_LOGGER = new LambdaLogger() {
+        @Override
+        public void log(String message) {
+        }
+
+        @Override
+        public void log(byte[] message) {
+        }
+    };
+    private static final int MAX_ITEM_BYTES = 400 * 1024;
+
+    private final ConcurrentSkipListMap<String, Map<String, AttributeValue>> items = new ConcurrentSkipListMap<>();
+    final AtomicInteger unprocessedWrites = new AtomicInteger();
+    final AtomicInteger unprocessedReads = new AtomicInteger();
+    final AtomicInteger batchWriteCalls = new AtomicInteger();
+    final AtomicInteger batchGetCalls = new AtomicInteger();
+
+    int itemCount() {
+        return items.size();
+    }
+
+    Map<String, AttributeValue> item(String datasetId, String id) {
+        return items.get(key(datasetId, id));
+    }
+
+    @Override
+    public DescribeTableResult describeTable(DescribeTableRequest request) {
+        return new DescribeTableResult().withTable(new TableDescription()
+                .withTableName(request.getTableName())
+                .withTableStatus(TableStatus.ACTIVE));
+    }
+
+    @Override
+    public BatchWriteItemResult batchWriteItem(BatchWriteItemRequest request) {
+        batchWriteCalls.incrementAndGet();
+        Map<String, List<WriteRequest>> unprocessed = new HashMap<>();
+        for (Map.Entry<String, List<WriteRequest>> table : request.getRequestItems().entrySet()) {
+            List<WriteRequest> writes = table.getValue();
+            if (writes.size() > 25) {
+                throw new AmazonDynamoDBException("Too many items requested for the BatchWriteItem call");
+            }
+            int processed = writes.size();
+            if (unprocessedWrites.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                processed--;
+                unprocessed.put(table.getKey(), new ArrayList<>(writes.subList(processed, writes.size())));
+            }
+            for (WriteRequest write : writes.subList(0, processed)) {
+                if (write.getPutRequest() != null) {
+                    put(write.getPutRequest().getItem());
+                } else {
+                    items.remove(key(write.getDeleteRequest().getKey()));
+                }
+            }
+        }
+        return new BatchWriteItemResult().withUnprocessedItems(unprocessed);
+    }
+
+    @Override
+    public PutItemResult putItem(PutItemRequest request) {
+        Map<String, AttributeValue> stored = items.get(key(request.getItem()));
+        if (request.getConditionExpression() != null && stored != null
+                && !checkpointConditionHolds(stored, request.getExpressionAttributeValues())) {
+            throw new ConditionalCheckFailedException("The conditional request failed");
+        }
+        put(request.getItem());
+        return new PutItemResult();
+    }
+
+    private static boolean checkpointConditionHolds(Map<String, AttributeValue> stored,
+                                                    Map<String, AttributeValue> values) {
+        /** attribute_not_exists(#nextNode) OR #nextNode <= :nextNode OR #fingerprint <> :fingerprint */
+        AttributeValue nextNode = stored.get(IngestionCheckpoint.NEXT_NODE_ATTRIBUTE);
+        return nextNode == null
+                || Long.parseLong(nextNode.getN()) <= Long.parseLong(values.get(":nextNode").getN())
+                || !stored.get(IngestionCheckpoint.NETWORK_FINGERPRINT_ATTRIBUTE).getS()
+                        .equals(values.get(":fingerprint").getS());
+    }
+
+    @Override
+    public GetItemResult getItem(GetItemRequest request) {
+        Map<String, AttributeValue> item = items.get(key(request.getKey()));
+        return new GetItemResult().withItem(item == null ? null
+                : project(item, request.getProjectionExpression(), request.getExpressionAttributeNames()));
+    }
+
+    @Override
+    public BatchGetItemResult batchGetItem(BatchGetItemRequest request) {
+        batchGetCalls.incrementAndGet();
+        Map<String, List<Map<String, AttributeValue>>> responses = new HashMap<>();
+        Map<String, KeysAndAttributes> unprocessed = new HashMap<>();
+        for (Map.Entry<String, KeysAndAttributes> table : request.getRequestItems().entrySet()) {
+            KeysAndAttributes keys = table.getValue();
+            if (keys.getKeys().size() > 100) {
+                throw new AmazonDynamoDBException("Too many items requested for the BatchGetItem call");
+            }
+            int processed = keys.getKeys().size();
+            if (unprocessedReads.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                processed--;
+                unprocessed.put(table.getKey(), keys.clone()
+                        .withKeys(new ArrayList<>(keys.getKeys().subList(processed, keys.getKeys().size()))));
+            }
+            List<Map<String, AttributeValue>> found = new ArrayList<>();
+            for (Map<String, AttributeValue> key : keys.getKeys().subList(0, processed)) {
+                Map<String, AttributeValue> item = items.get(key(key));
+                if (item != null) {
+                    found.add(project(item, keys.getProjectionExpression(), keys.getExpressionAttributeNames()));
+                }
+            }
+            responses.put(table.getKey(), found);
+        }
+        return new BatchGetItemResult().withResponses(responses).withUnprocessedKeys(unprocessed);
+    }
+
+    @Override
+    public QueryResult query(QueryRequest request) {
+        Map<String, AttributeValue> values = request.getExpressionAttributeValues();
+        String keyCondition = request.getKeyConditionExpression();
+        String datasetId = values.get(":dataset").getS();
+        String start = request.getExclusiveStartKey() == null ? key(datasetId, "")
+                : key(request.getExclusiveStartKey());
+        int limit = request.getLimit() == null ? PAGE_SIZE : Math.min(request.getLimit(), PAGE_SIZE);
+
+        List<Map<String, AttributeValue>> page = new ArrayList<>();
+        Map<String, AttributeValue> lastEvaluatedKey = null;
+        int count = 0;
+        for (Map<String, AttributeValue> item : items.tailMap(start, request.getExclusiveStartKey() == null)
+                .values()) {
+            if (!item.get(PpiNodeItemCodec.DATASET_ID_ATTRIBUTE).getS().equals(datasetId)) {
+                break;
+            }
+            String id = item.get(PpiNodeItemCodec.ID_ATTRIBUTE).getS();
+            if (!keyConditionHolds(keyCondition, values, id)) {
+                continue;
+            }
+            if (request.getFilterExpression() == null
+                    || id.indexOf(values.get(":separator").getS()) < 0) {
+                page.add(project(item, request.getProjectionExpression(), request.getExpressionAttributeNames()));
+            }
+            // The limit applies to items read, before the filter, as in DynamoDB.
+            if (++count == limit) {
+                lastEvaluatedKey = new HashMap<>();
+                lastEvaluatedKey.put(PpiNodeItemCodec.DATASET_ID_ATTRIBUTE, new AttributeValue(datasetId));
+                lastEvaluatedKey.put(PpiNodeItemCodec.ID_ATTRIBUTE, new AttributeValue(id));
+                break;
+            }
+        }
+        QueryResult result = new QueryResult().withCount(page.size()).withLastEvaluatedKey(lastEvaluatedKey);
+        return "COUNT".equals(request.getSelect()) ? result : result.withItems(page);
+    }
+
+    private static boolean keyConditionHolds(String keyCondition, Map<String, AttributeValue> values, String id) {
+        if (keyCondition.contains("begins_with")) {
+            return id.startsWith(values.get(":prefix").getS());
+        }
+        boolean fromHolds = !values.containsKey(":from") || id.compareTo(values.get(":from").getS()) >= 0;
+        if (keyCondition.contains("BETWEEN")) {
+            return fromHolds && id.compareTo(values.get(":to").getS()) <= 0;
+        }
+        return fromHolds && (!values.containsKey(":to") || id.compareTo(values.get(":to").getS()) < 0);
+    }
+
+    private void put(Map<String, AttributeValue> item) {
+        int bytes = 0;
+        for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+            AttributeValue value = attribute.getValue();
+            bytes += attribute.getKey().length() + (value.getB() != null ? value.getB().remaining()
+                    : value.getS() != null ? value.getS().getBytes(StandardCharsets.UTF_8).length
+                    : value.getN().length());
+        }
+        if (bytes > MAX_ITEM_BYTES) {
+            throw new AmazonDynamoDBException("Item size has exceeded the maximum allowed size : " + bytes);
+        }
+        items.put(key(item), new HashMap<>(item));
+    }
+
+    private static Map<String, AttributeValue> project(Map<String, AttributeValue> item, String projection,
+                                                       Map<String, String> names) {
+        if (projection == null) {
+            return new HashMap<>(item);
+        }
+        Map<String, AttributeValue> projected = new HashMap<>();
+        for (String attribute : projection.split(",")) {
+            String name = attribute.trim();
+            if (names != null && names.containsKey(name)) {
+                name = names.get(name);
+            }
+            if (item.containsKey(name)) {
+                projected.put(name, item.get(name));
+            }
+        }
+        return projected;
+    }
+
+    private static String key(Map<String, AttributeValue> item) {
+        return key(item.get(PpiNodeItemCodec.DATASET_ID_ATTRIBUTE).getS(),
+                item.get(PpiNodeItemCodec.ID_ATTRIBUTE).getS());
+    }
+
+    private static String key(String datasetId, String id) {
+        return datasetId + '\u0000' + id;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * NodeBatchReaderTest
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.capstone.metrics.Metrics;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.PpiNetworkNode.Neighbor;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * getItems against InMemoryDynamoDb: unprocessed keys must be retried until every item is read, overlapping reads
+ * must share one fetch per key, and a call the client rejects must fail its callers instead of leaving them waiting.
+ */
+public class NodeBatchReaderTest {
+    private static final String DATASET_ID = "test";
+    private static final String TABLE_NAME = "PPI_NETWORK_TABLE";
+    private static final int NODE_COUNT = 250;
+
+    @Test
+    public void unprocessedKeysAreRetriedAndMissingItemsLeftOut() {
+        InMemoryDynamoDb ddb = stored(new InMemoryDynamoDb());
+        ddb.unprocessedReads.set(4);
+        Metrics metrics = new Metrics();
+        List<String> ids = new ArrayList<>();
+        for (int i = NODE_COUNT - 1; i >= 0; i--) {
+            ids.add(proteinId(i));
+            ids.add(proteinId(i)); // Duplicates are read once.
+        }
+        ids.add(1, "9606.MISSING");
+
+        try (AsyncDynamodbClient client = new AsyncDynamodbClient(ddb, 4, metrics)) {
+            NodeBatchReader reader = new NodeBatchReader(client, TABLE_NAME, 8, metrics);
+            Map<String, Map<String, AttributeValue>> items =
+                    reader.getItems(DATASET_ID, ids, EnumSet.of(NodeAttribute.PREFERRED_NAME)).join();
+
+            assertEquals(NODE_COUNT, items.size());
+            assertEquals(proteinId(NODE_COUNT - 1), items.keySet().iterator().next());
+            assertEquals("P7", items.get(proteinId(7)).get(PpiNodeItemCodec.PREFERRED_NAME_ATTRIBUTE).getS());
+            assertFalse(items.get(proteinId(7)).containsKey(PpiNodeItemCodec.NEIGHBORS_ATTRIBUTE));
+        }
+        assertEquals(0, ddb.unprocessedReads.get());
+        assertEquals(NODE_COUNT + 1, metrics.getCounter("dynamodb.batchGet.keys"), 0);
+        assertEquals(4, metrics.getCounter("dynamodb.unprocessedKeys"), 0);
+        assertTrue(metrics.getCounter("dynamodb.retries") > 0);
+    }
+
+    @Test
+    public void overlappingReadsShareOneFetchPerKey() throws InterruptedException {
+        CountDownLatch firstCall = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InMemoryDynamoDb ddb = stored(new InMemoryDynamoDb() {
+            @Override
+            public BatchGetItemResult batchGetItem(BatchGetItemRequest request) {
+                firstCall.countDown();
+                try {
+                    release.await(); // Holds the first fetch open until the second caller has asked.
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.batchGetItem(request);
+            }
+        });
+        Metrics metrics = new Metrics();
+        EnumSet<NodeAttribute> attributes = EnumSet.of(NodeAttribute.PREFERRED_NAME);
+
+        try (AsyncDynamodbClient client = new AsyncDynamodbClient(ddb, 4, metrics)) {
+            NodeBatchReader reader = new NodeBatchReader(client, TABLE_NAME, 8, metrics);
+            CompletableFuture<Map<String, Map<String, AttributeValue>>> first =
+                    reader.getItems(DATASET_ID, Arrays.asList(proteinId(1), proteinId(2), proteinId(3)), attributes);
+            assertTrue(firstCall.await(10, TimeUnit.SECONDS));
+            CompletableFuture<Map<String, Map<String, AttributeValue>>> second =
+                    reader.getItems(DATASET_ID, Arrays.asList(proteinId(2), proteinId(3), proteinId(4)), attributes);
+            release.countDown();
+
+            assertEquals(Arrays.asList(proteinId(1), proteinId(2), proteinId(3)),
+                    new ArrayList<>(first.join().keySet()));
+            assertEquals(Arrays.asList(proteinId(2), proteinId(3), proteinId(4)),
+                    new ArrayList<>(second.join().keySet()));
+        }
+        assertEquals(2, ddb.batchGetCalls.get());
+        assertEquals(4, metrics.getCounter("dynamodb.batchGet.keys"), 0);
+        assertEquals(2, metrics.getCounter("dynamodb.batchGet.coalescedKeys"), 0);
+    }
+
+    @Test
+    public void rejectedCallsFailTheirCallers() {
+        InMemoryDynamoDb ddb = stored(new InMemoryDynamoDb());
+        Metrics metrics = new Metrics();
+        AsyncDynamodbClient client = new AsyncDynamodbClient(ddb, 4, metrics);
+        NodeBatchReader reader = new NodeBatchReader(client, TABLE_NAME, 8, metrics);
+        client.close();
+
+        // Twice: the first failure must not leave a stale in-flight fetch for the second to wait on.
+        for (int attempt = 0; attempt < 2; attempt++) {
+            CompletableFuture<Map<String, Map<String, AttributeValue>>> items = reader.getItems(
+                    DATASET_ID, Collections.singletonList(proteinId(1)), EnumSet.of(NodeAttribute.PREFERRED_NAME));
+            try {
+                items.join();
+                fail("Expected the closed client to reject the read");
+            } catch (CompletionException e) {
+                assertTrue(String.valueOf(e.getCause()), e.getCause() instanceof RejectedExecutionException);
+            }
+        }
+        assertEquals(0, ddb.batchGetCalls.get());
+    }
+
+    private static <T extends InMemoryDynamoDb> T stored(T ddb) {
+        /** Stores NODE_COUNT small nodes, each linked to the next. */
+        List<PpiNetworkNode> nodes = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            nodes.add(new PpiNetworkNode.Builder()
+                    .setId(proteinId(i))
+                    .setPreferredName("P" + i)
+                    .setNeighbors(Collections.singletonList(Neighbor.create(proteinId((i + 1) % NODE_COUNT), 400)))
+                    .build());
+        }
+        new DynamodbHelper(InMemoryDynamoDb.DISCARDING_LOGGER, ddb).putItems(nodes, DATASET_ID);
+        return ddb;
+    }
+
+    private static String proteinId(int i) {
+        return String.format("9606.ENSP%08d", i);
+    }
+}
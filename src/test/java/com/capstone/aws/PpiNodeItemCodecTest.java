@@ -0,0 +1,106 @@
+/*
+ * PpiNodeItemCodecTest
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.aws;
+
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.PpiNetworkNode.Neighbor;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A hub whose neighbor list is several times the DynamoDB item limit must be cut into items that each fit, and read
+ * back from its shard items in whatever order a Query or BatchGetItem returns them.
+ */
+public class PpiNodeItemCodecTest {
+    private static final String DATASET_ID = "test";
+    private static final int MAX_ITEM_BYTES = 400 * 1024;
+    private static final int HUB_DEGREE = 400_000;
+
+    @Test
+    public void hubRoundTripsThroughShardsInAnyOrder() {
+        List<Neighbor> neighbors = new ArrayList<>();
+        for (int i = 1; i <= HUB_DEGREE; i++) {
+            neighbors.add(Neighbor.create(proteinId(i), 150 + i % 851));
+        }
+        PpiNetworkNode hub = new PpiNetworkNode.Builder()
+                .setId(proteinId(0))
+                .setPreferredName("HUB")
+                .setProteinSize(393)
+                .setAnnotation("Hub protein")
+                .setNeighbors(neighbors)
+                .build();
+        PpiNodeItemCodec codec = PpiNodeItemCodec.forNodes(Collections.singletonList(hub));
+
+        List<Map<String, AttributeValue>> items = codec.toItems(hub, DATASET_ID);
+        assertTrue("payload was not sharded: " + items.size() + " items", items.size() > 3);
+        assertTrue(codec.encodeNeighbors(hub.getNeighbors()).length > 350 * 1024);
+        for (Map<String, AttributeValue> item : items) {
+            assertTrue(item.get(PpiNodeItemCodec.ID_ATTRIBUTE).getS() + " is " + itemBytes(item) + " bytes",
+                    itemBytes(item) < MAX_ITEM_BYTES);
+        }
+
+        Map<String, AttributeValue> baseItem = items.get(0);
+        List<Map<String, AttributeValue>> shardItems = new ArrayList<>(items.subList(1, items.size()));
+        Collections.shuffle(shardItems, new Random(17));
+        Collections.reverse(shardItems.subList(0, 2)); // Never the stored order, whatever the shuffle gives.
+        PpiNetworkNode decoded = codec.fromItems(baseItem, shardItems);
+
+        assertEquals(hub.getId(), decoded.getId());
+        assertEquals(hub.getPreferredName(), decoded.getPreferredName());
+        assertEquals(hub.getProteinSize(), decoded.getProteinSize());
+        assertEquals(hub.getAnnotation(), decoded.getAnnotation());
+        assertEquals(hub.getNeighbors(), decoded.getNeighbors());
+    }
+
+    @Test
+    public void dictionaryRoundTripsThroughShards() {
+        List<PpiNetworkNode> nodes = new ArrayList<>();
+        for (int i = 0; i < HUB_DEGREE; i++) {
+            nodes.add(new PpiNetworkNode.Builder().setId(proteinId(i * 7919L)).build());
+        }
+        PpiNodeItemCodec codec = PpiNodeItemCodec.forNodes(nodes);
+
+        List<Map<String, AttributeValue>> items = codec.toDictionaryItems(DATASET_ID);
+        assertTrue("dictionary was not sharded: " + items.size() + " items", items.size() > 2);
+        for (Map<String, AttributeValue> item : items) {
+            assertTrue(itemBytes(item) < MAX_ITEM_BYTES);
+        }
+        List<Map<String, AttributeValue>> shardItems = new ArrayList<>(items.subList(1, items.size()));
+        Collections.reverse(shardItems);
+        PpiNodeItemCodec decoded = PpiNodeItemCodec.fromDictionaryItems(items.get(0), shardItems);
+
+        assertEquals(codec.getIds(), decoded.getIds());
+    }
+
+    private static int itemBytes(Map<String, AttributeValue> item) {
+        /** Item size as DynamoDB counts it: attribute names plus values. */
+        int bytes = 0;
+        for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+            AttributeValue value = attribute.getValue();
+            bytes += attribute.getKey().length() + (value.getB() != null ? value.getB().remaining()
+                    : value.getS() != null ? value.getS().getBytes(StandardCharsets.UTF_8).length
+                    : value.getN().length());
+        }
+        return bytes;
+    }
+
+    private static String proteinId(long i) {
+        return String.format("9606.ENSP%011d", i);
+    }
+}
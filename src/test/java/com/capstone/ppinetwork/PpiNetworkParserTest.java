@@ -0,0 +1,174 @@
+/*
+ * PpiNetworkParserTest
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import com.capstone.ppinetwork.PpiNetworkNode.Neighbor;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Every parser mode, and parseCompactNetwork, over one small links/info fixture must give the same nodes, with and
+ * without edge filters. ties.txt holds one protein with several equally scored edges, split by another protein's line.
+ */
+public class PpiNetworkParserTest {
+    private static final URL LINKS = PpiNetworkParserTest.class.getResource("links.txt");
+    private static final URL INFO = PpiNetworkParserTest.class.getResource("info.txt");
+    private static final URL TIES = PpiNetworkParserTest.class.getResource("ties.txt");
+
+    private static final List<ParseOptions> FILTERS = Arrays.asList(
+            ParseOptions.NONE,
+            new ParseOptions.Builder().setMinScore(610).build(),
+            new ParseOptions.Builder().setTopK(1).build(),
+            new ParseOptions.Builder().setAllowlist(ids(1, 2, 4)).build(),
+            new ParseOptions.Builder().setMinScore(300).setTopK(2).setAllowlist(ids(1, 3, 4, 5)).build());
+
+    @Test
+    public void byteTokenizerMatchesCsv() throws IOException {
+        List<PpiNetworkNode> csv = parse(PpiNetworkParser.Mode.CSV);
+        List<PpiNetworkNode> tokenized = parse(PpiNetworkParser.Mode.BYTE_TOKENIZER);
+
+        assertEquals(5, csv.size());
+        assertNodesEqual(csv, tokenized);
+    }
+
+    @Test
+    public void everyModeAndCompactNetworkMatchCsv() throws IOException {
+        for (ParseOptions options : FILTERS) {
+            List<PpiNetworkNode> csv = parse(PpiNetworkParser.Mode.CSV, LINKS, options);
+            for (PpiNetworkParser.Mode mode : PpiNetworkParser.Mode.values()) {
+                assertNodesEqual(csv, parse(mode, LINKS, options));
+                assertNodesEqual(csv, parseCompact(mode, LINKS, options));
+            }
+        }
+    }
+
+    @Test
+    public void accessoryDataIsAttached() throws IOException {
+        PpiNetworkNode node = parse(PpiNetworkParser.Mode.BYTE_TOKENIZER).get(0);
+
+        assertEquals("9606.ENSP0001", node.getId());
+        assertEquals("TP53", node.getPreferredName());
+        assertEquals(Integer.valueOf(393), node.getProteinSize());
+        assertEquals("Cellular tumor antigen p53; Acts as a tumor suppressor.", node.getAnnotation());
+        assertEquals(2, node.getNeighbors().size());
+    }
+
+    @Test
+    public void minScoreKeepsEdgesAtTheThreshold() throws IOException {
+        List<PpiNetworkNode> nodes = parse(PpiNetworkParser.Mode.CSV, LINKS,
+                new ParseOptions.Builder().setMinScore(610).build());
+
+        // Every edge of ENSP0003 scores below 610, so it is left without edges and dropped.
+        assertEquals(Arrays.asList(id(1), id(2), id(4), id(5)), idsOf(nodes));
+        assertEquals(Arrays.asList(Neighbor.create(id(2), 900)), nodes.get(0).getNeighbors());
+        assertEquals(Arrays.asList(Neighbor.create(id(4), 999), Neighbor.create(id(5), 610)),
+                nodes.get(2).getNeighbors());
+    }
+
+    @Test
+    public void topKKeepsTheFirstOfTiedEdgesInFileOrder() throws IOException {
+        for (PpiNetworkParser.Mode mode : PpiNetworkParser.Mode.values()) {
+            List<PpiNetworkNode> nodes = parse(mode, TIES, new ParseOptions.Builder().setTopK(2).build());
+
+            assertEquals(Arrays.asList(id(10), id(11), id(12)), idsOf(nodes));
+            assertEquals(mode.name(), Arrays.asList(Neighbor.create(id(11), 500), Neighbor.create(id(12), 700)),
+                    nodes.get(0).getNeighbors());
+            assertEquals(Arrays.asList(Neighbor.create(id(10), 500)), nodes.get(1).getNeighbors());
+
+            List<PpiNetworkNode> top = parse(mode, TIES, new ParseOptions.Builder().setTopK(1).build());
+            assertEquals(Arrays.asList(Neighbor.create(id(12), 700)), top.get(0).getNeighbors());
+        }
+    }
+
+    @Test
+    public void allowlistDropsEdgesToOtherProteins() throws IOException {
+        ParseOptions options = new ParseOptions.Builder().setAllowlist(ids(1, 2, 4)).build();
+        List<PpiNetworkNode> nodes = parse(PpiNetworkParser.Mode.CSV, LINKS, options);
+
+        assertEquals(Arrays.asList(id(1), id(2), id(4)), idsOf(nodes));
+        assertEquals(Arrays.asList(Neighbor.create(id(2), 900)), nodes.get(0).getNeighbors());
+        assertEquals(Arrays.asList(Neighbor.create(id(4), 999)), nodes.get(2).getNeighbors());
+
+        // The compact network still indexes proteins left without edges, but without their accessory data.
+        CompactPpiNetwork network = new PpiNetworkParser(PpiNetworkParser.Mode.BYTE_TOKENIZER)
+                .parseCompactNetwork(LINKS, Optional.of(INFO), options);
+        int dropped = network.indexOf(id(3));
+        assertTrue(dropped >= 0);
+        assertEquals(0, network.degree(dropped));
+        assertFalse(network.hasAccessoryData(dropped));
+        assertEquals(nodes.size(), network.toNodes().size());
+    }
+
+    private static List<PpiNetworkNode> parse(PpiNetworkParser.Mode mode) throws IOException {
+        return parse(mode, LINKS, ParseOptions.NONE);
+    }
+
+    private static List<PpiNetworkNode> parse(PpiNetworkParser.Mode mode, URL links, ParseOptions options)
+            throws IOException {
+        // Node order follows a hash map, so compare the nodes in id order.
+        List<PpiNetworkNode> nodes = new ArrayList<>(
+                new PpiNetworkParser(mode, 2).parseProteinData(links, Optional.of(INFO), options));
+        nodes.sort(Comparator.comparing(PpiNetworkNode::getId));
+        return nodes;
+    }
+
+    private static List<PpiNetworkNode> parseCompact(PpiNetworkParser.Mode mode, URL links, ParseOptions options)
+            throws IOException {
+        // Compact networks list their nodes in id order already.
+        return new PpiNetworkParser(mode, 2).parseCompactNetwork(links, Optional.of(INFO), options).toNodes();
+    }
+
+    private static void assertNodesEqual(List<PpiNetworkNode> expected, List<PpiNetworkNode> actual) {
+        assertEquals(idsOf(expected), idsOf(actual));
+        for (int i = 0; i < expected.size(); i++) {
+            assertNodeEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    private static void assertNodeEquals(PpiNetworkNode expected, PpiNetworkNode actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getPreferredName(), actual.getPreferredName());
+        assertEquals(expected.getAnnotation(), actual.getAnnotation());
+        assertEquals(expected.getProteinSize(), actual.getProteinSize());
+        assertEquals(expected.getId(), expected.getNeighbors(), actual.getNeighbors());
+    }
+
+    private static List<String> idsOf(List<PpiNetworkNode> nodes) {
+        List<String> ids = new ArrayList<>();
+        for (PpiNetworkNode node : nodes) {
+            ids.add(node.getId());
+        }
+        return ids;
+    }
+
+    private static Set<String> ids(int... proteins) {
+        Set<String> ids = new HashSet<>();
+        for (int protein : proteins) {
+            ids.add(id(protein));
+        }
+        return ids;
+    }
+
+    private static String id(int protein) {
+        return String.format("9606.ENSP%04d", protein);
+    }
+}
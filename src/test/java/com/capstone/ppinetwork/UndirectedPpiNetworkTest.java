@@ -0,0 +1,114 @@
+/*
+ * UndirectedPpiNetworkTest
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * UndirectedPpiNetwork must answer degree, neighbor and score queries like the directed network it was built from,
+ * with every neighbor list in the same order.
+ * The fixture has three symmetric pairs, one asymmetric edge, one duplicate line, a pair whose two directions disagree
+ * on the score and one self-loop.
+ */
+public class UndirectedPpiNetworkTest {
+    private static CompactPpiNetwork directed;
+    private static UndirectedPpiNetwork undirected;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        CompactPpiNetwork.Builder builder = new CompactPpiNetwork.Builder(new ProteinIdDictionary());
+        try (InputStream links = UndirectedPpiNetworkTest.class.getResourceAsStream("links.txt")) {
+            new LinksFileTokenizer(builder.getDictionary()).tokenize(links, builder);
+        }
+        directed = builder.build();
+        undirected = UndirectedPpiNetwork.fromDirected(directed);
+    }
+
+    @Test
+    public void queriesMatchDirectedNetwork() {
+        assertEquals(directed.nodeCount(), undirected.nodeCount());
+        assertEquals(directed.edgeCount(), undirected.edgeCount());
+        for (int node = 0; node < directed.nodeCount(); node++) {
+            assertEquals(directed.getId(node), undirected.getId(node));
+            assertEquals(directed.getId(node), directed.degree(node), undirected.degree(node));
+            assertArrayEquals(directed.getId(node), neighborPairs(directed, node), neighborPairs(undirected, node));
+        }
+    }
+
+    @Test
+    public void nodesMatchDirectedNetwork() {
+        assertNodesEqual(directed, undirected);
+    }
+
+    @Test
+    public void rowsOutOfIdOrderKeepTheirOrder() {
+        // Canonical edges, a self-loop, a duplicate, an asymmetric edge and a score mismatch, interleaved.
+        CompactPpiNetwork.Builder builder = new CompactPpiNetwork.Builder(new ProteinIdDictionary());
+        edge(builder, "C", "D", 400);
+        edge(builder, "C", "C", 999);
+        edge(builder, "C", "A", 500);
+        edge(builder, "C", "E", 300);
+        edge(builder, "C", "B", 700);
+        edge(builder, "C", "A", 500);
+        edge(builder, "A", "C", 500);
+        edge(builder, "B", "C", 650);
+        edge(builder, "D", "C", 400);
+        CompactPpiNetwork unsorted = builder.build();
+
+        UndirectedPpiNetwork deduplicated = UndirectedPpiNetwork.fromDirected(unsorted);
+
+        assertEquals(2, deduplicated.canonicalEdgeCount());
+        assertNodesEqual(unsorted, deduplicated);
+    }
+
+    @Test
+    public void dedupStatsCountEveryDirectedEdge() {
+        UndirectedPpiNetwork.DedupStats stats = undirected.getDedupStats();
+
+        assertEquals(3, stats.getSymmetricPairs());
+        assertEquals(1, stats.getAsymmetricEdges());
+        assertEquals(2, stats.getScoreMismatchEdges());
+        assertEquals(1, stats.getDuplicateEdges());
+        assertEquals(1, stats.getSelfLoops());
+        assertEquals(3, undirected.canonicalEdgeCount());
+        assertEquals(directed.edgeCount(), 2 * stats.getSymmetricPairs() + stats.getAsymmetricEdges()
+                + stats.getScoreMismatchEdges() + stats.getDuplicateEdges() + stats.getSelfLoops());
+    }
+
+    private static void assertNodesEqual(CompactPpiNetwork expected, CompactPpiNetwork actual) {
+        List<PpiNetworkNode> expectedNodes = expected.toNodes();
+        List<PpiNetworkNode> actualNodes = actual.toNodes();
+        assertEquals(expectedNodes.size(), actualNodes.size());
+        for (int i = 0; i < expectedNodes.size(); i++) {
+            assertEquals(expectedNodes.get(i).getId(), actualNodes.get(i).getId());
+            assertEquals(expectedNodes.get(i).getId(), expectedNodes.get(i).getNeighbors(),
+                    actualNodes.get(i).getNeighbors());
+        }
+    }
+
+    private static void edge(CompactPpiNetwork.Builder builder, String protein1, String protein2, int score) {
+        builder.accept(builder.getDictionary().intern("9606." + protein1),
+                builder.getDictionary().intern("9606." + protein2), score);
+    }
+
+    private static long[] neighborPairs(CompactPpiNetwork network, int node) {
+        long[] pairs = new long[network.degree(node)];
+        for (int position = 0; position < pairs.length; position++) {
+            pairs[position] = ((long) network.neighbor(node, position) << 32) | network.score(node, position);
+        }
+        return pairs;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * NetworkAnalyticsTest
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.analytics;
+
+import com.capstone.ppinetwork.CompactPpiNetwork;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.ProteinIdDictionary;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Metrics of a small symmetric network: triangles A-B-C and B-C-X, a tail C-D-E, a separate pair F-G and an isolated
+ * protein H. Node indices follow id order: A=0, B=1, C=2, D=3, E=4, F=5, G=6, H=7, X=8.
+ */
+public class NetworkAnalyticsTest {
+    private static final double DELTA = 1e-9;
+
+    // Several threads, so the chunked loops and the concurrent union-find really run in parallel.
+    private final NetworkAnalytics analytics = new NetworkAnalytics(network(), new ForkJoinPool(4));
+
+    @Test
+    public void componentsAreLabelledWithTheirSmallestNode() {
+        assertArrayEquals(new int[] {0, 0, 0, 0, 0, 5, 5, 7, 0}, analytics.connectedComponents());
+
+        AnalyticsReport report = analytics.computeAll();
+        assertEquals(3, report.getComponentCount());
+    }
+
+    @Test
+    public void clusteringCoefficientsCountTriangles() {
+        // B has neighbors A, C, X and two of those three pairs interact; C has four neighbors and two linked pairs.
+        double[] expected = {1.0, 2.0 / 3, 1.0 / 3, 0, 0, 0, 0, 0, 1.0};
+        assertArrayEquals(expected, analytics.clusteringCoefficients(), DELTA);
+    }
+
+    @Test
+    public void pageRankIsADistribution() {
+        double[] rank = analytics.pageRank();
+
+        assertEquals(1.0, Arrays.stream(rank).sum(), 1e-6);
+        assertEquals(rank[5], rank[6], DELTA); // F and G only point at each other.
+        for (int node = 0; node < rank.length; node++) {
+            assertTrue(rank[node] > 0);
+        }
+        // C has the most interactions; H has none and keeps only the teleport share.
+        assertEquals(2, maxIndex(rank));
+        assertEquals(7, minIndex(rank));
+    }
+
+    private static int maxIndex(double[] values) {
+        int best = 0;
+        for (int i = 1; i < values.length; i++) {
+            best = values[i] > values[best] ? i : best;
+        }
+        return best;
+    }
+
+    private static int minIndex(double[] values) {
+        int best = 0;
+        for (int i = 1; i < values.length; i++) {
+            best = values[i] < values[best] ? i : best;
+        }
+        return best;
+    }
+
+    private static CompactPpiNetwork network() {
+        CompactPpiNetwork.Builder builder = new CompactPpiNetwork.Builder(new ProteinIdDictionary());
+        edge(builder, "A", "B", 900);
+        edge(builder, "B", "C", 900);
+        edge(builder, "A", "C", 200);
+        edge(builder, "C", "D", 800);
+        edge(builder, "D", "E", 500);
+        edge(builder, "X", "B", 400);
+        edge(builder, "X", "C", 400);
+        edge(builder, "F", "G", 700);
+        builder.addAccessoryData(new PpiNetworkNode.Builder().setId("9606.H").setPreferredName("ATM"));
+        return builder.build();
+    }
+
+    private static void edge(CompactPpiNetwork.Builder builder, String protein1, String protein2, int score) {
+        int index1 = builder.getDictionary().intern("9606." + protein1);
+        int index2 = builder.getDictionary().intern("9606." + protein2);
+        builder.accept(index1, index2, score);
+        builder.accept(index2, index1, score);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * NeighborListEncodingTest
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.encoding;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/** Byte-per-score lists round scores down to the precision; exact lists keep them. */
+public class NeighborListEncodingTest {
+    private static final int[] INDICES = {7, 0, 300, 3, 100_000, 1};
+    private static final int[] SCORES = {999, 1000, 3, 4, 0, 151};
+
+    @Test
+    public void scoresAreRoundedDown() {
+        // Sorted by index; a stored score is never above the real one.
+        assertEquals(Arrays.asList("0:1000", "1:148", "3:4", "7:996", "300:0", "100000:0"),
+                read(encode(4), 4));
+        assertEquals(Arrays.asList("0:1000", "1:150", "3:0", "7:990", "300:0", "100000:0"),
+                read(encode(10), 10));
+        assertEquals(0, NeighborListEncoding.quantize(3, 4));
+        assertEquals(249, NeighborListEncoding.quantize(999, 4));
+        assertEquals(250, NeighborListEncoding.quantize(1000, 4));
+    }
+
+    @Test
+    public void exactScoresAreKept() {
+        ByteWriter output = new ByteWriter();
+        NeighborListEncoding.writeExact(output, INDICES, SCORES, INDICES.length);
+        ByteReader input = new ByteReader(output.toByteArray());
+        List<String> neighbors = new ArrayList<>();
+
+        int count = NeighborListEncoding.readExact(input, (index, score) -> neighbors.add(index + ":" + score));
+
+        assertEquals(INDICES.length, count);
+        assertEquals(0, input.remaining());
+        assertEquals(Arrays.asList("0:1000", "1:151", "3:4", "7:999", "300:3", "100000:0"), neighbors);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void precisionBelowFourIsRejected() {
+        NeighborListEncoding.checkPrecision(NeighborListEncoding.MIN_SCORE_PRECISION - 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void scoreOverAByteIsRejected() {
+        NeighborListEncoding.quantize(NeighborListEncoding.MAX_SCORE, 3);
+    }
+
+    private static byte[] encode(int precision) {
+        ByteWriter output = new ByteWriter();
+        NeighborListEncoding.write(output, INDICES, SCORES, INDICES.length, precision);
+        return output.toByteArray();
+    }
+
+    private static List<String> read(byte[] encoded, int precision) {
+        List<String> neighbors = new ArrayList<>();
+        ByteReader input = new ByteReader(encoded);
+        NeighborListEncoding.read(input, precision, (index, score) -> neighbors.add(index + ":" + score));
+        assertEquals(0, input.remaining());
+        return neighbors;
+    }
+}
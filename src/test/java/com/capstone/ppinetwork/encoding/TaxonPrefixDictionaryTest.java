@@ -0,0 +1,62 @@
+/*
+ * TaxonPrefixDictionaryTest
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.encoding;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/** Ids must come back exactly and in order, whatever digits they end with. */
+public class TaxonPrefixDictionaryTest {
+
+    @Test
+    public void zeroPaddingIsKept() {
+        assertRoundTrips(Arrays.asList(
+                "1280.SAXN108_0001", "1280.SAXN108_00001", "1280.SAXN108_1", "1280.SAXN108_0000",
+                "1280.SAXN108_0", "1280.SAXN108_", "9606.ENSP00000269305", "9606.ENSP00000000001"));
+    }
+
+    @Test
+    public void digitRunsLongerThanALongAreSplit() {
+        assertRoundTrips(Arrays.asList(
+                "9606.X999999999999999999", // 18 digits, the longest run kept whole.
+                "9606.X1234567890123456789", // 19 digits.
+                "9606.X0000000000000000000000000001", // 28 digits, mostly zero padding.
+                "12345678901234567890123456789", // Digits only.
+                "9606.X99999999999999999999999999999999"));
+    }
+
+    @Test
+    public void idsWithoutDigitsAndSharedPrefixes() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(String.format("1280.SAXN108_%04d", i));
+        }
+        ids.add("9606.TP53");
+        ids.add("");
+        byte[] encoded = assertRoundTrips(ids);
+        // One entry for the shared prefix: far less than a byte per id character.
+        assertTrue(encoded.length + " bytes", encoded.length < 4 * ids.size());
+    }
+
+    private static byte[] assertRoundTrips(List<String> ids) {
+        ByteWriter output = new ByteWriter();
+        TaxonPrefixDictionary.write(ids, output);
+        byte[] encoded = output.toByteArray();
+        ByteReader input = new ByteReader(encoded);
+
+        assertEquals(ids, TaxonPrefixDictionary.read(input));
+        assertEquals(0, input.remaining());
+        return encoded;
+    }
+}
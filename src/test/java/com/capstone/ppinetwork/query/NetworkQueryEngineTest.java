@@ -0,0 +1,109 @@
+/*
+ * NetworkQueryEngineTest
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.query;
+
+import com.capstone.ppinetwork.CompactPpiNetwork;
+import com.capstone.ppinetwork.PpiNetworkNode;
+import com.capstone.ppinetwork.PpiNetworkNode.Neighbor;
+import com.capstone.ppinetwork.ProteinIdDictionary;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Queries over a small symmetric network: triangles A-B-C and B-C-X, a tail C-D-E, a separate pair F-G and an
+ * isolated protein H.
+ */
+public class NetworkQueryEngineTest {
+    private static final double DELTA = 1e-9;
+
+    private final NetworkQueryEngine engine = new NetworkQueryEngine(network());
+
+    @Test
+    public void kHopStopsAtKAndSkipsWeakEdges() {
+        Neighborhood all = engine.kHop(id("A"), 2, 0);
+        // Breadth-first, in the neighbor order of each row: X is found through B before D is found through C.
+        assertEquals(Arrays.asList(id("A"), id("B"), id("C"), id("X"), id("D")), all.getProteinIds());
+        assertEquals(Arrays.asList(0, 1, 1, 2, 2), Arrays.asList(
+                all.getHops(0), all.getHops(1), all.getHops(2), all.getHops(3), all.getHops(4)));
+
+        // Above 600, A only reaches C through B, and D one hop later.
+        Neighborhood strong = engine.kHop(id("A"), 3, 600);
+        assertEquals(Arrays.asList(id("A"), id("B"), id("C"), id("D")), strong.getProteinIds());
+        assertEquals(Arrays.asList(0, 1, 2, 3), Arrays.asList(
+                strong.getHops(0), strong.getHops(1), strong.getHops(2), strong.getHops(3)));
+    }
+
+    @Test
+    public void shortestPathIsTheMostConfidentOne() {
+        WeightedPath path = engine.shortestPath(id("A"), id("D"), 0).get();
+
+        // A-B-C-D (0.9 * 0.9 * 0.8) beats the shorter A-C-D (0.2 * 0.8).
+        assertEquals(Arrays.asList(id("A"), id("B"), id("C"), id("D")), path.getProteinIds());
+        assertEquals(-2 * Math.log(0.9) - Math.log(0.8), path.getWeight(), DELTA);
+        assertEquals(0.648, path.getConfidence(), DELTA);
+        assertEquals(3, path.getHops());
+
+        assertFalse(engine.shortestPath(id("A"), id("F"), 0).isPresent());
+        assertFalse(engine.shortestPath(id("A"), id("D"), 850).isPresent());
+    }
+
+    @Test
+    public void jaccardOfDisjointAndIdenticalNeighborSets() {
+        assertEquals(1.0, engine.jaccard(id("A"), id("X"), 0), DELTA);
+        assertEquals(0.0, engine.jaccard(id("A"), id("E"), 0), DELTA);
+        assertEquals(0.0, engine.jaccard(id("H"), id("H"), 0), DELTA);
+        // X's edges score 400, so above 500 it has no neighbors left to share.
+        assertEquals(0.0, engine.jaccard(id("A"), id("X"), 500), DELTA);
+        // N(B) = {A, C, X} and N(C) = {A, B, D, X} share A and X.
+        assertEquals(2.0 / 5, engine.jaccard(id("B"), id("C"), 0), DELTA);
+    }
+
+    @Test
+    public void inducedSubgraphKeepsOnlyEdgesBetweenSelectedProteins() {
+        CompactPpiNetwork subgraph = engine.inducedSubgraph(Arrays.asList(id("A"), id("B"), id("C"), id("D")));
+
+        assertEquals(4, subgraph.nodeCount());
+        assertEquals(8, subgraph.edgeCount());
+        assertEquals(Arrays.asList(Neighbor.create(id("C"), 800)), subgraph.getNode(id("D")).getNeighbors());
+        assertEquals("TP53", subgraph.getNode(id("A")).getPreferredName());
+        assertEquals(0, engine.inducedSubgraph(Collections.singletonList(id("H"))).edgeCount());
+    }
+
+    static CompactPpiNetwork network() {
+        ProteinIdDictionary dictionary = new ProteinIdDictionary();
+        CompactPpiNetwork.Builder builder = new CompactPpiNetwork.Builder(dictionary);
+        edge(builder, "A", "B", 900);
+        edge(builder, "B", "C", 900);
+        edge(builder, "A", "C", 200);
+        edge(builder, "C", "D", 800);
+        edge(builder, "D", "E", 500);
+        edge(builder, "X", "B", 400);
+        edge(builder, "X", "C", 400);
+        edge(builder, "F", "G", 700);
+        builder.addAccessoryData(new PpiNetworkNode.Builder().setId(id("A")).setPreferredName("TP53"));
+        builder.addAccessoryData(new PpiNetworkNode.Builder().setId(id("H")).setPreferredName("ATM"));
+        return builder.build();
+    }
+
+    private static void edge(CompactPpiNetwork.Builder builder, String protein1, String protein2, int score) {
+        int index1 = builder.getDictionary().intern(id(protein1));
+        int index2 = builder.getDictionary().intern(id(protein2));
+        builder.accept(index1, index2, score);
+        builder.accept(index2, index1, score);
+    }
+
+    static String id(String protein) {
+        return "9606." + protein;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * FastaIndexTest
+ * Version 1.0
+ * October 17,2026
+ * @author: Chika Jinanwa
+ */
+
+package com.capstone.ppinetwork.sequence;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/** Offsets must hold for Windows line endings and a missing final newline; ragged records must be rejected. */
+public class FastaIndexTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void crlfLineEndingsCountTowardsTheLineWidth() throws IOException {
+        Path fasta = fasta(">9606.P1 first protein\r\nMKVLA\r\nAG\r\n>9606.P2\r\nMEE\r\n");
+        FastaIndex.Entry entry = FastaIndex.build(fasta).get("9606.P1").get();
+
+        assertEquals(7, entry.getLength());
+        assertEquals(24, entry.getOffset());
+        assertEquals(5, entry.getLineBases());
+        assertEquals(7, entry.getLineWidth());
+
+        ProteinSequenceIndex index = ProteinSequenceIndex.open(fasta, folder.getRoot().toPath().resolve("crlf.fai"));
+        assertEquals(Optional.of("MKVLAAG"), index.getSequence("9606.P1"));
+        assertEquals(Optional.of("AAG"), index.getSubsequence("9606.P1", 4, 7));
+        assertEquals(Optional.of("MEE"), index.getSequence("9606.P2"));
+    }
+
+    @Test
+    public void lastLineMayLackANewline() throws IOException {
+        Path shortLast = fasta(">9606.P1\nMKVLA\nAG");
+        Path fullLast = fasta(">9606.P1\nMKVLA\nAGQRS");
+
+        ProteinSequenceIndex index = ProteinSequenceIndex.open(shortLast, folder.getRoot().toPath().resolve("1.fai"));
+        assertEquals(Optional.of("MKVLAAG"), index.getSequence("9606.P1"));
+        index = ProteinSequenceIndex.open(fullLast, folder.getRoot().toPath().resolve("2.fai"));
+        assertEquals(Optional.of("MKVLAAGQRS"), index.getSequence("9606.P1"));
+        assertEquals(Optional.of("AGQ"), index.getSubsequence("9606.P1", 5, 8));
+    }
+
+    @Test
+    public void indexRoundTripsThroughAFaiFile() throws IOException {
+        Path fasta = fasta(">9606.P1\nMKVLA\nAG\n\n>9606.P2 second\nMEE\n");
+        Path indexPath = folder.getRoot().toPath().resolve("index.fai");
+
+        FastaIndex built = FastaIndex.loadOrBuild(fasta, indexPath);
+        FastaIndex read = FastaIndex.read(indexPath);
+
+        assertEquals(2, read.size());
+        assertEquals(built.getEntries(), read.getEntries());
+    }
+
+    @Test
+    public void inconsistentLineWidthsAreRejected() throws IOException {
+        assertRejected(">9606.P1\nMKVLA\nAGQRST\n");        // A line longer than the first.
+        assertRejected(">9606.P1\nMKVLA\nAG\nMKVLA\n");      // A short line before the last.
+        assertRejected(">9606.P1\nMKVLA\r\nAGQRS\nMK\n");   // Same residues, different line breaks.
+        assertRejected(">9606.P1\nMKVLA\n\nAGQRS\n");        // A blank line inside the sequence.
+    }
+
+    private void assertRejected(String contents) throws IOException {
+        Path fasta = fasta(contents);
+        try {
+            FastaIndex.build(fasta);
+            fail("Expected an IOException for " + contents.replace("\n", "\\n").replace("\r", "\\r"));
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Inconsistent line lengths"));
+        }
+    }
+
+    private Path fasta(String contents) throws IOException {
+        Path fasta = folder.newFile().toPath();
+        Files.write(fasta, contents.getBytes(StandardCharsets.US_ASCII));
+        return fasta;
+    }
+}